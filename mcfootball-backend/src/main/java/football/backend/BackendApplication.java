@@ -1,15 +1,23 @@
 package football.backend;
 
 import football.backend.config.ApiFetchConfig;
+import football.backend.service.RefreshService;
+import football.backend.validation.ModelValidator;
+import football.generator.FileSystemOutputSink;
+import football.generator.SnapshotCache;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 
 /**
  * MCFootball Backend — Spring Boot entry point.
  * <p>
  * Provides REST endpoints to fetch match data, validate with CoCos,
  * and write .fb model files for the mcfootball-generator to consume.
+ * <p>
+ * The {@link SnapshotCache} of validated models lives next to them in
+ * models/generated/, so the generator can load a written model from it.
  */
 @SpringBootApplication
 @EnableConfigurationProperties(ApiFetchConfig.class)
@@ -18,4 +26,10 @@ public class BackendApplication {
     public static void main(String[] args) {
         SpringApplication.run(BackendApplication.class, args);
     }
+
+    @Bean
+    public SnapshotCache snapshotCache() {
+        return new SnapshotCache(new FileSystemOutputSink(
+                RefreshService.getModelsGeneratedDir().resolve(ModelValidator.SNAPSHOT_CACHE_DIR)));
+    }
 }
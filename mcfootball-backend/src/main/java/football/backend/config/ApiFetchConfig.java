@@ -2,7 +2,9 @@ package football.backend.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -10,12 +12,18 @@ import java.util.List;
  * <p>
  * Bound from {@code mcfootball.api.*} in application.yml.
  * Each country has a list of leagues; each league has a vendor-specific ID.
+ * Leagues are fetched concurrently, at most {@code max-in-flight} at a
+ * time; a league still running after {@code league-timeout}, or not done
+ * by {@code refresh-deadline} after the refresh started, counts as failed.
  *
  * <pre>
  * mcfootball:
  *   api:
  *     season: "2025"
  *     min-success-rate: 0.5
+ *     max-in-flight: 4
+ *     league-timeout: 10s
+ *     refresh-deadline: 30s
  *     countries:
  *       - name: Germany
  *         code: DE
@@ -30,17 +38,29 @@ public class ApiFetchConfig {
 
     private final String season;
     private final double minSuccessRate;
+    private final int maxInFlight;
+    private final Duration leagueTimeout;
+    private final Duration refreshDeadline;
     private final List<CountrySpec> countries;
 
     public ApiFetchConfig(String season, double minSuccessRate,
+                          @DefaultValue("4") int maxInFlight,
+                          @DefaultValue("10s") Duration leagueTimeout,
+                          @DefaultValue("30s") Duration refreshDeadline,
                           List<CountrySpec> countries) {
         this.season = season;
         this.minSuccessRate = minSuccessRate;
+        this.maxInFlight = maxInFlight;
+        this.leagueTimeout = leagueTimeout;
+        this.refreshDeadline = refreshDeadline;
         this.countries = countries;
     }
 
     public String getSeason()           { return season; }
     public double getMinSuccessRate()   { return minSuccessRate; }
+    public int getMaxInFlight()         { return maxInFlight; }
+    public Duration getLeagueTimeout()  { return leagueTimeout; }
+    public Duration getRefreshDeadline() { return refreshDeadline; }
     public List<CountrySpec> getCountries() { return countries; }
 
     /**
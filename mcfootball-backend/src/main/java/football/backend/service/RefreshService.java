@@ -20,12 +20,25 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Orchestrates data fetching and .fb model file generation.
  * <p>
  * Production pipeline (POST /refresh/all):
- *   fetch from API → normalize → validate with CoCos → write AllEurope.fb
+ *   fetch from API (leagues concurrently) → normalize → validate with CoCos
+ *   → write AllEurope.fb
  * <p>
  * Debug path (POST /refresh/all-debug):
  *   uses hard-coded data, writes per-country + AllEurope.fb
@@ -62,7 +75,8 @@ public class RefreshService {
 
     /**
      * Full production pipeline:
-     * 1. Fetch fixtures for each configured country/league via ApiClient
+     * 1. Fetch fixtures for each configured country/league via ApiClient,
+     *    concurrently and within the configured timeouts
      * 2. Normalize API fixtures into domain matches
      * 3. Build Countries, generate .fb string
      * 4. Validate with MontiCore parser + CoCos
@@ -128,7 +142,8 @@ public class RefreshService {
 
         // ── Step 2: Validate with CoCos ──────────────────────────────
         String modelContent = modelWriter.toAllEuropeString(countries);
-        ValidationResult vr = validator.validate(modelContent);
+        ValidationResult vr = validator.validate(
+                FootballSiteModelWriter.ALL_EUROPE_FILE, modelContent);
 
         if (!vr.isValid()) {
             return RefreshResult.builder()
@@ -217,35 +232,141 @@ public class RefreshService {
     /**
      * Fetch fixtures for each configured country/league.
      * Errors per league are caught and accumulated, not propagated.
+     * <p>
+     * Leagues are fetched concurrently, at most {@code max-in-flight} at a
+     * time, so a refresh takes about as long as its slowest league rather
+     * than the sum of all. A league still running {@code league-timeout}
+     * after it started, or not fetched when {@code refresh-deadline} has
+     * passed, is cancelled and counts as failed, like one whose fetch threw
+     * an {@link ApiException}. Countries, leagues and errors keep the
+     * configured order.
      *
      * @param apiErrors mutable list to collect error messages
      * @return countries with whatever data was successfully fetched
      */
     private List<Country> fetchAllCountries(List<String> apiErrors) {
-        List<Country> result = new ArrayList<>();
-
-        for (ApiFetchConfig.CountrySpec cs : config.getCountries()) {
-            List<League> leagues = new ArrayList<>();
-
-            for (ApiFetchConfig.LeagueSpec ls : cs.getLeagues()) {
-                try {
-                    List<ApiFixture> fixtures = apiClient.fetchFixtures(
-                            cs.getCode(), ls.getId(), config.getSeason());
-                    List<Match> matches = normalizer.normalize(fixtures);
-                    leagues.add(new League(ls.getName(), config.getSeason(), matches));
-                } catch (ApiException e) {
-                    apiErrors.add(cs.getName() + "/" + ls.getName()
-                            + ": " + e.getMessage());
-                    // Add league with empty matches so it's counted as failed
-                    leagues.add(new League(ls.getName(), config.getSeason(),
-                            Collections.emptyList()));
+        long deadline = System.nanoTime() + config.getRefreshDeadline().toNanos();
+        int leagueCount = config.getCountries().stream()
+                .mapToInt(c -> c.getLeagues().size())
+                .sum();
+        int threads = Math.max(1, Math.min(config.getMaxInFlight(), leagueCount));
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                daemonThreads("league-fetch-"));
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+                daemonThreads("league-fetch-timeout-"));
+        try {
+            List<LeagueFetch> fetches = new ArrayList<>(leagueCount);
+            for (ApiFetchConfig.CountrySpec cs : config.getCountries()) {
+                for (ApiFetchConfig.LeagueSpec ls : cs.getLeagues()) {
+                    LeagueFetch fetch = new LeagueFetch(cs, ls, timer);
+                    fetches.add(fetch);
+                    pool.execute(fetch);
                 }
             }
 
-            result.add(new Country(cs.getName(), leagues));
+            List<Country> result = new ArrayList<>();
+            int next = 0;
+            for (ApiFetchConfig.CountrySpec cs : config.getCountries()) {
+                List<League> leagues = new ArrayList<>();
+
+                for (ApiFetchConfig.LeagueSpec ls : cs.getLeagues()) {
+                    try {
+                        List<Match> matches = await(fetches.get(next++), deadline);
+                        leagues.add(new League(ls.getName(), config.getSeason(), matches));
+                    } catch (ApiException e) {
+                        apiErrors.add(cs.getName() + "/" + ls.getName()
+                                + ": " + e.getMessage());
+                        // Add league with empty matches so it's counted as failed
+                        leagues.add(new League(ls.getName(), config.getSeason(),
+                                Collections.emptyList()));
+                    }
+                }
+
+                result.add(new Country(cs.getName(), leagues));
+            }
+
+            return result;
+        } finally {
+            pool.shutdownNow();
+            timer.shutdownNow();
+        }
+    }
+
+    /**
+     * Wait for {@code fetch} until the refresh deadline.
+     *
+     * @param deadline {@link System#nanoTime()} at the refresh deadline
+     * @return the normalized matches of the league
+     * @throws ApiException if the fetch failed, timed out or was not done by the deadline
+     */
+    private List<Match> await(LeagueFetch fetch, long deadline) {
+        try {
+            return fetch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            fetch.cancel(true);
+            throw new ApiException("not fetched within the refresh deadline of "
+                    + config.getRefreshDeadline().toMillis() + " ms");
+        } catch (CancellationException e) {
+            throw new ApiException("timed out after "
+                    + config.getLeagueTimeout().toMillis() + " ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                // ApiException is accumulated by the caller; anything else is a bug
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ApiException(String.valueOf(cause.getMessage()), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fetch.cancel(true);
+            throw new ApiException("refresh interrupted", e);
+        }
+    }
+
+    /**
+     * Fetch and normalize the fixtures of one league. Once running, it is
+     * cancelled by {@code timer} if it is not done after the league timeout.
+     */
+    private final class LeagueFetch extends FutureTask<List<Match>> {
+
+        private final ScheduledExecutorService timer;
+
+        LeagueFetch(ApiFetchConfig.CountrySpec cs, ApiFetchConfig.LeagueSpec ls,
+                    ScheduledExecutorService timer) {
+            super(() -> normalizer.normalize(apiClient.fetchFixtures(
+                    cs.getCode(), ls.getId(), config.getSeason())));
+            this.timer = timer;
         }
 
-        return result;
+        @Override
+        public void run() {
+            ScheduledFuture<?> timeout;
+            try {
+                timeout = timer.schedule(() -> cancel(true),
+                        config.getLeagueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The refresh is over
+                cancel(false);
+                return;
+            }
+            try {
+                super.run();
+            } finally {
+                timeout.cancel(false);
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
     // ── Data builders (hard-coded fallback) ──────────────────────────
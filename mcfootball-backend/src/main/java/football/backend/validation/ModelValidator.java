@@ -2,18 +2,26 @@ package football.backend.validation;
 
 import de.monticore.ast.ASTNode;
 import de.se_rwth.commons.logging.Log;
-import de.se_rwth.commons.logging.Finding;
+import football.cocos.CoCoProfile;
+import football.cocos.CoCoResultCache;
+import football.cocos.CoCoStats;
+import football.cocos.FindingsCollector;
 import football.cocos.FootballSiteCoCos;
 import football.footballsite.FootballSiteMill;
-import football.footballsite._cocos.FootballSiteCoCoChecker;
 import football.footballsite._parser.FootballSiteParser;
 import football.footballsite._ast.ASTFootballSite;
+import football.generator.SnapshotCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Validates a .fb model string by parsing it with the generated
@@ -21,10 +29,76 @@ import java.util.stream.Collectors;
  * <p>
  * Uses in-memory parsing ({@code parse_StringFootballSite}) so no
  * temporary file I/O is needed.
+ * <p>
+ * Models validated under a file name are remembered in a
+ * {@link SnapshotCache}, the bean {@code BackendApplication} keeps in
+ * {@value #SNAPSHOT_CACHE_DIR} of models/generated/. Validating the same
+ * content again is a cache hit without parsing, and the production
+ * generator can load the written model from the same cache instead of
+ * parsing it.
+ * <p>
+ * Parser and CoCo errors of each validation go to a {@link FindingsCollector}
+ * of their own, never to MontiCore's global {@code Log}, which the
+ * backend never clears. Parsing or checking stops after
+ * {@code mcfootball.validation.max-errors} errors (default
+ * {@value #DEFAULT_MAX_ERRORS}, 0 for no limit), so neither time nor
+ * memory of a validation depends on backend uptime or on how broken a
+ * model is.
+ * <p>
+ * The CoCo check is incremental: leagues and countries found free of
+ * errors are remembered in a {@link CoCoResultCache} by a hash of their
+ * content, and the next validation skips them. After a refresh that
+ * brought new fixtures for a few leagues, only those leagues (and their
+ * countries' own CoCos) are checked again; the site and navigation CoCos
+ * always run.
+ * <p>
+ * {@code mcfootball.validation.profile} selects the CoCos to check
+ * ({@link CoCoProfile}, default strict). A model that passed only the
+ * fast profile is not stored in the snapshot cache. With
+ * {@code mcfootball.validation.rule-stats: true}, the calls and time of
+ * every CoCo are added up over all validations and printed after each.
  */
 @Component
 public class ModelValidator {
 
+    /** Snapshot cache directory, relative to models/generated/. */
+    public static final String SNAPSHOT_CACHE_DIR = ".snapshot-cache";
+
+    /** CoCo errors collected before a validation stops checking. */
+    public static final int DEFAULT_MAX_ERRORS = 100;
+
+    private final SnapshotCache snapshots;
+    private final int maxErrors;
+    private final CoCoProfile profile;
+    private final CoCoStats ruleStats;
+    private final CoCoResultCache cocoResults = new CoCoResultCache();
+
+    @Autowired
+    public ModelValidator(
+            SnapshotCache snapshots,
+            @Value("${mcfootball.validation.max-errors:" + DEFAULT_MAX_ERRORS + "}")
+            int maxErrors,
+            @Value("${mcfootball.validation.profile:strict}") String profile,
+            @Value("${mcfootball.validation.rule-stats:false}") boolean ruleStats) {
+        this(snapshots, maxErrors, CoCoProfile.of(profile), ruleStats);
+    }
+
+    /**
+     * @param maxErrors CoCo errors after which checking stops; 0 for no limit
+     * @param profile   the CoCos to check
+     * @param ruleStats add up and print the calls and time of every CoCo
+     */
+    ModelValidator(SnapshotCache snapshots, int maxErrors, CoCoProfile profile,
+                   boolean ruleStats) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("max-errors must be >= 0, was " + maxErrors);
+        }
+        this.snapshots = snapshots;
+        this.maxErrors = maxErrors;
+        this.profile = profile;
+        this.ruleStats = ruleStats ? new CoCoStats() : null;
+    }
+
     /**
      * Parse and CoCo-check the given .fb model string.
      *
@@ -32,55 +106,88 @@ public class ModelValidator {
      * @return validation result with any parser or CoCo errors
      */
     public ValidationResult validate(String modelContent) {
+        return validate(null, modelContent);
+    }
+
+    /**
+     * Like {@link #validate(String)}, but an unchanged model that was
+     * already validated under {@code modelName} is not parsed again,
+     * and a valid model is stored for the next run.
+     *
+     * @param modelName    file name the model is written to, e.g. "AllEurope.fb",
+     *                     or null to skip the snapshot cache
+     * @param modelContent the full .fb file content
+     * @return validation result with any parser or CoCo errors
+     */
+    public ValidationResult validate(String modelName, String modelContent) {
+        byte[] source = modelContent.getBytes(StandardCharsets.UTF_8);
+        if (modelName != null && snapshots.load(modelName, source).isPresent()) {
+            return ValidationResult.ok();
+        }
+
         // Ensure MontiCore doesn't kill the JVM on first error
         Log.enableFailQuick(false);
 
-        // Snapshot current error count so we detect only new errors
-        long errorsBefore = Log.getErrorCount();
-        List<Finding> findingsBefore = List.copyOf(Log.getFindings());
-
         try {
             FootballSiteParser parser = new FootballSiteParser();
-            Optional<ASTFootballSite> optAst = parser.parse_StringFootballSite(modelContent);
+            FindingsCollector syntaxErrors = new FindingsCollector(maxErrors);
+            AtomicReference<Optional<ASTFootballSite>> parsed =
+                    new AtomicReference<>(Optional.empty());
+            syntaxErrors.run(() -> {
+                try {
+                    parsed.set(parser.parse_StringFootballSite(modelContent));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            Optional<ASTFootballSite> optAst = parsed.get();
 
-            if (optAst.isEmpty()) {
-                // Parser failed — collect new findings
-                List<String> newErrors = collectNewErrors(findingsBefore);
-                if (newErrors.isEmpty()) {
-                    newErrors = List.of("Failed to parse model (unknown parser error)");
+            if (optAst.isEmpty() || parser.hasErrors()) {
+                if (!syntaxErrors.hasErrors()) {
+                    return ValidationResult.fail(1,
+                            List.of("Failed to parse model (unknown parser error)"));
                 }
-                return ValidationResult.fail(newErrors.size(), newErrors);
+                return fail(syntaxErrors);
             }
 
-            // Run CoCo checks
-            FootballSiteCoCoChecker checker = FootballSiteCoCos.createChecker();
-            checker.checkAll(optAst.get());
-
-            long errorsAfter = Log.getErrorCount();
-            int newErrorCount = (int) (errorsAfter - errorsBefore);
+            // Run CoCo checks on what changed, one country per task on the common pool
+            FindingsCollector findings = new FindingsCollector(maxErrors);
+            findings.run(() -> FootballSiteCoCos.createIncrementalChecker(
+                    cocoResults, profile, ruleStats).checkAll(optAst.get()));
+            if (ruleStats != null) {
+                System.out.print("CoCo rule times (" + profile.getName()
+                        + ", all validations):\n" + ruleStats);
+            }
 
-            if (newErrorCount > 0) {
-                List<String> newErrors = collectNewErrors(findingsBefore);
-                return ValidationResult.fail(newErrorCount, newErrors);
+            if (findings.hasErrors()) {
+                return fail(findings);
             }
 
+            // Only a model checked by all CoCos counts as validated later
+            if (modelName != null && profile == CoCoProfile.STRICT) {
+                try {
+                    snapshots.store(modelName, source, optAst.get());
+                } catch (IOException e) {
+                    // Only a missed speed-up for the next run
+                    System.err.println("WARNING: Could not store snapshot of "
+                            + modelName + ": " + e.getMessage());
+                }
+            }
             return ValidationResult.ok();
 
-        } catch (IOException e) {
+        } catch (UncheckedIOException e) {
             return ValidationResult.fail(1,
-                    List.of("Parser I/O error: " + e.getMessage()));
+                    List.of("Parser I/O error: " + e.getCause().getMessage()));
         }
     }
 
-    /**
-     * Collect error messages that appeared after the baseline snapshot.
-     */
-    private List<String> collectNewErrors(List<Finding> baseline) {
-        List<Finding> current = Log.getFindings();
-        return current.stream()
-                .filter(f -> !baseline.contains(f))
-                .filter(Finding::isError)
-                .map(Finding::getMsg)
-                .collect(Collectors.toList());
+    /** @return a failed result with the errors of {@code findings} */
+    private ValidationResult fail(FindingsCollector findings) {
+        List<String> errors = new ArrayList<>(findings.getErrors());
+        if (findings.isLimitReached()) {
+            errors.add("Validation stopped after " + maxErrors + " errors"
+                    + " (mcfootball.validation.max-errors).");
+        }
+        return ValidationResult.fail(findings.getErrorCount(), errors);
     }
 }
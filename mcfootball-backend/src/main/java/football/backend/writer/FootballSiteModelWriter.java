@@ -37,6 +37,9 @@ import java.util.List;
 @Component
 public class FootballSiteModelWriter {
 
+    /** File name of the combined production model. */
+    public static final String ALL_EUROPE_FILE = "AllEurope.fb";
+
     /**
      * Build the .fb model string for a combined AllEurope footballsite
      * without writing to disk. Used by {@link football.backend.validation.ModelValidator}
@@ -79,7 +82,7 @@ public class FootballSiteModelWriter {
     public void writeAllEuropeModel(Path outputDir, List<Country> countries) throws IOException {
         Files.createDirectories(outputDir);
 
-        Path filePath = outputDir.resolve("AllEurope.fb");
+        Path filePath = outputDir.resolve(ALL_EUROPE_FILE);
         String content = toAllEuropeString(countries);
 
         Files.write(filePath, content.getBytes(StandardCharsets.UTF_8));
@@ -1,19 +1,34 @@
 package football;
 
+import football.cocos.CoCoProfile;
+import football.cocos.CoCoStats;
 import football.cocos.FootballSiteCoCos;
 import football.footballsite._ast.ASTFootballSite;
-import football.footballsite._cocos.FootballSiteCoCoChecker;
 import football.footballsite._parser.FootballSiteParser;
+import football.generator.FileSystemOutputSink;
 import football.generator.FootballSiteGenerator;
+import football.generator.GenerationReport;
+import football.generator.LeaguePaging;
+import football.generator.RunStats;
+import football.generator.SiteMerger;
+import football.generator.SiteSnapshot;
+import football.generator.SnapshotCache;
 import de.se_rwth.commons.logging.Log;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * MCFootball CLI tool — main entry point.
@@ -26,16 +41,86 @@ import java.util.Optional;
  *   FootballSiteTool --models-dir dir/          --output outputDir
  * <p>
  * Only one of --model, --models, --models-dir may be specified.
+ * <p>
+ * Optional: --threads N renders pages on N worker threads (default 1);
+ * in dev mode, N models are also read and checked at once.
+ * Optional (production only): --incremental skips pages whose inputs
+ * did not change since the last run into the same output directory.
+ * Optional: --gzip also writes a pre-compressed .gz of every page.
+ * Optional: --league-paging N|matchday|month splits league pages into
+ * N matches per page, one page per match date or one page per month.
+ * Optional (production only): --watch keeps running and regenerates the
+ * changed pages (incrementally) whenever the model file is saved.
+ * Optional (dev only): --merge combines the countries of all valid models
+ * into one site (one index, one navigation) instead of generating each
+ * model on its own; --incremental may be used with it.
+ * Optional (production only): --snapshot-cache DIR keeps a binary
+ * snapshot of the checked model in DIR; an unchanged model is then
+ * loaded from it without parsing and CoCo checking.
+ * Optional (production only): --stream reads the model league by league
+ * and renders each league while the rest of the file is still being
+ * read, for models too large to hold as one AST.
+ * <p>
+ * A model may import shards ({@code import "Germany.fb";}); their
+ * countries are merged into the model's site. In production mode the
+ * shards are parsed on --threads threads. --stream and --watch read
+ * single-file models only.
+ * <p>
+ * Optional (production only): --validate parses and checks the model
+ * without generating; --output is then not needed.
+ * Optional (production only): --report json prints the wall and CPU time
+ * of every phase, page and byte counts, the slowest templates and pages,
+ * the calls and time of every CoCo and the peak heap as one JSON object
+ * on stdout; the progress output then goes to stderr.
+ * Optional (production only): --coco-profile strict|fast selects the
+ * CoCos to check ({@link CoCoProfile}, default strict); a model that
+ * passed only the fast profile is not stored in the snapshot cache.
+ * <p>
+ * Resident mode: --daemon keeps one JVM with a warmed parser, CoCos and
+ * template cache running; --client ARGS runs ARGS in it and prints its
+ * output and exit status, saving the JVM and MontiCore start-up of
+ * every run. --client --stop ends the daemon.
  */
 public class FootballSiteTool {
 
     public static void main(String[] args) {
+        int status = run(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Run the tool with {@code args} in this JVM, as {@link #main} does
+     * but without exiting; used by the {@link GeneratorDaemon}.
+     *
+     * @return the exit status: 0 on success, 1 on any fatal error
+     */
+    static int run(String[] args) {
+        try {
+            execute(args);
+            return 0;
+        } catch (ExitRequest e) {
+            return e.status;
+        }
+    }
+
+    private static void execute(String[] args) {
+        if (args.length > 0 && "--client".equals(args[0])) {
+            exit(runClient(Arrays.copyOfRange(args, 1, args.length)));
+            return;
+        }
+
         // Disable MontiCore's fail-quick so all CoCo errors are collected
         Log.enableFailQuick(false);
 
         if (args.length == 0) {
             printUsage();
-            System.exit(1);
+            exit(1);
+        }
+        if ("--daemon".equals(args[0])) {
+            runDaemon(Arrays.copyOfRange(args, 1, args.length));
+            return;
         }
 
         // ── Parse CLI arguments ──────────────────────────────────────
@@ -43,6 +128,19 @@ public class FootballSiteTool {
         List<String> modelPaths = new ArrayList<>();  // --models (dev)
         String modelsDir = null;        // --models-dir (dev)
         String outputDir = null;
+        int threads = 1;                // --threads (render pool size)
+        boolean incremental = false;    // --incremental (production)
+        boolean gzip = false;           // --gzip (.gz page siblings)
+        LeaguePaging paging = LeaguePaging.SINGLE;  // --league-paging
+        int matchesPerPage = 0;
+        boolean watch = false;          // --watch (production)
+        boolean merge = false;          // --merge (dev)
+        String snapshotDir = null;      // --snapshot-cache (production)
+        boolean stream = false;         // --stream (production)
+        boolean validate = false;       // --validate (production, no output)
+        boolean reportJson = false;     // --report json (production)
+        CoCoProfile profile = CoCoProfile.STRICT; // --coco-profile (production)
+        boolean profileSet = false;
 
         for (int i = 0; i < args.length; i++) {
             switch (args[i]) {
@@ -70,10 +168,77 @@ public class FootballSiteTool {
                         outputDir = args[++i];
                     }
                     break;
+                case "--threads":
+                    threads = (i + 1 < args.length) ? parsePositiveInt(args[++i]) : -1;
+                    if (threads < 1) {
+                        System.err.println("ERROR: --threads requires a positive integer.");
+                        exit(1);
+                        return;
+                    }
+                    break;
+                case "--incremental":
+                    incremental = true;
+                    break;
+                case "--gzip":
+                    gzip = true;
+                    break;
+                case "--watch":
+                    watch = true;
+                    break;
+                case "--merge":
+                    merge = true;
+                    break;
+                case "--stream":
+                    stream = true;
+                    break;
+                case "--validate":
+                    validate = true;
+                    break;
+                case "--report":
+                    String format = (i + 1 < args.length) ? args[++i] : "";
+                    if (!"json".equals(format)) {
+                        System.err.println("ERROR: --report requires 'json'.");
+                        exit(1);
+                        return;
+                    }
+                    reportJson = true;
+                    break;
+                case "--coco-profile":
+                    try {
+                        profile = CoCoProfile.of((i + 1 < args.length) ? args[++i] : "");
+                    } catch (IllegalArgumentException e) {
+                        System.err.println("ERROR: --coco-profile requires 'strict' or 'fast'.");
+                        exit(1);
+                        return;
+                    }
+                    profileSet = true;
+                    break;
+                case "--snapshot-cache":
+                    if (i + 1 < args.length) {
+                        snapshotDir = args[++i];
+                    }
+                    break;
+                case "--league-paging":
+                    String mode = (i + 1 < args.length) ? args[++i] : "";
+                    if ("matchday".equals(mode)) {
+                        paging = LeaguePaging.MATCHDAY;
+                    } else if ("month".equals(mode)) {
+                        paging = LeaguePaging.MONTH;
+                    } else {
+                        paging = LeaguePaging.FIXED_SIZE;
+                        matchesPerPage = parsePositiveInt(mode);
+                        if (matchesPerPage < 1) {
+                            System.err.println("ERROR: --league-paging requires a positive"
+                                    + " number, 'matchday' or 'month'.");
+                            exit(1);
+                            return;
+                        }
+                    }
+                    break;
                 default:
                     System.err.println("Unknown argument: " + args[i]);
                     printUsage();
-                    System.exit(1);
+                    exit(1);
                     return;
             }
         }
@@ -86,24 +251,109 @@ public class FootballSiteTool {
         if (modeCount == 0) {
             System.err.println("ERROR: One of --model, --models, or --models-dir is required.");
             printUsage();
-            System.exit(1);
+            exit(1);
             return;
         }
         if (modeCount > 1) {
             System.err.println("ERROR: --model cannot be combined with --models or --models-dir. Use one mode.");
-            System.exit(1);
+            exit(1);
             return;
         }
-        if (outputDir == null) {
+        if (validate && (singleModel == null || watch || stream)) {
+            System.err.println("ERROR: --validate is only supported with --model"
+                    + " (not with --watch or --stream).");
+            exit(1);
+            return;
+        }
+        if (reportJson && (singleModel == null || watch || stream)) {
+            System.err.println("ERROR: --report is only supported with --model"
+                    + " (not with --watch or --stream).");
+            exit(1);
+            return;
+        }
+        if (profileSet && (singleModel == null || watch || stream)) {
+            System.err.println("ERROR: --coco-profile is only supported with --model"
+                    + " (not with --watch or --stream).");
+            exit(1);
+            return;
+        }
+        if (outputDir == null && !validate) {
             System.err.println("ERROR: --output is required.");
             printUsage();
-            System.exit(1);
+            exit(1);
+            return;
+        }
+
+        if (merge && singleModel != null) {
+            System.err.println("ERROR: --merge requires --models or --models-dir.");
+            exit(1);
+            return;
+        }
+        if (incremental && singleModel == null && !merge) {
+            System.err.println("ERROR: --incremental is only supported with --model or --merge.");
+            exit(1);
+            return;
+        }
+        if (snapshotDir != null && (singleModel == null || watch)) {
+            System.err.println("ERROR: --snapshot-cache is only supported with --model.");
+            exit(1);
+            return;
+        }
+        if (stream && (singleModel == null || watch || snapshotDir != null)) {
+            System.err.println("ERROR: --stream is only supported with --model"
+                    + " (not with --watch or --snapshot-cache).");
+            exit(1);
+            return;
+        }
+        if (watch && singleModel == null) {
+            System.err.println("ERROR: --watch is only supported with --model.");
+            exit(1);
+            return;
+        }
+
+        // ── Watch mode: --model --watch (runs until interrupted) ─────
+        if (watch) {
+            runWatchMode(singleModel, outputDir, threads, gzip, paging, matchesPerPage);
+            return;
+        }
+
+        // ── Streaming production mode: --model --stream ──────────────
+        if (stream) {
+            runStreamingMode(singleModel, outputDir, threads, incremental, gzip,
+                             paging, matchesPerPage);
             return;
         }
 
         // ── Production mode: --model (fail-fast) ─────────────────────
         if (singleModel != null) {
-            runProductionMode(singleModel, outputDir);
+            RunStats stats = null;
+            PrintStream stdout = System.out;
+            if (reportJson) {
+                // stdout carries the JSON only; progress output goes to stderr
+                stats = new RunStats();
+                stats.put("mode", validate ? "validate" : "production");
+                stats.put("model", singleModel);
+                stats.put("threads", threads);
+                stats.put("cocoProfile", profile.getName());
+                System.setOut(System.err);
+            }
+            int status = 1;
+            try {
+                runProductionMode(singleModel, outputDir, threads, incremental, gzip,
+                                  paging, matchesPerPage, snapshotDir, validate,
+                                  profile, stats);
+                status = 0;
+            } catch (ExitRequest e) {
+                status = e.status;
+                throw e;
+            } finally {
+                if (stats != null) {
+                    System.setOut(stdout);
+                    stats.put("status", status);
+                    stdout.print(stats.toJson());
+                    stdout.flush();
+                }
+            }
             return;
         }
 
@@ -112,7 +362,7 @@ public class FootballSiteTool {
             File dir = new File(modelsDir);
             if (!dir.isDirectory()) {
                 System.err.println("ERROR: --models-dir is not a directory: " + modelsDir);
-                System.exit(1);
+                exit(1);
                 return;
             }
             File[] fbFiles = dir.listFiles((d, name) -> name.endsWith(".fb"));
@@ -120,21 +370,32 @@ public class FootballSiteTool {
                 System.err.println("WARNING: No .fb files found in " + modelsDir);
                 return;
             }
+            Arrays.sort(fbFiles);  // stable order (merge: first model wins)
             for (File f : fbFiles) {
                 modelPaths.add(f.getAbsolutePath());
             }
             System.out.println("Found " + fbFiles.length + " .fb file(s) in " + modelsDir);
         }
 
-        // ── Dev mode: parse each .fb (warn-and-continue) ─────────────
-        runDevMode(modelPaths, outputDir);
+        // ── Dev mode: parse + check all .fb in parallel (warn-and-continue)
+        runDevMode(modelPaths, outputDir, threads, gzip, paging, matchesPerPage,
+                   merge, incremental);
     }
 
     /**
      * Production mode: parse exactly one .fb file.
      * Any error is fatal — prints message and exits with code 1.
+     * With a snapshot cache, an unchanged model skips parsing and CoCos.
+     * With {@code validateOnly}, stops after the CoCos without generating.
+     * With {@code stats}, the phases of the run and every CoCo are
+     * measured into it.
      */
-    private static void runProductionMode(String modelPath, String outputDir) {
+    private static void runProductionMode(String modelPath, String outputDir,
+                                          int threads, boolean incremental,
+                                          boolean gzip, LeaguePaging paging,
+                                          int matchesPerPage, String snapshotDir,
+                                          boolean validateOnly, CoCoProfile profile,
+                                          RunStats stats) {
         System.out.println("MCFootball Site Generator (production mode)");
         System.out.println("===========================================");
         System.out.println("Model: " + modelPath);
@@ -142,99 +403,332 @@ public class FootballSiteTool {
         File modelFile = new File(modelPath);
         if (!modelFile.exists()) {
             System.err.println("ERROR: Model file not found: " + modelPath);
-            System.exit(1);
+            exit(1);
             return;
         }
 
         try {
-            FootballSiteParser parser = new FootballSiteParser();
-            Optional<ASTFootballSite> optAst = parser.parseFootballSite(modelPath);
-
-            if (!optAst.isPresent() || parser.hasErrors()) {
-                System.err.println("ERROR: Failed to parse " + modelPath);
-                System.exit(1);
-                return;
+            SnapshotCache cache = snapshotDir == null ? null
+                    : new SnapshotCache(new FileSystemOutputSink(Paths.get(snapshotDir)));
+            RunStats.Timer read = start(stats, RunStats.Phase.READ);
+            MappedModel model = MappedModel.map(modelFile.toPath());
+            String sourceKey = cache == null ? null : model.sourceKey();
+            Path modelDir = modelFile.getAbsoluteFile().toPath().getParent();
+            Optional<SiteSnapshot> cached = cache == null ? Optional.empty()
+                    : cache.load(modelFile.getName(), sourceKey, modelDir);
+            stop(read);
+            if (stats != null) {
+                stats.put("snapshotHit", cached.isPresent());
             }
 
-            ASTFootballSite ast = optAst.get();
-            System.out.println("  Site name: " + ast.getName());
-            System.out.println("  Countries: " + ast.getCountryList().size());
+            SiteSnapshot site;
+            if (cached.isPresent()) {
+                site = cached.get();
+                System.out.println("  Site name: " + site.getSiteName());
+                System.out.println("  Countries: " + site.getCountries().size());
+                System.out.println("  Snapshot: unchanged model, parse and CoCos skipped");
+            } else {
+                RunStats.Timer parse = start(stats, RunStats.Phase.PARSE);
+                FootballSiteParser parser = new FootballSiteParser();
+                List<String> syntaxErrors = new ArrayList<>();
+                Optional<ASTFootballSite> optAst = model.parse(parser, syntaxErrors);
+                stop(parse);
+
+                if (!optAst.isPresent() || parser.hasErrors()) {
+                    System.err.println(ParallelModelChecker.parseError(
+                            "ERROR: Failed to parse " + modelPath, syntaxErrors));
+                    exit(1);
+                    return;
+                }
 
-            // ── CoCo validation (fail-fast in production) ────────────
-            long errorsBefore = Log.getErrorCount();
-            FootballSiteCoCoChecker checker = FootballSiteCoCos.createChecker();
-            checker.checkAll(ast);
-            if (Log.getErrorCount() > errorsBefore) {
-                System.err.println("ERROR: CoCo violations in " + modelPath
-                        + " — aborting (production mode).");
-                System.exit(1);
+                ASTFootballSite ast = optAst.get();
+                System.out.println("  Site name: " + ast.getName());
+
+                // ── Imports: parse shards in parallel, then merge ────
+                ModelImportResolver imports = null;
+                long errorsBefore = Log.getErrorCount();
+                if (!ast.isEmptyModelImports()) {
+                    System.out.println("  Imports: " + ast.getModelImportList().size()
+                            + " shard(s)");
+                    imports = new ModelImportResolver(modelFile.toPath(), threads, stats,
+                                                      profile);
+                    ParallelModelChecker.Result merged = imports.resolve(ast);
+                    if (merged.getParseError().isPresent()) {
+                        System.err.println(merged.getParseError().get());
+                        exit(1);
+                        return;
+                    }
+                    for (String error : merged.getCoCoErrors()) {
+                        Log.error(error);
+                    }
+                }
+                System.out.println("  Countries: " + ast.getCountryList().size());
+
+                // ── CoCo validation (fail-fast in production) ────────
+                if (imports == null) {
+                    RunStats.Timer cocos = start(stats, RunStats.Phase.COCO);
+                    checkCoCos(ast, threads, profile,
+                               stats == null ? null : stats.getCoCoStats());
+                    stop(cocos);
+                }
+                if (Log.getErrorCount() > errorsBefore) {
+                    System.err.println("ERROR: CoCo violations in " + modelPath
+                            + " — aborting (production mode).");
+                    exit(1);
+                    return;
+                }
+                System.out.println(profile == CoCoProfile.STRICT
+                        ? "  CoCos: all checks passed"
+                        : "  CoCos: all " + profile.getName() + " checks passed");
+
+                RunStats.Timer nav = start(stats, RunStats.Phase.NAV);
+                site = SiteSnapshot.of(ast);
+                stop(nav);
+                // Store only if the file was not rewritten while parsing,
+                // and only as checked by all CoCos
+                Map<String, String> shardKeys = imports == null
+                        ? Collections.emptyMap() : imports.getShardKeys();
+                if (cache != null && profile == CoCoProfile.STRICT
+                        && sourceKey.equals(SnapshotCache.sourceKey(modelFile.toPath()))
+                        && unchanged(modelDir, shardKeys)) {
+                    try {
+                        cache.store(modelFile.getName(), sourceKey, shardKeys, site);
+                    } catch (IOException e) {
+                        System.err.println("WARNING: Could not write snapshot to "
+                                + snapshotDir + ": " + e.getMessage());
+                    }
+                }
+            }
+
+            if (validateOnly) {
+                System.out.println();
+                System.out.println("Valid: " + modelPath);
                 return;
             }
-            System.out.println("  CoCos: all checks passed");
 
             Path outPath = Paths.get(outputDir);
-            FootballSiteGenerator generator = new FootballSiteGenerator(outPath);
-            generator.generate(ast);
+            FootballSiteGenerator generator = new FootballSiteGenerator(outPath, threads);
+            generator.setIncremental(incremental);
+            generator.setGzip(gzip);
+            generator.setLeaguePaging(paging, matchesPerPage);
+            generator.setStats(stats);
+            GenerationReport report = generator.generate(site.getSiteName(),
+                                                          site.getCountries());
+            if (stats != null) {
+                stats.setGenerationReport(report);
+            }
+            System.out.println("  Pages: " + report);
+
+        } catch (IOException e) {
+            System.err.println("ERROR reading " + modelPath + ": " + e.getMessage());
+            exit(1);
+            return;
+        }
+
+        System.out.println();
+        System.out.println("Done. Output in: " + outputDir);
+    }
+
+    /**
+     * Run the CoCos of {@code profile} on {@code ast}, one country per
+     * task if more than one thread is allowed; findings go to {@code Log}.
+     *
+     * @param ruleStats receives the calls and time of every CoCo, or null
+     */
+    private static void checkCoCos(ASTFootballSite ast, int threads, CoCoProfile profile,
+                                   CoCoStats ruleStats) {
+        if (threads <= 1 || ast.getCountryList().size() <= 1) {
+            FootballSiteCoCos.createFusedChecker(profile, ruleStats).checkAll(ast);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            FootballSiteCoCos.createParallelChecker(pool, profile, ruleStats).checkAll(ast);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static RunStats.Timer start(RunStats stats, RunStats.Phase phase) {
+        return stats == null ? null : stats.start(phase);
+    }
+
+    private static void stop(RunStats.Timer timer) {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /** @return true if every shard still has the source it was parsed from */
+    private static boolean unchanged(Path modelDir, Map<String, String> shardKeys)
+            throws IOException {
+        for (Map.Entry<String, String> shard : shardKeys.entrySet()) {
+            Path path = modelDir.resolve(shard.getKey());
+            if (!Files.isRegularFile(path)
+                    || !shard.getValue().equals(SnapshotCache.sourceKey(path))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Streaming production mode: read the model league by league and
+     * render each league right away. Any error is fatal, but pages of
+     * leagues before the error may already have been written.
+     */
+    private static void runStreamingMode(String modelPath, String outputDir,
+                                         int threads, boolean incremental,
+                                         boolean gzip, LeaguePaging paging,
+                                         int matchesPerPage) {
+        System.out.println("MCFootball Site Generator (streaming production mode)");
+        System.out.println("=====================================================");
+        System.out.println("Model: " + modelPath);
+
+        File modelFile = new File(modelPath);
+        if (!modelFile.exists()) {
+            System.err.println("ERROR: Model file not found: " + modelPath);
+            exit(1);
+            return;
+        }
 
+        FootballSiteGenerator generator =
+                new FootballSiteGenerator(Paths.get(outputDir), threads);
+        generator.setIncremental(incremental);
+        generator.setGzip(gzip);
+        generator.setLeaguePaging(paging, matchesPerPage);
+
+        StreamingSiteRun run = new StreamingSiteRun(generator);
+        Optional<GenerationReport> report;
+        try (Reader in = MappedModel.map(modelFile.toPath()).newReader()) {
+            report = run.run(in, modelPath);
         } catch (IOException e) {
             System.err.println("ERROR reading " + modelPath + ": " + e.getMessage());
-            System.exit(1);
+            exit(1);
+            return;
+        }
+        if (!report.isPresent()) {
+            System.err.println("ERROR: Errors in " + modelPath
+                    + " — aborting (production mode).");
+            exit(1);
             return;
         }
+        System.out.println("  Countries: " + run.getCountryCount()
+                + ", leagues: " + run.getLeagueCount()
+                + ", matches: " + run.getMatchCount());
+        System.out.println("  CoCos: all checks passed");
+        System.out.println("  Pages: " + report.get());
 
         System.out.println();
         System.out.println("Done. Output in: " + outputDir);
     }
 
     /**
-     * Dev mode: parse each .fb file, warn on errors but continue.
+     * Watch mode: generate once, then regenerate on every change of the
+     * model file with a warm parser, checker and generator.
      */
-    private static void runDevMode(List<String> modelPaths, String outputDir) {
+    private static void runWatchMode(String modelPath, String outputDir, int threads,
+                                     boolean gzip, LeaguePaging paging,
+                                     int matchesPerPage) {
+        System.out.println("MCFootball Site Generator (watch mode)");
+        System.out.println("======================================");
+
+        File modelFile = new File(modelPath);
+        if (!modelFile.isFile()) {
+            System.err.println("ERROR: Model file not found: " + modelPath);
+            exit(1);
+            return;
+        }
+
+        FootballSiteGenerator generator =
+                new FootballSiteGenerator(Paths.get(outputDir), threads);
+        generator.setGzip(gzip);
+        generator.setLeaguePaging(paging, matchesPerPage);
+
+        try {
+            new ModelWatcher(modelFile.toPath(), generator).watch();
+        } catch (IOException e) {
+            System.err.println("ERROR watching " + modelPath + ": " + e.getMessage());
+            exit(1);
+        }
+    }
+
+    /**
+     * Dev mode: parse and check all .fb files, {@code threads} at a time
+     * (each with its own findings), then report and generate them in
+     * order; warn on errors but continue.
+     * With merge, the valid models are combined and generated once.
+     */
+    private static void runDevMode(List<String> modelPaths, String outputDir,
+                                   int threads, boolean gzip,
+                                   LeaguePaging paging, int matchesPerPage,
+                                   boolean merge, boolean incremental) {
         System.out.println("MCFootball Site Generator (dev mode)");
         System.out.println("=====================================");
 
         Path outPath = Paths.get(outputDir);
-        FootballSiteGenerator generator = new FootballSiteGenerator(outPath);
-
-        for (String modelPath : modelPaths) {
+        FootballSiteGenerator generator = new FootballSiteGenerator(outPath, threads);
+        generator.setGzip(gzip);
+        generator.setLeaguePaging(paging, matchesPerPage);
+        generator.setIncremental(incremental);
+        SiteMerger merger = new SiteMerger();
+
+        // ── Parse + CoCo-check all models on --threads threads ───────
+        List<ParallelModelChecker.Result> results =
+                new ParallelModelChecker(threads).checkAll(modelPaths);
+
+        // ── Report and generate in file order (warn-and-continue) ────
+        for (ParallelModelChecker.Result result : results) {
+            String modelPath = result.getModelPath();
             System.out.println();
             System.out.println("Parsing: " + modelPath);
 
-            try {
-                FootballSiteParser parser = new FootballSiteParser();
-                Optional<ASTFootballSite> optAst =
-                        parser.parseFootballSite(modelPath);
-
-                if (!optAst.isPresent()) {
-                    System.err.println("ERROR: Failed to parse " + modelPath);
-                    continue;
-                }
-
-                if (parser.hasErrors()) {
-                    System.err.println("ERROR: Parse errors in " + modelPath);
-                    continue;
-                }
+            if (result.getParseError().isPresent()) {
+                System.err.println(result.getParseError().get());
+                continue;
+            }
 
-                ASTFootballSite ast = optAst.get();
-                System.out.println("  Site name: " + ast.getName());
-                System.out.println("  Countries: " + ast.getCountryList().size());
+            ASTFootballSite ast = result.getAst().get();
+            System.out.println("  Site name: " + ast.getName());
+            System.out.println("  Countries: " + ast.getCountryList().size());
 
-                // ── CoCo validation (warn-and-skip in dev mode) ──────
-                long errorsBefore = Log.getErrorCount();
-                FootballSiteCoCoChecker checker = FootballSiteCoCos.createChecker();
-                checker.checkAll(ast);
-                if (Log.getErrorCount() > errorsBefore) {
-                    System.err.println("WARNING: CoCo violations in " + modelPath
-                            + " — skipping generation for this model.");
-                    continue;
+            List<String> cocoErrors = merge
+                    ? SiteMerger.withoutMergedChecks(result.getCoCoErrors())
+                    : result.getCoCoErrors();
+            if (!cocoErrors.isEmpty()) {
+                // Hand this file's findings to the shared Log for reporting
+                for (String error : cocoErrors) {
+                    Log.error(error);
                 }
-                System.out.println("  CoCos: all checks passed");
+                System.err.println("WARNING: CoCo violations in " + modelPath
+                        + " — skipping generation for this model.");
+                continue;
+            }
+            System.out.println("  CoCos: all checks passed");
 
+            if (merge) {
+                merger.add(modelPath, ast);
+            } else {
                 generator.generate(ast);
+            }
+        }
 
-            } catch (IOException e) {
-                System.err.println("ERROR reading " + modelPath
-                        + ": " + e.getMessage());
+        if (merge) {
+            System.out.println();
+            for (String conflict : merger.getConflicts()) {
+                System.err.println("WARNING: " + conflict);
+            }
+            for (String unresolved : merger.getUnresolvedNavigation()) {
+                System.err.println("WARNING: " + unresolved);
+            }
+            if (merger.getCountries().isEmpty()) {
+                System.err.println("WARNING: No valid models to merge — nothing generated.");
+            } else {
+                System.out.println("Merged site: " + merger.getSiteName() + " ("
+                        + merger.getCountries().size() + " countries)");
+                GenerationReport report = generator.generate(
+                        merger.getSiteName(), merger.getCountries());
+                System.out.println("  Pages: " + report);
             }
         }
 
@@ -242,22 +736,146 @@ public class FootballSiteTool {
         System.out.println("Done. Output in: " + outputDir);
     }
 
+    /**
+     * Daemon mode: warm up, then serve tool runs from {@code --client}
+     * until stopped. Options: [--daemon-file FILE].
+     */
+    private static void runDaemon(String[] args) {
+        Path daemonFile = daemonFileOption(args, "--daemon");
+        int optionArgs = args.length > 0 && "--daemon-file".equals(args[0]) ? 2 : 0;
+        if (args.length != optionArgs) {
+            System.err.println("ERROR: --daemon only accepts --daemon-file <file>.");
+            exit(1);
+            return;
+        }
+        System.out.println("MCFootball Site Generator (daemon mode)");
+        System.out.println("=======================================");
+        try {
+            GeneratorDaemon daemon = new GeneratorDaemon(daemonFile);
+            daemon.warmUp();
+            System.out.println("Listening on 127.0.0.1:" + daemon.getPort()
+                    + " (daemon file: " + daemonFile + ")");
+            daemon.serve();
+        } catch (IOException e) {
+            System.err.println("ERROR: Generator daemon failed: " + e.getMessage());
+            exit(1);
+            return;
+        }
+        System.out.println("Daemon stopped.");
+    }
+
+    /**
+     * Client mode: forward the remaining arguments to a running daemon
+     * and relay its output. Options: [--daemon-file FILE] then either
+     * the usual tool arguments or --stop.
+     *
+     * @return the exit status of the run in the daemon
+     */
+    private static int runClient(String[] args) {
+        Path daemonFile = daemonFileOption(args, "--client");
+        String[] forwarded = args.length >= 2 && "--daemon-file".equals(args[0])
+                ? Arrays.copyOfRange(args, 2, args.length) : args;
+        if (forwarded.length == 0) {
+            System.err.println("ERROR: --client requires tool arguments or --stop.");
+            return 1;
+        }
+        if (forwarded.length == 1 && "--stop".equals(forwarded[0])) {
+            return GeneratorDaemon.stop(daemonFile, System.err);
+        }
+        return GeneratorDaemon.forward(daemonFile, forwarded, System.out, System.err);
+    }
+
+    /** @return the file after a leading --daemon-file, or the default daemon file */
+    private static Path daemonFileOption(String[] args, String mode) {
+        if (args.length >= 1 && "--daemon-file".equals(args[0])) {
+            if (args.length < 2) {
+                System.err.println("ERROR: " + mode + " --daemon-file requires a file.");
+                exit(1);
+            }
+            return Paths.get(args[1]).toAbsolutePath();
+        }
+        return GeneratorDaemon.defaultDaemonFile();
+    }
+
+    /**
+     * End the run with {@code status}: exits the JVM when started from
+     * {@link #main}, returns the status from {@link #run} otherwise.
+     */
+    private static void exit(int status) {
+        throw new ExitRequest(status);
+    }
+
+    /** Unwinds a run to {@link #run}; carries the exit status. */
+    private static final class ExitRequest extends RuntimeException {
+
+        private final int status;
+
+        ExitRequest(int status) {
+            super(null, null, false, false);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Parse a CLI integer argument; returns -1 if it is not a number.
+     */
+    private static int parsePositiveInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     private static void printUsage() {
         System.out.println("Usage:");
         System.out.println("  FootballSiteTool --model <file.fb>                   --output <dir>   (production)");
         System.out.println("  FootballSiteTool --models <file1.fb> [file2.fb ...]   --output <dir>   (dev)");
         System.out.println("  FootballSiteTool --models-dir <directory>             --output <dir>   (dev)");
+        System.out.println("  FootballSiteTool --daemon [--daemon-file <file>]                        (resident)");
+        System.out.println("  FootballSiteTool --client [--daemon-file <file>] <arguments above> | --stop");
         System.out.println();
         System.out.println("  --model       Single .fb model file (production mode, fail-fast on error)");
         System.out.println("  --models      One or more .fb model files (dev mode, warn-and-continue)");
         System.out.println("  --models-dir  Directory containing .fb files (dev mode, warn-and-continue)");
+        System.out.println("  --daemon      Stay resident with a warmed parser, CoCos and templates and run");
+        System.out.println("                the arguments sent by --client (one run at a time)");
+        System.out.println("  --client      Run the given arguments in the daemon and print its output");
         System.out.println("  --output      Directory where HTML files will be generated");
+        System.out.println("  --threads     Number of page-rendering threads, and in dev mode of models");
+        System.out.println("                checked at once (optional, default 1)");
+        System.out.println("  --incremental Only re-render pages whose inputs changed (--model or --merge)");
+        System.out.println("  --merge       Combine all dev-mode models into one site (--models/--models-dir)");
+        System.out.println("  --gzip        Also write a pre-compressed <page>.gz next to every page");
+        System.out.println("  --watch       Regenerate changed pages whenever the model is saved (--model only)");
+        System.out.println("  --snapshot-cache <dir>");
+        System.out.println("                Reuse the checked model from <dir> while it is unchanged (--model only)");
+        System.out.println("  --stream      Read and render a very large model league by league (--model only)");
+        System.out.println("  --validate    Parse and check the model only; --output is not needed (--model only)");
+        System.out.println("  --report json Print phase times (wall/CPU), pages, bytes, slowest templates and");
+        System.out.println("                pages, CoCo rule times and peak heap as JSON on stdout; progress");
+        System.out.println("                goes to stderr (--model only)");
+        System.out.println("  --coco-profile <strict|fast>");
+        System.out.println("                CoCos to check: all (default) or only those the site depends on (--model only)");
+        System.out.println("  --league-paging <N|matchday|month>");
+        System.out.println("                Split league pages: N matches, one match date or one month per page");
         System.out.println();
         System.out.println("Only one of --model, --models, --models-dir may be specified.");
         System.out.println();
         System.out.println("Examples:");
         System.out.println("  FootballSiteTool --model AllEurope.fb --output output/");
+        System.out.println("  FootballSiteTool --model AllEurope.fb --output output/ --threads 8");
+        System.out.println("  FootballSiteTool --model AllEurope.fb --output output/ --incremental --gzip");
+        System.out.println("  FootballSiteTool --model AllEurope.fb --output output/ --snapshot-cache .cache/");
+        System.out.println("  FootballSiteTool --model AllEurope.fb --output output/ --report json > run.json");
+        System.out.println("  FootballSiteTool --model Archive.fb   --output output/ --stream --threads 4");
+        System.out.println("  FootballSiteTool --model AllEurope.fb --output output/ --coco-profile fast");
+        System.out.println("  FootballSiteTool --model AllEurope.fb --output output/ --league-paging matchday");
+        System.out.println("  FootballSiteTool --model AllEurope.fb --output output/ --watch");
+        System.out.println("  FootballSiteTool --client --model AllEurope.fb --output output/ --incremental");
+        System.out.println("  FootballSiteTool --client --model AllEurope.fb --validate");
         System.out.println("  FootballSiteTool --models Bundesliga.fb PremierLeague.fb --output output/");
         System.out.println("  FootballSiteTool --models-dir models/generated/ --output output/");
+        System.out.println("  FootballSiteTool --models-dir shards/ --output output/ --merge");
     }
 }
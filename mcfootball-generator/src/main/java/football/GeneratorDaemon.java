@@ -0,0 +1,425 @@
+package football;
+
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FootballSiteGenerator;
+import football.generator.MemoryOutputSink;
+import de.se_rwth.commons.logging.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resident generator (--daemon) and its thin client (--client).
+ * <p>
+ * The daemon warms up once — loads the parser, CoCos and generator,
+ * compiles the FreeMarker templates — and then runs
+ * {@link FootballSiteTool#run} for every request, so a regeneration pays
+ * neither JVM start-up nor MontiCore and template initialisation.
+ * <p>
+ * Transport is a TCP socket on the loopback interface (Java 11 has no
+ * Unix domain sockets). The daemon writes its port and a random token
+ * to the daemon file (owner-only where the file system supports it);
+ * a client must send the token, so only users who can read the file can
+ * run the tool in the daemon. A client must send its whole request within
+ * {@link #REQUEST_TIMEOUT_MS}, so a connection that sends nothing does
+ * not hold up the others.
+ * <p>
+ * Protocol, all with {@code DataOutputStream}:
+ * <pre>
+ * request:  UTF token, byte command (1 = run, 2 = stop), int argc, argc × UTF arg
+ * response: frames of byte stream (1 = stdout, 2 = stderr), int length, bytes;
+ *           then byte 0, int exit status
+ * </pre>
+ * Requests are served one at a time: {@code System.out}, {@code System.err}
+ * and MontiCore's {@code Log} are process-wide, and each run gets them to
+ * itself. Relative paths are made absolute by the client.
+ */
+class GeneratorDaemon {
+
+    private static final byte CMD_RUN = 1;
+    private static final byte CMD_STOP = 2;
+    private static final byte FRAME_EXIT = 0;
+    private static final byte FRAME_OUT = 1;
+    private static final byte FRAME_ERR = 2;
+
+    /**
+     * How long a client may take to send its request, in milliseconds;
+     * one that connects and sends nothing must not block the daemon.
+     */
+    static final int REQUEST_TIMEOUT_MS = 10_000;
+
+    /** Options whose value is a path, made absolute by the client. */
+    private static final Set<String> PATH_OPTIONS = new HashSet<>(
+            Arrays.asList("--model", "--models-dir", "--output", "--snapshot-cache"));
+
+    /** Options a daemon run must not use: they never return or nest daemons. */
+    private static final Set<String> REJECTED_OPTIONS = new HashSet<>(
+            Arrays.asList("--watch", "--daemon", "--client"));
+
+    /** Smallest model that exercises parser, all CoCos and all templates. */
+    private static final String WARM_UP_MODEL =
+            "footballsite WarmUp {\n"
+            + "  navigation { Germany; }\n"
+            + "  country Germany {\n"
+            + "    league Bundesliga season \"2025-2026\" {\n"
+            + "      match {\n"
+            + "        date    \"2025-08-23\"\n"
+            + "        time    \"15:30\"\n"
+            + "        home    \"Bayern München\"    (\"Munich\")\n"
+            + "        away    \"Borussia Dortmund\" (\"Dortmund\")\n"
+            + "        score   2 - 1\n"
+            + "        stadium \"Allianz Arena\"\n"
+            + "      }\n"
+            + "    }\n"
+            + "  }\n"
+            + "}\n";
+
+    private final Path daemonFile;
+    private final ServerSocket server;
+    private final String token;
+    private final int requestTimeoutMillis;
+    private volatile boolean stopped;
+
+    /**
+     * Open the listening socket on an ephemeral loopback port. Clients
+     * find it only after {@link #serve} has written the daemon file.
+     */
+    GeneratorDaemon(Path daemonFile) throws IOException {
+        this(daemonFile, REQUEST_TIMEOUT_MS);
+    }
+
+    /**
+     * @param requestTimeoutMillis how long a client may take to send its request
+     */
+    GeneratorDaemon(Path daemonFile, int requestTimeoutMillis) throws IOException {
+        this.daemonFile = daemonFile;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        byte[] secret = new byte[16];
+        new SecureRandom().nextBytes(secret);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : secret) {
+            hex.append(String.format("%02x", b));
+        }
+        this.token = hex.toString();
+    }
+
+    /** @return {@code mcfootball-daemon-<user>} in the temp directory */
+    static Path defaultDaemonFile() {
+        return Paths.get(System.getProperty("java.io.tmpdir"),
+                "mcfootball-daemon-" + System.getProperty("user.name"));
+    }
+
+    int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Parse, check and render a small built-in model into memory, so the
+     * first real request finds all classes loaded and all templates
+     * compiled.
+     */
+    void warmUp() throws IOException {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            Optional<ASTFootballSite> ast =
+                    new FootballSiteParser().parse_StringFootballSite(WARM_UP_MODEL);
+            if (!ast.isPresent()) {
+                throw new IOException("warm-up model did not parse");
+            }
+            FootballSiteCoCos.createFusedChecker().checkAll(ast.get());
+            new FootballSiteGenerator(new MemoryOutputSink(), 1).generate(ast.get());
+        } finally {
+            System.setOut(out);
+            Log.clearFindings();
+        }
+    }
+
+    /**
+     * Publish the daemon file and serve requests until a stop request
+     * arrives or {@link #close} is called. Removes the daemon file on
+     * the way out.
+     */
+    void serve() throws IOException {
+        writeDaemonFile();
+        try {
+            while (!stopped) {
+                try (Socket socket = server.accept()) {
+                    handle(socket);
+                } catch (SocketException e) {
+                    if (!stopped) {
+                        System.err.println("WARNING: Client connection failed: "
+                                + e.getMessage());
+                    }
+                } catch (IOException e) {
+                    System.err.println("WARNING: Client connection failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            close();
+            Files.deleteIfExists(daemonFile);
+        }
+    }
+
+    /** Stop serving; a running request is finished first. */
+    void close() throws IOException {
+        stopped = true;
+        server.close();
+    }
+
+    private void writeDaemonFile() throws IOException {
+        Path dir = daemonFile.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, daemonFile.getFileName().toString(), ".tmp");
+        try {
+            try {
+                Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                // Not a POSIX file system: the temp file's defaults apply
+            }
+            Files.write(tmp, (getPort() + " " + token + "\n").getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tmp, daemonFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, daemonFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(socket.getOutputStream()));
+        socket.setSoTimeout(requestTimeoutMillis);
+        // Constant-time: the time taken must not reveal how much of the token matched
+        if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                in.readUTF().getBytes(StandardCharsets.UTF_8))) {
+            return;
+        }
+        byte command = in.readByte();
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+
+        if (command == CMD_STOP) {
+            stopped = true;
+            writeExit(out, 0);
+            return;
+        }
+        if (command != CMD_RUN) {
+            writeExit(out, 1);
+            return;
+        }
+
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        PrintStream clientOut = new PrintStream(new FrameStream(out, FRAME_OUT), true, "UTF-8");
+        PrintStream clientErr = new PrintStream(new FrameStream(out, FRAME_ERR), true, "UTF-8");
+        int status;
+        long start = System.nanoTime();
+        System.setOut(clientOut);
+        System.setErr(clientErr);
+        try {
+            Log.clearFindings();
+            status = runInDaemon(args);
+        } finally {
+            System.setOut(stdout);
+            System.setErr(stderr);
+            clientOut.flush();
+            clientErr.flush();
+        }
+        writeExit(out, status);
+        System.out.println("Served: " + String.join(" ", args) + " → exit " + status
+                + " (" + (System.nanoTime() - start) / 1_000_000 + " ms)");
+    }
+
+    private static int runInDaemon(String[] args) {
+        for (String arg : args) {
+            if (REJECTED_OPTIONS.contains(arg)) {
+                System.err.println("ERROR: " + arg + " cannot be run in the daemon.");
+                return 1;
+            }
+        }
+        try {
+            return FootballSiteTool.run(args);
+        } catch (RuntimeException e) {
+            // A bug in one run must not take the daemon down
+            System.err.println("ERROR: " + e);
+            return 1;
+        }
+    }
+
+    private static void writeExit(DataOutputStream out, int status) throws IOException {
+        synchronized (out) {
+            out.writeByte(FRAME_EXIT);
+            out.writeInt(status);
+            out.flush();
+        }
+    }
+
+    /** Sends everything written to it as frames of one stream type. */
+    private static final class FrameStream extends OutputStream {
+
+        private final DataOutputStream out;
+        private final byte type;
+
+        FrameStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            // Render threads print too; frames must not interleave
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+                out.flush();
+            }
+        }
+    }
+
+    // ── Client ───────────────────────────────────────────────────────
+
+    /**
+     * Run the tool with {@code args} in the daemon of {@code daemonFile},
+     * relaying its output to {@code out} and {@code err}.
+     *
+     * @return the exit status of the run, or 1 if the daemon could not
+     *         be reached
+     */
+    static int forward(Path daemonFile, String[] args, PrintStream out, PrintStream err) {
+        return send(daemonFile, CMD_RUN, absolutePaths(args), out, err);
+    }
+
+    /**
+     * Ask the daemon of {@code daemonFile} to stop after its current request.
+     *
+     * @return 0 if the daemon acknowledged, 1 otherwise
+     */
+    static int stop(Path daemonFile, PrintStream err) {
+        return send(daemonFile, CMD_STOP, new String[0], System.out, err);
+    }
+
+    private static int send(Path daemonFile, byte command, String[] args,
+                            PrintStream out, PrintStream err) {
+        String[] endpoint;
+        try {
+            endpoint = new String(Files.readAllBytes(daemonFile), StandardCharsets.UTF_8)
+                    .trim().split(" ");
+        } catch (NoSuchFileException e) {
+            err.println("ERROR: No generator daemon running (" + daemonFile
+                    + " not found). Start one with --daemon.");
+            return 1;
+        } catch (IOException e) {
+            err.println("ERROR: Cannot read daemon file " + daemonFile + ": " + e.getMessage());
+            return 1;
+        }
+        if (endpoint.length != 2) {
+            err.println("ERROR: Damaged daemon file " + daemonFile + ".");
+            return 1;
+        }
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                                        Integer.parseInt(endpoint[0]))) {
+            DataOutputStream request = new DataOutputStream(
+                    new BufferedOutputStream(socket.getOutputStream()));
+            request.writeUTF(endpoint[1]);
+            request.writeByte(command);
+            request.writeInt(args.length);
+            for (String arg : args) {
+                request.writeUTF(arg);
+            }
+            request.flush();
+
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(socket.getInputStream()));
+            while (true) {
+                byte type = in.readByte();
+                if (type == FRAME_EXIT) {
+                    return in.readInt();
+                }
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                PrintStream target = type == FRAME_ERR ? err : out;
+                target.write(bytes, 0, bytes.length);
+                target.flush();
+            }
+        } catch (NumberFormatException e) {
+            err.println("ERROR: Damaged daemon file " + daemonFile + ".");
+            return 1;
+        } catch (EOFException e) {
+            err.println("ERROR: The generator daemon closed the connection"
+                    + " (wrong token in " + daemonFile + "?).");
+            return 1;
+        } catch (IOException e) {
+            err.println("ERROR: Cannot reach the generator daemon of " + daemonFile
+                    + ": " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Make the path arguments absolute against the client's working
+     * directory, which the daemon does not share.
+     */
+    static String[] absolutePaths(String[] args) {
+        String[] result = args.clone();
+        for (int i = 0; i < result.length; i++) {
+            if (PATH_OPTIONS.contains(result[i]) && i + 1 < result.length) {
+                i++;
+                result[i] = absolute(result[i]);
+            } else if ("--models".equals(result[i])) {
+                while (i + 1 < result.length && !result[i + 1].startsWith("--")) {
+                    i++;
+                    result[i] = absolute(result[i]);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String absolute(String path) {
+        return Paths.get(path).toAbsolutePath().toString();
+    }
+}
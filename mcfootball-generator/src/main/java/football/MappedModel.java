@@ -0,0 +1,247 @@
+package football;
+
+import football.cocos.FindingsCollector;
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTLeague;
+import football.footballsite._ast.ASTMatch;
+import football.footballsite._ast.ASTModelImport;
+import football.footballsite._ast.ASTNavigationItem;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.SnapshotCache;
+import de.monticore.ast.ASTNode;
+import de.se_rwth.commons.SourcePosition;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A model file mapped read-only into memory.
+ * <p>
+ * Reading a model used to keep up to three copies of it on the heap:
+ * the file bytes (for the snapshot key), a decoded {@code String} and
+ * the lexer's character buffer. A mapped model hashes the mapped pages
+ * in place ({@link #sourceKey()}) and feeds the parser through a
+ * {@link Reader} that decodes UTF-8 chunk by chunk as the lexer pulls
+ * ({@link #newReader()}), so only the lexer's own buffer is left on the
+ * heap and the file pages belong to the OS page cache.
+ * <p>
+ * The mapping stays valid until it is garbage collected; a file that is
+ * truncated while mapped makes reads fail with an {@link IOException}.
+ * <p>
+ * Several models can be parsed at the same time: each parse collects its
+ * syntax errors in a {@link FindingsCollector} of its own instead of
+ * MontiCore's global {@code Log}.
+ */
+public final class MappedModel {
+
+    /** Characters decoded per step of the reader. */
+    private static final int CHUNK = 8192;
+
+    private final Path file;
+    private final MappedByteBuffer bytes;
+
+    private MappedModel(Path file, MappedByteBuffer bytes) {
+        this.file = file;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Map {@code file} read-only.
+     *
+     * @throws IOException if it cannot be opened or is larger than 2 GB
+     */
+    public static MappedModel map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Model too large to map (" + size + " bytes): " + file);
+            }
+            return new MappedModel(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /** @return the mapped file */
+    public Path getFile() {
+        return file;
+    }
+
+    /** @return size of the file in bytes when it was mapped */
+    public int size() {
+        return bytes.capacity();
+    }
+
+    /** @return a read-only view of the whole file, positioned at its start */
+    public ByteBuffer bytes() {
+        return bytes.asReadOnlyBuffer();
+    }
+
+    /** @return {@link SnapshotCache#sourceKey(ByteBuffer)} of the mapped bytes */
+    public String sourceKey() throws IOException {
+        try {
+            return SnapshotCache.sourceKey(bytes());
+        } catch (InternalError e) {
+            throw truncated(e);
+        }
+    }
+
+    /** @return a new reader decoding the file as UTF-8 from its start */
+    public Reader newReader() {
+        return new DecodingReader(bytes(), file);
+    }
+
+    /**
+     * Parse the file with {@code parser}. Positions name the file as if
+     * it had been parsed by path.
+     */
+    public Optional<ASTFootballSite> parse(FootballSiteParser parser) throws IOException {
+        return parse(parser, new ArrayList<>());
+    }
+
+    /**
+     * Parse the file with {@code parser}, as {@link #parse(FootballSiteParser)},
+     * and add the syntax errors MontiCore reported for it to
+     * {@code syntaxErrors}, each prefixed with the file name, which the
+     * parser does not know when reading from a {@link Reader}. The errors
+     * are not added to {@code Log}.
+     */
+    public Optional<ASTFootballSite> parse(FootballSiteParser parser,
+                                           List<String> syntaxErrors) throws IOException {
+        // Syntax errors of this thread go to its own collector, not the shared Log
+        FindingsCollector errors = new FindingsCollector();
+        AtomicReference<Optional<ASTFootballSite>> parsed = new AtomicReference<>();
+        try {
+            errors.run(() -> {
+                try (Reader in = newReader()) {
+                    parsed.set(parser.parseFootballSite(in));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        for (String error : errors.getErrors()) {
+            syntaxErrors.add(file + ": " + error);
+        }
+        Optional<ASTFootballSite> ast = parsed.get();
+        ast.ifPresent(site -> stampFile(site, file.toString()));
+        return ast;
+    }
+
+    /**
+     * A parser reading from a {@link Reader} does not know the file; set
+     * it on the start and end position of every node the CoCos report.
+     */
+    private static void stampFile(ASTFootballSite site, String fileName) {
+        stamp(site, fileName);
+        for (ASTModelImport imp : site.getModelImportList()) {
+            stamp(imp, fileName);
+        }
+        if (site.isPresentNavigation()) {
+            stamp(site.getNavigation(), fileName);
+            for (ASTNavigationItem item : site.getNavigation().getNavigationItemList()) {
+                stamp(item, fileName);
+            }
+        }
+        for (ASTCountry country : site.getCountryList()) {
+            stamp(country, fileName);
+            for (ASTLeague league : country.getLeagueList()) {
+                stamp(league, fileName);
+                for (ASTMatch match : league.getMatchList()) {
+                    stamp(match, fileName);
+                }
+            }
+        }
+    }
+
+    private static void stamp(ASTNode node, String fileName) {
+        node.set_SourcePositionStart(withFile(node.get_SourcePositionStart(), fileName));
+        node.set_SourcePositionEnd(withFile(node.get_SourcePositionEnd(), fileName));
+    }
+
+    private static SourcePosition withFile(SourcePosition p, String fileName) {
+        return new SourcePosition(p.getLine(), p.getColumn(), fileName);
+    }
+
+    private static IOException truncated(InternalError e) {
+        return new IOException("Model file changed while mapped: " + e.getMessage(), e);
+    }
+
+    /**
+     * Decodes UTF-8 from the mapped bytes, {@link #CHUNK} characters at a
+     * time, into a buffer the caller reads from. Malformed input is
+     * replaced, as by {@code new String(bytes, UTF_8)}.
+     */
+    private static final class DecodingReader extends Reader {
+
+        private final ByteBuffer in;
+        private final Path file;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharBuffer chunk = CharBuffer.allocate(CHUNK);
+        private boolean flushed;
+        private boolean closed;
+
+        DecodingReader(ByteBuffer in, Path file) {
+            this.in = in;
+            this.file = file;
+            chunk.flip();
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Reader closed: " + file);
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (!chunk.hasRemaining() && !fill()) {
+                return -1;
+            }
+            int n = Math.min(len, chunk.remaining());
+            chunk.get(cbuf, off, n);
+            return n;
+        }
+
+        /** Decode the next chunk; false at the end of the file. */
+        private boolean fill() throws IOException {
+            chunk.clear();
+            try {
+                if (!flushed) {
+                    // The whole file is mapped, so every call sees the end of input
+                    decoder.decode(in, chunk, true);
+                    if (!in.hasRemaining() && decoder.flush(chunk).isUnderflow()) {
+                        flushed = true;
+                    }
+                }
+            } catch (InternalError e) {
+                throw truncated(e);
+            } finally {
+                chunk.flip();
+            }
+            return chunk.hasRemaining();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
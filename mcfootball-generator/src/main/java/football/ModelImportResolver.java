@@ -0,0 +1,262 @@
+package football;
+
+import football.cocos.CoCoProfile;
+import football.cocos.CoCoStats;
+import football.cocos.FindingsCollector;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTModelImport;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.RunStats;
+import football.generator.SnapshotCache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Resolves the {@code import "X.fb";} declarations of a root model:
+ * parses the imported shards in parallel, merges their countries into
+ * the root site and checks the merged site.
+ * <p>
+ * Each shard is read and hashed, parsed by its own parser and checked
+ * with the league CoCos ({@link FootballSiteCoCos#createFusedLeagueChecker()})
+ * in its own {@link FindingsCollector}, so parsing and checking a large
+ * site scales with the number of shards run at once. A shard's syntax
+ * errors are collected on its own thread as well
+ * ({@link MappedModel#parse(FootballSiteParser, List)}) and listed with
+ * its name in its parse error. The site, navigation and country CoCos
+ * then run once on the merged site, so e.g. a country declared in two
+ * shards (0xFC001) or a navigation item without a country in any shard
+ * (0xFC010) is still found. All checks use the resolver's
+ * {@link CoCoProfile}.
+ * <p>
+ * Rules:
+ * <ul>
+ *   <li>Import paths are relative to the directory of the root model.</li>
+ *   <li>A shard is a complete footballsite; only its countries are
+ *       merged. Its site name and navigation are ignored, so the
+ *       per-country models written by the backend can be imported as
+ *       they are.</li>
+ *   <li>Countries keep the order root countries first, then those of
+ *       each import in declaration order.</li>
+ *   <li>Only the root may import (0xFC912); a missing shard is 0xFC911.</li>
+ * </ul>
+ */
+class ModelImportResolver {
+
+    private final Path rootFile;
+    private final int parallelism;
+    private final RunStats stats;
+    private final CoCoProfile profile;
+    private final Map<String, String> shardKeys = new LinkedHashMap<>();
+
+    /**
+     * @param rootFile    the root model file; imports resolve against its directory
+     * @param parallelism maximum number of shards read and checked at once
+     */
+    ModelImportResolver(Path rootFile, int parallelism) {
+        this(rootFile, parallelism, null, CoCoProfile.STRICT);
+    }
+
+    /**
+     * @param stats   receives parse and CoCo times (summed over the shard
+     *                threads) and the calls and time of every CoCo, or null
+     * @param profile the CoCos to check
+     */
+    ModelImportResolver(Path rootFile, int parallelism, RunStats stats, CoCoProfile profile) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "parallelism must be >= 1, was " + parallelism);
+        }
+        this.rootFile = rootFile.toAbsolutePath();
+        this.parallelism = parallelism;
+        this.stats = stats;
+        this.profile = profile;
+    }
+
+    /**
+     * Parse and check all shards of {@code root}, merge them into it and
+     * check the merged site. {@code root} is modified: the countries of
+     * all shards are appended to it.
+     *
+     * @param root the parsed root model (with imports)
+     * @return the merged site with the findings of the root and all
+     *         shards; without a site if a shard was missing or could not
+     *         be parsed, in which case the merged checks are skipped
+     */
+    ParallelModelChecker.Result resolve(ASTFootballSite root) {
+        String modelPath = rootFile.toString();
+        List<ASTModelImport> imports = root.getModelImportList();
+        List<Shard> shards = loadAll(imports);
+
+        List<String> errors = new ArrayList<>();
+        FindingsCollector rootFindings = new FindingsCollector();
+        RunStats.Timer rootCoCos = start(RunStats.Phase.COCO);
+        rootFindings.run(() -> FootballSiteCoCos.createFusedLeagueChecker(profile, ruleStats())
+                                                .checkAll(root));
+        stop(rootCoCos);
+        errors.addAll(rootFindings.getErrors());
+
+        boolean complete = true;
+        for (Shard shard : shards) {
+            if (shard.parseError != null) {
+                return new ParallelModelChecker.Result(modelPath, null, shard.parseError,
+                        Collections.emptyList());
+            }
+            errors.addAll(shard.errors);
+            complete &= shard.ast != null;
+        }
+        if (!complete) {
+            return new ParallelModelChecker.Result(modelPath, null, null, errors);
+        }
+
+        for (Shard shard : shards) {
+            shardKeys.put(shard.file, shard.sourceKey);
+            root.addAllCountrys(shard.ast.getCountryList());
+        }
+        FindingsCollector siteFindings = new FindingsCollector();
+        RunStats.Timer siteCoCos = start(RunStats.Phase.COCO);
+        siteFindings.run(() -> FootballSiteCoCos.createFusedStructureChecker(profile, ruleStats())
+                                                .checkAll(root));
+        stop(siteCoCos);
+        errors.addAll(siteFindings.getErrors());
+        return new ParallelModelChecker.Result(modelPath, root, null, errors);
+    }
+
+    /**
+     * @return import path → {@link SnapshotCache#sourceKey} of the source
+     *         each shard was parsed from, in import order; filled by a
+     *         {@link #resolve} that merged all shards
+     */
+    Map<String, String> getShardKeys() {
+        return Collections.unmodifiableMap(shardKeys);
+    }
+
+    private List<Shard> loadAll(List<ASTModelImport> imports) {
+        int threads = Math.min(parallelism, imports.size());
+        if (threads <= 1) {
+            List<Shard> shards = new ArrayList<>(imports.size());
+            for (ASTModelImport imp : imports) {
+                shards.add(load(imp));
+            }
+            return shards;
+        }
+
+        List<Callable<Shard>> tasks = new ArrayList<>(imports.size());
+        for (ASTModelImport imp : imports) {
+            tasks.add(() -> load(imp));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Shard> shards = new ArrayList<>(imports.size());
+            for (Future<Shard> f : pool.invokeAll(tasks)) {
+                shards.add(f.get());
+            }
+            return shards;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Shard parsing interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Shard parsing failed", cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Parse and league-check one shard on the current thread. */
+    private Shard load(ASTModelImport imp) {
+        String file = imp.getFile();
+        Path path = rootFile.getParent().resolve(file);
+        Shard shard = new Shard(file);
+        if (!Files.isRegularFile(path)) {
+            shard.errors.add("0xFC911 Import \"" + file + "\" at "
+                    + imp.get_SourcePositionStart() + " not found: " + path);
+            return shard;
+        }
+
+        FootballSiteParser parser = new FootballSiteParser();
+        List<String> syntaxErrors = new ArrayList<>();
+        Optional<ASTFootballSite> optAst;
+        try {
+            RunStats.Timer read = start(RunStats.Phase.READ);
+            MappedModel model = MappedModel.map(path);
+            shard.sourceKey = model.sourceKey();
+            stop(read);
+            RunStats.Timer parse = start(RunStats.Phase.PARSE);
+            optAst = model.parse(parser, syntaxErrors);
+            stop(parse);
+        } catch (IOException e) {
+            shard.parseError = "ERROR reading " + path + ": " + e.getMessage();
+            return shard;
+        }
+        if (!optAst.isPresent() || parser.hasErrors()) {
+            shard.parseError = ParallelModelChecker.parseError("ERROR: Failed to parse "
+                    + path + " (imported by " + rootFile + ")", syntaxErrors);
+            return shard;
+        }
+
+        ASTFootballSite ast = optAst.get();
+        if (!ast.isEmptyModelImports()) {
+            shard.errors.add("0xFC912 Shard \"" + file + "\" imports other models at "
+                    + ast.getModelImportList().get(0).get_SourcePositionStart()
+                    + ". Only the root model may import.");
+            return shard;
+        }
+        FindingsCollector findings = new FindingsCollector();
+        RunStats.Timer cocos = start(RunStats.Phase.COCO);
+        CoCoStats shardStats = stats == null ? null : new CoCoStats();
+        findings.run(() -> FootballSiteCoCos.createFusedLeagueChecker(profile, shardStats)
+                                            .checkAll(ast));
+        stop(cocos);
+        if (shardStats != null) {
+            stats.getCoCoStats().addAll(shardStats);
+        }
+        shard.errors.addAll(findings.getErrors());
+        shard.ast = ast;
+        return shard;
+    }
+
+    /** @return the CoCo statistics of the run, for checks on the calling thread, or null */
+    private CoCoStats ruleStats() {
+        return stats == null ? null : stats.getCoCoStats();
+    }
+
+    private RunStats.Timer start(RunStats.Phase phase) {
+        return stats == null ? null : stats.start(phase);
+    }
+
+    private static void stop(RunStats.Timer timer) {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /** One imported file: its AST, or why there is none. */
+    private static final class Shard {
+        final String file;
+        final List<String> errors = new ArrayList<>();
+        String sourceKey;
+        ASTFootballSite ast;
+        String parseError;
+
+        Shard(String file) {
+            this.file = file;
+        }
+    }
+}
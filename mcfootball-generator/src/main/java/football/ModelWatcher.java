@@ -0,0 +1,165 @@
+package football;
+
+import football.cocos.FootballSiteCoCos;
+import football.cocos.FusedCoCoChecker;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FootballSiteGenerator;
+import football.generator.GenerationReport;
+import de.se_rwth.commons.logging.Log;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watch mode: regenerate the site whenever the model file changes.
+ * <p>
+ * Parser, CoCo checker and generator (with its FreeMarker configuration
+ * and template cache) are created once and stay warm in this JVM. The
+ * generator runs incrementally, so after an edit only the pages whose
+ * content changed are written. A model that fails to parse or violates
+ * a CoCo is reported and the previous site is left as it is.
+ */
+class ModelWatcher {
+
+    /** Wait for the file to be quiet this long before re-reading it. */
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    private final Path modelFile;
+    private final FootballSiteGenerator generator;
+    private final FootballSiteParser parser = new FootballSiteParser();
+    private final FusedCoCoChecker checker = FootballSiteCoCos.createFusedChecker();
+
+    private volatile WatchService watchService;
+    private volatile boolean stopped;
+
+    /**
+     * @param modelFile model to watch (its directory is watched)
+     * @param generator generator to keep warm; switched to incremental
+     */
+    ModelWatcher(Path modelFile, FootballSiteGenerator generator) {
+        this.modelFile = modelFile.toAbsolutePath().normalize();
+        this.generator = generator;
+        generator.setIncremental(true);
+    }
+
+    /**
+     * Generate once, then regenerate on every change of the model file
+     * until {@link #stop()} is called or the thread is interrupted.
+     */
+    void watch() throws IOException {
+        Path dir = modelFile.getParent();
+        Path name = modelFile.getFileName();
+
+        try (WatchService ws = FileSystems.getDefault().newWatchService()) {
+            dir.register(ws, StandardWatchEventKinds.ENTRY_CREATE,
+                             StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = ws;
+            if (stopped) {
+                return;
+            }
+
+            regenerate();
+            System.out.println("Watching " + modelFile + " (Ctrl+C to stop)");
+
+            while (!stopped) {
+                WatchKey key = ws.take();
+                boolean changed = isModelEvent(key, name);
+                // Editors often write in several steps: wait until quiet
+                WatchKey more;
+                while ((more = ws.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isModelEvent(more, name);
+                }
+                if (changed) {
+                    regenerate();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // stop() closed the service
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Stop {@link #watch()} from any thread. */
+    void stop() {
+        stopped = true;
+        WatchService ws = watchService;
+        if (ws != null) {
+            try {
+                ws.close();
+            } catch (IOException e) {
+                System.err.println("WARNING: Cannot close watch service: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Parse, check and (incrementally) generate the model once.
+     *
+     * @return the generation report, or empty if the model was rejected
+     */
+    Optional<GenerationReport> regenerate() {
+        long start = System.nanoTime();
+        // Findings of earlier rounds are already reported
+        Log.clearFindings();
+
+        System.out.println();
+        System.out.println("Parsing: " + modelFile);
+        try {
+            Optional<ASTFootballSite> optAst = parser.parseFootballSite(modelFile.toString());
+            if (!optAst.isPresent() || parser.hasErrors()) {
+                System.err.println("ERROR: Failed to parse " + modelFile
+                        + " — keeping the previous site.");
+                return Optional.empty();
+            }
+
+            ASTFootballSite ast = optAst.get();
+            if (!ast.isEmptyModelImports()) {
+                System.err.println("ERROR: " + modelFile + " imports shards, which"
+                        + " watch mode does not follow — keeping the previous site.");
+                return Optional.empty();
+            }
+            long errorsBefore = Log.getErrorCount();
+            checker.checkAll(ast);
+            if (Log.getErrorCount() > errorsBefore) {
+                System.err.println("ERROR: CoCo violations in " + modelFile
+                        + " — keeping the previous site.");
+                return Optional.empty();
+            }
+
+            GenerationReport report = generator.generate(ast);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("  Pages: " + report + " (" + millis + " ms)");
+            return Optional.of(report);
+        } catch (IOException e) {
+            System.err.println("ERROR reading " + modelFile + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Consume the events of a key and re-arm it.
+     *
+     * @return true if one of them concerns the model file
+     */
+    private static boolean isModelEvent(WatchKey key, Path name) {
+        boolean match = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || name.equals(event.context())) {
+                match = true;
+            }
+        }
+        key.reset();
+        return match;
+    }
+}
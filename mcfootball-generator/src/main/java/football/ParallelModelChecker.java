@@ -0,0 +1,163 @@
+package football;
+
+import football.cocos.FindingsCollector;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Parses and CoCo-checks several model files at the same time (dev mode).
+ * <p>
+ * Every file gets its own parser, checker and {@link FindingsCollector},
+ * so CoCo errors are attributed to the file that caused them instead of
+ * being read off the shared {@code Log} error count. Syntax errors are
+ * collected per file in the same way
+ * ({@link MappedModel#parse(FootballSiteParser, List)}), so files are
+ * read, parsed and checked in parallel. {@link Result#getParseError()}
+ * lists a file's syntax errors with its name.
+ * <p>
+ * A model with imports is resolved by a {@link ModelImportResolver}
+ * (one shard at a time, as the files themselves already run in
+ * parallel) and checked as the merged site.
+ */
+class ParallelModelChecker {
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism maximum number of files processed at once
+     */
+    ParallelModelChecker(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "parallelism must be >= 1, was " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Parse and check all files.
+     *
+     * @return one result per file, in the order of {@code modelPaths}
+     */
+    List<Result> checkAll(List<String> modelPaths) {
+        List<Callable<Result>> tasks = new ArrayList<>(modelPaths.size());
+        for (String path : modelPaths) {
+            tasks.add(() -> check(path));
+        }
+
+        int threads = Math.min(parallelism, modelPaths.size());
+        if (threads <= 1) {
+            List<Result> results = new ArrayList<>(modelPaths.size());
+            for (String path : modelPaths) {
+                results.add(check(path));
+            }
+            return results;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Result> results = new ArrayList<>(modelPaths.size());
+            for (Future<Result> f : pool.invokeAll(tasks)) {
+                results.add(f.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Model checking interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Model checking failed", cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Parse and check one file on the current thread.
+     */
+    static Result check(String modelPath) {
+        FootballSiteParser parser = new FootballSiteParser();
+        List<String> syntaxErrors = new ArrayList<>();
+        Optional<ASTFootballSite> optAst;
+        try {
+            optAst = MappedModel.map(Paths.get(modelPath)).parse(parser, syntaxErrors);
+        } catch (IOException e) {
+            return new Result(modelPath, null, "ERROR reading " + modelPath
+                    + ": " + e.getMessage(), Collections.emptyList());
+        }
+        if (!optAst.isPresent()) {
+            return new Result(modelPath, null, parseError("ERROR: Failed to parse "
+                    + modelPath, syntaxErrors), Collections.emptyList());
+        }
+        if (parser.hasErrors()) {
+            return new Result(modelPath, null, parseError("ERROR: Parse errors in "
+                    + modelPath, syntaxErrors), Collections.emptyList());
+        }
+
+        ASTFootballSite ast = optAst.get();
+        if (!ast.isEmptyModelImports()) {
+            return new ModelImportResolver(Paths.get(modelPath), 1).resolve(ast);
+        }
+        FindingsCollector findings = new FindingsCollector();
+        findings.run(() -> FootballSiteCoCos.createFusedChecker().checkAll(ast));
+        return new Result(modelPath, ast, null, findings.getErrors());
+    }
+
+    /** @return {@code message}, then one indented line per syntax error */
+    static String parseError(String message, List<String> syntaxErrors) {
+        StringBuilder error = new StringBuilder(message);
+        for (String syntaxError : syntaxErrors) {
+            error.append(System.lineSeparator()).append("  ").append(syntaxError);
+        }
+        return error.toString();
+    }
+
+    /** Outcome of parsing and checking one model file. */
+    static final class Result {
+
+        private final String modelPath;
+        private final ASTFootballSite ast;
+        private final String parseError;
+        private final List<String> cocoErrors;
+
+        Result(String modelPath, ASTFootballSite ast, String parseError,
+               List<String> cocoErrors) {
+            this.modelPath = modelPath;
+            this.ast = ast;
+            this.parseError = parseError;
+            this.cocoErrors = cocoErrors;
+        }
+
+        String getModelPath() { return modelPath; }
+
+        /** @return the AST, or empty if the file could not be parsed */
+        Optional<ASTFootballSite> getAst() { return Optional.ofNullable(ast); }
+
+        /** @return message for a file that could not be read or parsed */
+        Optional<String> getParseError() { return Optional.ofNullable(parseError); }
+
+        /** @return CoCo errors of this file only, in reporting order */
+        List<String> getCoCoErrors() { return cocoErrors; }
+
+        /** @return true if the model parsed and passed all CoCos */
+        boolean isValid() {
+            return ast != null && cocoErrors.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package football;
+
+import football.cocos.FootballSiteCoCos;
+import football.cocos.FusedCoCoChecker;
+import football.cocos.SiteMatchIndex;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTLeague;
+import football.generator.CountryView;
+import football.generator.FootballSiteGenerator;
+import football.generator.GenerationReport;
+import football.generator.LeagueView;
+import football.stream.FootballSiteStreamListener;
+import football.stream.FootballSiteStreamReader;
+import de.se_rwth.commons.logging.Log;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Production pipeline for very large models (--stream): each league is
+ * CoCo-checked and rendered as soon as the {@link FootballSiteStreamReader}
+ * has read it, while the rest of the file is still unread.
+ * <p>
+ * Memory holds the league being parsed, the leagues being rendered (at
+ * most one per render thread), the names and seasons of all leagues
+ * for the country pages and the index, and a few ints per match for the
+ * site-wide match CoCos. Differences to the batch path:
+ * <ul>
+ *   <li>The page navigation is rendered from the model's navigation
+ *       block, which therefore is required.</li>
+ *   <li>The site, navigation and country CoCos run on a skeleton of the
+ *       site after the last league, when the pages of all leagues are
+ *       already rendered.</li>
+ *   <li>The skeleton has no matches, so 0xFC029 – 0xFC031 run on a
+ *       {@link SiteMatchIndex} of the teams, stadium, kick-off and league
+ *       of every match, collected league by league.</li>
+ * </ul>
+ * Any CoCo error stops the run, as in production mode. Pages are staged
+ * until the whole model has passed, so a failed run leaves the output
+ * directory as it was.
+ */
+class StreamingSiteRun implements FootballSiteStreamListener {
+
+    private final FootballSiteGenerator generator;
+    private final FusedCoCoChecker leagueChecker = FootballSiteCoCos.createFusedLeagueChecker();
+
+    private FootballSiteGenerator.SiteStream stream;
+    private long errorsBefore;
+
+    /** Current country (name and slug only) and its leagues without matches. */
+    private CountryView country;
+    private List<LeagueView> leagues;
+
+    private final List<CountryView> countries = new ArrayList<>();
+    private final SiteMatchIndex.Builder matches = new SiteMatchIndex.Builder();
+    private int leagueCount;
+    private int matchCount;
+    private GenerationReport report;
+
+    StreamingSiteRun(FootballSiteGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Read, check and render one model.
+     *
+     * @return the report, or empty if the model had syntax or CoCo errors
+     *         (reported through {@code Log})
+     */
+    Optional<GenerationReport> run(Reader in, String fileName) throws IOException {
+        errorsBefore = Log.getErrorCount();
+        try {
+            boolean complete = new FootballSiteStreamReader(in, fileName).read(this);
+            return complete ? Optional.of(report) : Optional.empty();
+        } finally {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+
+    int getCountryCount() { return countries.size(); }
+    int getLeagueCount()  { return leagueCount; }
+    int getMatchCount()   { return matchCount; }
+
+    // ── Listener ─────────────────────────────────────────────────────
+
+    @Override
+    public boolean siteStart(String siteName, List<String> navigation) {
+        if (navigation.isEmpty()) {
+            Log.error("0xFC903 Site '" + siteName + "' has no navigation block."
+                    + " Streaming mode renders the navigation before all countries"
+                    + " are read and needs it.");
+            return false;
+        }
+        List<CountryView> navCountries = new ArrayList<>(navigation.size());
+        for (String name : navigation) {
+            navCountries.add(new CountryView(name, Collections.emptyList()));
+        }
+        stream = generator.openStream(siteName, navCountries);
+        return true;
+    }
+
+    @Override
+    public boolean countryStart(String countryName) {
+        country = new CountryView(countryName, Collections.emptyList());
+        leagues = new ArrayList<>();
+        return true;
+    }
+
+    @Override
+    public boolean league(ASTLeague league) {
+        leagueChecker.checkAll(league);
+        if (Log.getErrorCount() > errorsBefore) {
+            return false;
+        }
+        matches.addLeague(country.getName(), league);
+        LeagueView view = LeagueView.of(league);
+        stream.addLeague(country, view);
+        leagues.add(new LeagueView(view.getName(), view.getSeason(), Collections.emptyList()));
+        leagueCount++;
+        matchCount += view.getMatches().size();
+        return true;
+    }
+
+    @Override
+    public boolean countryEnd() {
+        CountryView complete = new CountryView(country.getName(),
+                Collections.unmodifiableList(leagues));
+        countries.add(complete);
+        stream.addCountry(complete);
+        return true;
+    }
+
+    @Override
+    public boolean siteEnd(ASTFootballSite skeleton) {
+        FootballSiteCoCos.createFusedStructureChecker().checkAll(skeleton, matches.build());
+        if (Log.getErrorCount() > errorsBefore) {
+            return false;
+        }
+        report = stream.finish(Collections.unmodifiableList(countries));
+        return true;
+    }
+}
@@ -2,7 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTMatch;
 import football.footballsite._cocos.FootballSiteASTMatchCoCo;
-import de.se_rwth.commons.logging.Log;
 
 /**
  * CoCo 0xFC023: City name strings must not be blank (all whitespace).
@@ -19,9 +18,10 @@ public class CityNameNotBlank implements FootballSiteASTMatchCoCo {
 
     private void checkCity(ASTMatch node, String city, String fieldName) {
         if (city != null && !city.isEmpty() && city.trim().isEmpty()) {
-            Log.error("0xFC023 Field '" + fieldName
+            CoCoLog.error("0xFC023 Field '" + fieldName
                     + "' in match at " + node.get_SourcePositionStart()
-                    + " contains only whitespace. City names must not be blank.");
+                    + " contains only whitespace. City names must not be blank.",
+                    node.get_SourcePositionStart());
         }
     }
 }
@@ -0,0 +1,54 @@
+package football.cocos;
+
+import de.se_rwth.commons.SourcePosition;
+import de.se_rwth.commons.logging.Log;
+
+/**
+ * Error sink of all FootballSite CoCos.
+ * <p>
+ * Errors go to MontiCore's global {@code Log}, unless the current thread
+ * is running inside {@link FindingsCollector#run}; then they go to that
+ * collector only.
+ */
+public final class CoCoLog {
+
+    private static final ThreadLocal<FindingsCollector> CURRENT = new ThreadLocal<>();
+
+    private CoCoLog() {
+    }
+
+    /**
+     * Report a CoCo error (message starts with its 0xFCnnn code).
+     *
+     * @param pos position of the offending node, also part of the message;
+     *            a collector keeps it to order merged findings
+     */
+    public static void error(String msg, SourcePosition pos) {
+        FindingsCollector collector = CURRENT.get();
+        if (collector != null) {
+            collector.error(msg, pos);
+        } else {
+            Log.error(msg);
+        }
+    }
+
+    /** @return the collector bound to the current thread, or null */
+    static FindingsCollector current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a collector to the current thread (null unbinds).
+     *
+     * @return the previously bound collector, or null
+     */
+    static FindingsCollector bind(FindingsCollector collector) {
+        FindingsCollector previous = CURRENT.get();
+        if (collector != null) {
+            CURRENT.set(collector);
+        } else {
+            CURRENT.remove();
+        }
+        return previous;
+    }
+}
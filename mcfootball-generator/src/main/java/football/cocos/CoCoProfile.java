@@ -0,0 +1,64 @@
+package football.cocos;
+
+import java.util.Locale;
+
+/**
+ * A named selection of the 31 CoCos; rules are numbered as their codes,
+ * 1 for 0xFC001 to 31 for 0xFC031.
+ * <ul>
+ *   <li>{@code strict} checks every CoCo, e.g. for nightly builds.</li>
+ *   <li>{@code fast} checks only the CoCos the generated site depends
+ *       on: unique countries, leagues, navigation items and matches,
+ *       navigation targets, well-formed dates, times and seasons, two
+ *       different teams and no empty fields or leagues. It skips style
+ *       and plausibility rules (capitalisation, name lengths, stadium
+ *       and city names, score bound, season range and consistency,
+ *       kick-off granularity, league size), the site-wide fixture
+ *       checks 0xFC029 – 0xFC031, which index every match of the site
+ *       on each run, and the grammar-unreachable guards 0xFC015,
+ *       0xFC018 and 0xFC019. Meant for frequent runs such
+ *       as live-score refreshes, with a strict run to catch the rest.</li>
+ * </ul>
+ * A model that passed only {@code fast} is not stored as checked in a
+ * snapshot or result cache that a {@code strict} run would trust.
+ */
+public enum CoCoProfile {
+
+    STRICT(),
+    FAST(2, 11, 13, 14, 15, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 29, 30, 31);
+
+    /** Number of CoCos; rules are numbered 1 to {@value}. */
+    public static final int RULES = 31;
+
+    private final boolean[] skipped = new boolean[RULES + 1];
+
+    CoCoProfile(int... skippedRules) {
+        for (int rule : skippedRules) {
+            skipped[rule] = true;
+        }
+    }
+
+    /** @return true if {@code rule} (1 to {@link #RULES}) is checked */
+    public boolean includes(int rule) {
+        return !skipped[rule];
+    }
+
+    /** @return the name used in options and configuration, e.g. "fast" */
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param name a profile name as returned by {@link #getName()}, in any case
+     * @throws IllegalArgumentException if there is no such profile
+     */
+    public static CoCoProfile of(String name) {
+        for (CoCoProfile profile : values()) {
+            if (profile.getName().equalsIgnoreCase(name)) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown CoCo profile '" + name
+                + "' (expected strict or fast)");
+    }
+}
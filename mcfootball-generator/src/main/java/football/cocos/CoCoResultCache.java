@@ -0,0 +1,91 @@
+package football.cocos;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which leagues and countries a check found free of errors,
+ * so that checking a later version of the same model skips them.
+ * <p>
+ * Entries are {@link StructuralHash}es (SHA-256) of a league (its league
+ * and match CoCos) or of a country (its country CoCos and all its
+ * leagues), so a hit stands for unchanged content. Only
+ * clean results are kept: a finding names the source position it was
+ * found at, and a subtree that moved in the model would report a stale
+ * one. Subtrees with findings are checked again every time; in a model
+ * that is mostly valid those are few.
+ * <p>
+ * Each check keeps only the entries it used or added, so the cache holds
+ * at most the leagues and countries of the model checked last, whatever
+ * the number of checks. Results are those of one {@link CoCoProfile};
+ * a check with another profile starts afresh. Checks that share a cache
+ * run one at a time.
+ *
+ * @see FootballSiteCoCos#createIncrementalChecker(CoCoResultCache)
+ */
+public final class CoCoResultCache {
+
+    private Set<String> clean = ConcurrentHashMap.newKeySet();
+    private Set<String> kept = ConcurrentHashMap.newKeySet();
+    private CoCoProfile profile;
+    private volatile int checkedLeagues;
+    private volatile int reusedLeagues;
+
+    /** @return the number of clean leagues and countries remembered */
+    public synchronized int size() {
+        return clean.size();
+    }
+
+    /** Forget all results; the next check checks everything. */
+    public synchronized void clear() {
+        clean.clear();
+        kept.clear();
+    }
+
+    /** @return the number of leagues the last check ran CoCos on */
+    public int getCheckedLeagues() {
+        return checkedLeagues;
+    }
+
+    /** @return the number of leagues the last check found unchanged and skipped */
+    public int getReusedLeagues() {
+        return reusedLeagues;
+    }
+
+    /**
+     * Start a check of the CoCos of {@code profile}, forgetting results
+     * of another profile; called with the lock on this cache held.
+     */
+    void begin(CoCoProfile profile) {
+        if (profile != this.profile) {
+            clean.clear();
+            this.profile = profile;
+        }
+        kept = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * End a check, keeping only the entries it used or added; called
+     * with the lock on this cache held.
+     */
+    void end(int checked, int reused) {
+        clean = kept;
+        kept = ConcurrentHashMap.newKeySet();
+        checkedLeagues = checked;
+        reusedLeagues = reused;
+    }
+
+    /** @return true if a subtree with {@code hash} was found clean, and keep it */
+    boolean reuse(String hash) {
+        if (clean.contains(hash)) {
+            kept.add(hash);
+            return true;
+        }
+        return false;
+    }
+
+    /** Remember that a subtree with {@code hash} was found clean. */
+    void markClean(String hash) {
+        kept.add(hash);
+    }
+}
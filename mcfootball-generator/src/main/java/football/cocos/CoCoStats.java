@@ -0,0 +1,86 @@
+package football.cocos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Invocation count and total time of every CoCo, to see which rules
+ * dominate checking time on real models.
+ * <p>
+ * A call is one application of a rule to the node type it is registered
+ * for, e.g. one league for 0xFC017 and one match for 0xFC003. Dates,
+ * times and seasons are decoded once for all rules that need them; that
+ * time is not charged to any rule.
+ * <p>
+ * A checker fills its {@code CoCoStats} from one thread; checkers on
+ * several threads fill their own and {@link #addAll} them into one.
+ * Measuring costs two {@link System#nanoTime()} calls per rule call, so
+ * checkers only measure when given a {@code CoCoStats}.
+ */
+public final class CoCoStats {
+
+    private final long[] calls = new long[CoCoProfile.RULES + 1];
+    private final long[] nanos = new long[CoCoProfile.RULES + 1];
+
+    /** Count one call of {@code rule} that took {@code nanos}. */
+    void record(int rule, long nanos) {
+        calls[rule]++;
+        this.nanos[rule] += nanos;
+    }
+
+    /** Add {@code nanos} to {@code rule} without counting a call. */
+    void addNanos(int rule, long nanos) {
+        this.nanos[rule] += nanos;
+    }
+
+    /** Add the counts and times of {@code other} to this one. */
+    public synchronized void addAll(CoCoStats other) {
+        synchronized (other) {
+            for (int rule = 1; rule <= CoCoProfile.RULES; rule++) {
+                calls[rule] += other.calls[rule];
+                nanos[rule] += other.nanos[rule];
+            }
+        }
+    }
+
+    /** @return the number of calls of {@code rule} (1 to {@link CoCoProfile#RULES}) */
+    public synchronized long getCalls(int rule) {
+        return calls[rule];
+    }
+
+    /** @return the total time of {@code rule} in nanoseconds */
+    public synchronized long getNanos(int rule) {
+        return nanos[rule];
+    }
+
+    /** @return the rules that were called, the most expensive first */
+    public synchronized List<Integer> getRulesByTime() {
+        List<Integer> rules = new ArrayList<>();
+        for (int rule = 1; rule <= CoCoProfile.RULES; rule++) {
+            if (calls[rule] > 0) {
+                rules.add(rule);
+            }
+        }
+        rules.sort(Comparator.comparingLong((Integer rule) -> nanos[rule]).reversed()
+                             .thenComparingInt(rule -> rule));
+        return rules;
+    }
+
+    /** @return the code of {@code rule}, e.g. "0xFC017" for 17 */
+    public static String code(int rule) {
+        return String.format("0xFC%03d", rule);
+    }
+
+    /** One line per called rule, the most expensive first: code, calls, milliseconds. */
+    @Override
+    public synchronized String toString() {
+        StringBuilder table = new StringBuilder();
+        for (int rule : getRulesByTime()) {
+            table.append(String.format(Locale.ROOT, "%s %10d calls %10.3f ms%n",
+                    code(rule), calls[rule], nanos[rule] / 1e6));
+        }
+        return table.toString();
+    }
+}
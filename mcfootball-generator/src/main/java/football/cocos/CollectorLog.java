@@ -0,0 +1,75 @@
+package football.cocos;
+
+import de.se_rwth.commons.SourcePosition;
+import de.se_rwth.commons.logging.Finding;
+import de.se_rwth.commons.logging.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * MontiCore {@code Log} that sends the errors of a thread running inside
+ * {@link FindingsCollector#run} to that collector, as {@link CoCoLog}
+ * does for CoCo errors. Syntax errors of models parsed at the same time
+ * on several threads thus stay apart and never reach the shared
+ * findings, which are kept in a synchronized list for all other threads.
+ * <p>
+ * {@link FindingsCollector#run} installs it; a later {@code Log.init()}
+ * replaces it until the next run.
+ */
+final class CollectorLog extends Log {
+
+    private final List<Finding> shared = Collections.synchronizedList(new ArrayList<>());
+
+    private CollectorLog() {
+    }
+
+    /**
+     * Make this the MontiCore {@code Log}, keeping the findings and the
+     * fail-quick setting of the current one.
+     */
+    static void install() {
+        if (getLog() instanceof CollectorLog) {
+            return;
+        }
+        synchronized (CollectorLog.class) {
+            if (getLog() instanceof CollectorLog) {
+                return;
+            }
+            CollectorLog log = new CollectorLog();
+            log.shared.addAll(Log.getFindings());
+            boolean failQuick = Log.isFailQuickEnabled();
+            setLog(log);
+            Log.enableFailQuick(failQuick);
+        }
+    }
+
+    @Override
+    protected void doAddFinding(Finding finding) {
+        FindingsCollector collector = CoCoLog.current();
+        if (collector != null && finding.isError()) {
+            collector.error(finding.getMsg(), finding.getSourcePosition()
+                    .orElse(SourcePosition.getDefaultSourcePosition()));
+        } else {
+            shared.add(finding);
+        }
+    }
+
+    @Override
+    protected List<Finding> doGetFindings() {
+        return shared;
+    }
+
+    @Override
+    protected long doGetErrorCount() {
+        synchronized (shared) {
+            return shared.stream().filter(Finding::isError).count();
+        }
+    }
+
+    @Override
+    protected void doClearFindings() {
+        shared.clear();
+    }
+}
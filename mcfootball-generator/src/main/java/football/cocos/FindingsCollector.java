@@ -0,0 +1,127 @@
+package football.cocos;
+
+import de.se_rwth.commons.SourcePosition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the CoCo errors of one model, separate from MontiCore's
+ * global {@code Log}, so several models can be checked at the same time
+ * without their error counts getting mixed up. Errors MontiCore itself
+ * reports to {@code Log} while the collector runs, e.g. syntax errors of
+ * a parse, are collected too ({@link CollectorLog}).
+ * <p>
+ * A collector may have an error limit: the error that reaches it stops
+ * the check running in {@link #run}, so a badly broken model costs no
+ * more time and memory than the limit allows.
+ * <p>
+ * A collector is used by one thread at a time (see {@link #run}).
+ */
+public class FindingsCollector {
+
+    private final int maxErrors;
+    private final List<String> errors = new ArrayList<>();
+    private final List<SourcePosition> positions = new ArrayList<>();
+    private boolean limitReached;
+
+    /** A collector without error limit. */
+    public FindingsCollector() {
+        this(0);
+    }
+
+    /**
+     * @param maxErrors number of errors after which the check is
+     *                  stopped; 0 for no limit
+     */
+    public FindingsCollector(int maxErrors) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("maxErrors must be >= 0, was " + maxErrors);
+        }
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Run {@code task} with this collector receiving all
+     * {@link CoCoLog#error} and {@code Log} errors of the current thread.
+     * The previous binding (if any) is restored afterwards.
+     * If the error limit is reached, {@code task} is stopped there and
+     * this method returns normally.
+     */
+    public void run(Runnable task) {
+        CollectorLog.install();
+        FindingsCollector previous = CoCoLog.bind(this);
+        try {
+            task.run();
+        } catch (LimitReached e) {
+            if (e.collector != this) {
+                throw e;
+            }
+        } finally {
+            CoCoLog.bind(previous);
+        }
+    }
+
+    /** Record one CoCo error; stops the running check at the limit. */
+    void error(String msg, SourcePosition pos) {
+        if (limitReached) {
+            throw new LimitReached(this);
+        }
+        errors.add(msg);
+        positions.add(pos);
+        if (maxErrors > 0 && errors.size() >= maxErrors) {
+            limitReached = true;
+            throw new LimitReached(this);
+        }
+    }
+
+    /**
+     * @return number of errors this collector still accepts before it
+     *         stops the check; 0 for no limit
+     */
+    int remaining() {
+        return maxErrors == 0 ? 0 : Math.max(1, maxErrors - errors.size());
+    }
+
+    /** @return true if the check was stopped at the error limit */
+    public boolean isLimitReached() {
+        return limitReached;
+    }
+
+    /** @return the error limit, 0 for none */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /** @return positions of the collected errors, parallel to {@link #getErrors()} */
+    public List<SourcePosition> getPositions() {
+        return Collections.unmodifiableList(positions);
+    }
+
+    /** @return true if at least one error was collected */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /** @return number of collected errors */
+    public int getErrorCount() {
+        return errors.size();
+    }
+
+    /** @return collected error messages, in reporting order */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /** Unwinds the check of {@link #collector} when its limit is reached. */
+    private static final class LimitReached extends RuntimeException {
+
+        final transient FindingsCollector collector;
+
+        LimitReached(FindingsCollector collector) {
+            super(null, null, false, false);
+            this.collector = collector;
+        }
+    }
+}
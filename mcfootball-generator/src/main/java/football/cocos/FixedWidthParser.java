@@ -0,0 +1,104 @@
+package football.cocos;
+
+/**
+ * Decodes the fixed-width date, time and season strings of a model into
+ * packed {@code int}s without allocating: no {@code Matcher}, no
+ * substring, no {@code Integer.parseInt}.
+ * <p>
+ * The shapes are exactly those the CoCos have always accepted, where a
+ * digit is an ASCII digit {@code 0-9}:
+ * <ul>
+ *   <li>date {@code YYYY-MM-DD} → {@code YYYYMMDD}, e.g. 20250901</li>
+ *   <li>time {@code HH:MM} → {@code HHMM}, e.g. 1530; the shape only, so
+ *       "25:10" decodes and {@link #isValidTime} rejects it</li>
+ *   <li>season {@code YYYY-YYYY} → {@code start * 10000 + end}</li>
+ * </ul>
+ * Anything else decodes to {@link #MALFORMED}. Month and day ranges are
+ * not checked, as before.
+ */
+final class FixedWidthParser {
+
+    /** Result for a string that does not have the expected shape. */
+    static final int MALFORMED = -1;
+
+    private FixedWidthParser() {
+    }
+
+    /** @return {@code YYYYMMDD} of a {@code YYYY-MM-DD} date, or {@link #MALFORMED} */
+    static int parseDate(String s) {
+        if (s.length() != 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return MALFORMED;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        if ((year | month | day) < 0) {
+            return MALFORMED;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    /** @return {@code HHMM} of an {@code HH:MM} time, or {@link #MALFORMED} */
+    static int parseTime(String s) {
+        if (s.length() != 5 || s.charAt(2) != ':') {
+            return MALFORMED;
+        }
+        int hours = digits(s, 0, 2);
+        int minutes = digits(s, 3, 2);
+        if ((hours | minutes) < 0) {
+            return MALFORMED;
+        }
+        return hours * 100 + minutes;
+    }
+
+    /** @return {@code start * 10000 + end} of a {@code YYYY-YYYY} season, or {@link #MALFORMED} */
+    static int parseSeason(String s) {
+        if (s.length() != 9 || s.charAt(4) != '-') {
+            return MALFORMED;
+        }
+        int start = digits(s, 0, 4);
+        int end = digits(s, 5, 4);
+        if ((start | end) < 0) {
+            return MALFORMED;
+        }
+        return start * 10000 + end;
+    }
+
+    static int year(int date) {
+        return date / 10000;
+    }
+
+    static int hours(int time) {
+        return time / 100;
+    }
+
+    static int minutes(int time) {
+        return time % 100;
+    }
+
+    /** @return true for a decoded time within 00:00 – 23:59 */
+    static boolean isValidTime(int time) {
+        return time != MALFORMED && hours(time) <= 23 && minutes(time) <= 59;
+    }
+
+    static int seasonStart(int season) {
+        return season / 10000;
+    }
+
+    static int seasonEnd(int season) {
+        return season % 10000;
+    }
+
+    /** @return the value of {@code count} ASCII digits at {@code from}, or -1 */
+    private static int digits(String s, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+}
@@ -2,6 +2,8 @@ package football.cocos;
 
 import football.footballsite._cocos.FootballSiteCoCoChecker;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Registry for all FootballSite context conditions.
  * Creates and configures a FootballSiteCoCoChecker with all CoCo rules.
@@ -34,51 +36,180 @@ import football.footballsite._cocos.FootballSiteCoCoChecker;
  * 0xFC025  MatchTimeGranularity                — minutes must be 00/15/30/45
  * 0xFC026  LeagueSeasonConsistentWithinCountry — all leagues in a country use same season
  * 0xFC027  MaxMatchesPerLeague                 — ≤ 380 matches per league
+ * 0xFC028  SiteHasCountryOrImport              — site declares or imports ≥ 1 country
+ * 0xFC029  TeamPlaysOncePerDay                 — a team plays in ≤ 1 league per day
+ * 0xFC030  StadiumNotDoubleBooked              — ≤ 1 fixture per stadium and kick-off
+ * 0xFC031  TeamInOneCountry                    — a team plays in ≤ 1 country
  * </pre>
+ *
+ * 0xFC029 – 0xFC031 compare matches across leagues and countries; they
+ * query a {@link SiteMatchIndex} of the whole site instead of comparing
+ * every pair of matches.
+ *
+ * Each {@code create*Checker} has a {@code createFused*Checker}
+ * counterpart that checks the same CoCos in a single traversal
+ * ({@link FusedCoCoChecker}); a CoCo added here must be added there too.
+ * The fused and parallel checkers can also check a {@link CoCoProfile}
+ * and count and time every rule into a {@link CoCoStats}.
  */
 public class FootballSiteCoCos {
 
     /**
-     * Create a fully configured CoCo checker with all 27 context conditions.
+     * Create a fully configured CoCo checker with all 31 context conditions.
      *
      * @return a ready-to-use checker
      */
     public static FootballSiteCoCoChecker createChecker() {
         FootballSiteCoCoChecker checker = new FootballSiteCoCoChecker();
+        addStructureCoCos(checker);
+        addLeagueCoCos(checker);
+        return checker;
+    }
+
+    /**
+     * Create a checker with the 14 site, navigation and country CoCos.
+     * Except for the site-wide match CoCos 0xFC029 – 0xFC031, they only
+     * look at names and seasons, so they can check a site skeleton whose
+     * leagues have no matches (streaming mode); in a skeleton, the
+     * site-wide match CoCos find nothing.
+     */
+    public static FootballSiteCoCoChecker createStructureChecker() {
+        FootballSiteCoCoChecker checker = new FootballSiteCoCoChecker();
+        addStructureCoCos(checker);
+        return checker;
+    }
+
+    /**
+     * Create a checker with the 17 league and match CoCos, which only
+     * need one league at a time (streaming mode).
+     */
+    public static FootballSiteCoCoChecker createLeagueChecker() {
+        FootballSiteCoCoChecker checker = new FootballSiteCoCoChecker();
+        addLeagueCoCos(checker);
+        return checker;
+    }
+
+    /**
+     * Create a {@link FusedCoCoChecker} with all 31 context conditions,
+     * reporting the same findings as {@link #createChecker()}.
+     */
+    public static FusedCoCoChecker createFusedChecker() {
+        return createFusedChecker(CoCoProfile.STRICT, null);
+    }
+
+    /**
+     * Create a {@link FusedCoCoChecker} with the CoCos of {@code profile}.
+     *
+     * @param stats receives the calls and times of every rule, or null
+     */
+    public static FusedCoCoChecker createFusedChecker(CoCoProfile profile, CoCoStats stats) {
+        return new FusedCoCoChecker(true, true, profile, stats);
+    }
+
+    /** Fused counterpart of {@link #createStructureChecker()}. */
+    public static FusedCoCoChecker createFusedStructureChecker() {
+        return createFusedStructureChecker(CoCoProfile.STRICT, null);
+    }
+
+    /** {@link #createFusedStructureChecker()} with the CoCos of {@code profile}. */
+    public static FusedCoCoChecker createFusedStructureChecker(CoCoProfile profile,
+                                                               CoCoStats stats) {
+        return new FusedCoCoChecker(true, false, profile, stats);
+    }
+
+    /** Fused counterpart of {@link #createLeagueChecker()}. */
+    public static FusedCoCoChecker createFusedLeagueChecker() {
+        return createFusedLeagueChecker(CoCoProfile.STRICT, null);
+    }
+
+    /** {@link #createFusedLeagueChecker()} with the CoCos of {@code profile}. */
+    public static FusedCoCoChecker createFusedLeagueChecker(CoCoProfile profile,
+                                                            CoCoStats stats) {
+        return new FusedCoCoChecker(false, true, profile, stats);
+    }
+
+    /**
+     * Create a {@link ParallelCoCoChecker} with all 31 context
+     * conditions, checking one country per task on {@code pool}.
+     */
+    public static ParallelCoCoChecker createParallelChecker(ForkJoinPool pool) {
+        return createParallelChecker(pool, CoCoProfile.STRICT, null);
+    }
+
+    /**
+     * {@link #createParallelChecker(ForkJoinPool)} with the CoCos of
+     * {@code profile}.
+     *
+     * @param stats receives the calls and times of every rule, or null
+     */
+    public static ParallelCoCoChecker createParallelChecker(ForkJoinPool pool,
+                                                            CoCoProfile profile,
+                                                            CoCoStats stats) {
+        return new ParallelCoCoChecker(pool, null, profile, stats);
+    }
+
+    /** {@link #createParallelChecker(ForkJoinPool)} on the common pool. */
+    public static ParallelCoCoChecker createParallelChecker() {
+        return createParallelChecker(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Like {@link #createParallelChecker()}, but leagues and countries
+     * that {@code cache} knows as clean from an earlier check are
+     * skipped, so checking a model again costs about as much as its
+     * changed leagues. Findings are the same as without the cache.
+     */
+    public static ParallelCoCoChecker createIncrementalChecker(CoCoResultCache cache) {
+        return createIncrementalChecker(cache, CoCoProfile.STRICT, null);
+    }
 
-        // ── Phase 5 — original CoCos ─────────────────────────────────
+    /**
+     * {@link #createIncrementalChecker(CoCoResultCache)} with the CoCos
+     * of {@code profile}. A cache remembers results of one profile; a
+     * check with another profile starts it afresh.
+     *
+     * @param stats receives the calls and times of every rule that ran, or null
+     */
+    public static ParallelCoCoChecker createIncrementalChecker(CoCoResultCache cache,
+                                                               CoCoProfile profile,
+                                                               CoCoStats stats) {
+        return new ParallelCoCoChecker(ForkJoinPool.commonPool(), cache, profile, stats);
+    }
+
+    private static void addStructureCoCos(FootballSiteCoCoChecker checker) {
         checker.addCoCo(new CountryNameIsUnique());          // 0xFC001
-        checker.addCoCo(new LeagueNameStartUpperCase());     // 0xFC002
-        checker.addCoCo(new MatchHasTwoDifferentTeams());    // 0xFC003
         checker.addCoCo(new NavigationCountryExists());      // 0xFC004
         checker.addCoCo(new NoDuplicateLeaguePerCountry());  // 0xFC005
-        checker.addCoCo(new MatchDateFormatIsValid());       // 0xFC006
-
-        // ── Phase 5b — extended CoCos ────────────────────────────────
-        checker.addCoCo(new MatchTimeFormatIsValid());       // 0xFC007
-        checker.addCoCo(new MatchFieldsNotEmpty());          // 0xFC008
-        checker.addCoCo(new SeasonFormatIsValid());          // 0xFC009
         checker.addCoCo(new NavigationNoDuplicates());       // 0xFC010
         checker.addCoCo(new CountryNameStartUpperCase());    // 0xFC011
         checker.addCoCo(new NavigationMatchesAllCountries()); // 0xFC012
+        checker.addCoCo(new CountryHasAtLeastOneLeague());   // 0xFC015  (grammar-unreachable, defensive)
+        checker.addCoCo(new NavigationNotEmpty());           // 0xFC018  (grammar-unreachable, defensive)
+        checker.addCoCo(new CountryNameLengthLimit());       // 0xFC021
+        checker.addCoCo(new LeagueSeasonConsistentWithinCountry()); // 0xFC026
+        checker.addCoCo(new SiteHasCountryOrImport());       // 0xFC028
+        checker.addCoCo(new TeamPlaysOncePerDay());          // 0xFC029
+        checker.addCoCo(new StadiumNotDoubleBooked());       // 0xFC030
+        checker.addCoCo(new TeamInOneCountry());             // 0xFC031
+    }
 
-        // ── Phase 6 — extended CoCos (0xFC013–0xFC027) ───────────────
+    private static void addLeagueCoCos(FootballSiteCoCoChecker checker) {
+        checker.addCoCo(new LeagueNameStartUpperCase());     // 0xFC002
+        checker.addCoCo(new MatchHasTwoDifferentTeams());    // 0xFC003
+        checker.addCoCo(new MatchDateFormatIsValid());       // 0xFC006
+        checker.addCoCo(new MatchTimeFormatIsValid());       // 0xFC007
+        checker.addCoCo(new MatchFieldsNotEmpty());          // 0xFC008
+        checker.addCoCo(new SeasonFormatIsValid());          // 0xFC009
         checker.addCoCo(new MatchDateWithinSeason());        // 0xFC013
         checker.addCoCo(new StadiumNameMinLength());         // 0xFC014
-        checker.addCoCo(new CountryHasAtLeastOneLeague());   // 0xFC015  (grammar-unreachable, defensive)
         checker.addCoCo(new LeagueHasAtLeastOneMatch());     // 0xFC016
         checker.addCoCo(new UniqueMatchPerLeague());         // 0xFC017
-        checker.addCoCo(new NavigationNotEmpty());           // 0xFC018  (grammar-unreachable, defensive)
         checker.addCoCo(new ScoreNonNegative());             // 0xFC019  (grammar-unreachable, defensive)
         checker.addCoCo(new ScoreReasonableUpperBound());    // 0xFC020
-        checker.addCoCo(new CountryNameLengthLimit());       // 0xFC021
         checker.addCoCo(new LeagueNameLengthLimit());        // 0xFC022
         checker.addCoCo(new CityNameNotBlank());             // 0xFC023
         checker.addCoCo(new SeasonYearsConsecutive());       // 0xFC024
         checker.addCoCo(new MatchTimeGranularity());         // 0xFC025  (collision buddy: 0xFC007)
-        checker.addCoCo(new LeagueSeasonConsistentWithinCountry()); // 0xFC026
         checker.addCoCo(new MaxMatchesPerLeague());          // 0xFC027
-
-        return checker;
     }
 }
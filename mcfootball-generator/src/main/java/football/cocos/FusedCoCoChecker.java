@@ -0,0 +1,299 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTFootballSiteNode;
+import football.footballsite._ast.ASTLeague;
+import football.footballsite._ast.ASTMatch;
+import football.footballsite._ast.ASTNavigation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Checks the same CoCos as the {@code FootballSiteCoCoChecker}s of
+ * {@link FootballSiteCoCos} in one traversal of the AST.
+ * <p>
+ * The generated checker hands every node to every CoCo registered for
+ * its type, and several league CoCos loop over the matches again, each
+ * decoding the date, time and season on its own. This checker decodes
+ * a league's season once and each match's date, time and duplicate key
+ * once, with {@link FixedWidthParser}, and feeds the results to all
+ * rules that need them (0xFC006, 0xFC007, 0xFC009, 0xFC013, 0xFC017, 0xFC024,
+ * 0xFC025). The site-wide match rules (0xFC029 – 0xFC031) share one
+ * {@link SiteMatchIndex}, built once per site before the site rules run.
+ * The other rules are called directly on their node.
+ * <p>
+ * Findings are the same, in the same order, as those of the matching
+ * generated checker: per node, rules run in registration order, a node
+ * before its children. A {@link CoCoProfile} leaves out the rules it
+ * skips; with a {@link CoCoStats}, every rule call is counted and timed.
+ * A checker is used by one thread at a time.
+ */
+public final class FusedCoCoChecker {
+
+    private static final int MALFORMED = FixedWidthParser.MALFORMED;
+
+    private final boolean leagues;
+    private final CoCoProfile profile;
+    private final CoCoStats stats;
+
+    // Rules per node type, in registration order
+    private final List<Rule<ASTFootballSite>> siteRules = new ArrayList<>();
+    private final List<Rule<ASTNavigation>> navigationRules = new ArrayList<>();
+    private final List<Rule<ASTCountry>> countryRules = new ArrayList<>();
+    /** League rules before the pass over the matches. */
+    private final List<Rule<ASTLeague>> leagueRules = new ArrayList<>();
+    /** League rules after the pass over the matches. */
+    private final List<Rule<ASTLeague>> lateLeagueRules = new ArrayList<>();
+    private final List<Rule<ASTMatch>> matchRules = new ArrayList<>();
+
+    private final boolean siteIndex;
+    private final MatchKeySet matchKeys = new MatchKeySet();
+    private final List<ASTMatch> duplicates = new ArrayList<>();
+
+    // Index of the site, decoded fields of the league and match being checked
+    private SiteMatchIndex index;
+    private int season;
+    private int date;
+    private int time;
+
+    /**
+     * @param structure check the site, navigation and country CoCos
+     * @param leagues   check the league and match CoCos
+     * @param profile   the CoCos to check
+     * @param stats     receives the calls and times of every rule, or null
+     * @see FootballSiteCoCos#createFusedChecker()
+     */
+    FusedCoCoChecker(boolean structure, boolean leagues, CoCoProfile profile, CoCoStats stats) {
+        this.leagues = leagues;
+        this.profile = profile;
+        this.stats = stats;
+        if (structure) {
+            add(siteRules, 1, new CountryNameIsUnique()::check);
+            add(siteRules, 4, new NavigationCountryExists()::check);
+            add(siteRules, 12, new NavigationMatchesAllCountries()::check);
+            add(siteRules, 28, new SiteHasCountryOrImport()::check);
+            add(siteRules, 29, site -> TeamPlaysOncePerDay.check(index));
+            add(siteRules, 30, site -> StadiumNotDoubleBooked.check(index));
+            add(siteRules, 31, site -> TeamInOneCountry.check(index));
+
+            add(navigationRules, 10, new NavigationNoDuplicates()::check);
+            add(navigationRules, 18, new NavigationNotEmpty()::check);
+
+            add(countryRules, 5, new NoDuplicateLeaguePerCountry()::check);
+            add(countryRules, 11, new CountryNameStartUpperCase()::check);
+            add(countryRules, 15, new CountryHasAtLeastOneLeague()::check);
+            add(countryRules, 21, new CountryNameLengthLimit()::check);
+            add(countryRules, 26, new LeagueSeasonConsistentWithinCountry()::check);
+        }
+        if (leagues) {
+            add(leagueRules, 2, new LeagueNameStartUpperCase()::check);
+            add(leagueRules, 9, league -> SeasonFormatIsValid.check(league, season != MALFORMED));
+
+            add(lateLeagueRules, 16, new LeagueHasAtLeastOneMatch()::check);
+            add(lateLeagueRules, 17, league -> {
+                for (ASTMatch match : duplicates) {
+                    UniqueMatchPerLeague.reportDuplicate(league, match);
+                }
+            });
+            add(lateLeagueRules, 22, new LeagueNameLengthLimit()::check);
+            add(lateLeagueRules, 24, league -> {
+                if (season != MALFORMED) {
+                    SeasonYearsConsecutive.check(league, FixedWidthParser.seasonStart(season),
+                            FixedWidthParser.seasonEnd(season));
+                }
+            });
+            add(lateLeagueRules, 27, new MaxMatchesPerLeague()::check);
+
+            add(matchRules, 3, new MatchHasTwoDifferentTeams()::check);
+            add(matchRules, 6, match -> MatchDateFormatIsValid.check(match, date != MALFORMED));
+            add(matchRules, 7, match -> MatchTimeFormatIsValid.check(match,
+                    FixedWidthParser.isValidTime(time)));
+            add(matchRules, 8, new MatchFieldsNotEmpty()::check);
+            add(matchRules, 14, new StadiumNameMinLength()::check);
+            add(matchRules, 19, new ScoreNonNegative()::check);
+            add(matchRules, 20, new ScoreReasonableUpperBound()::check);
+            add(matchRules, 23, new CityNameNotBlank()::check);
+            add(matchRules, 25, match -> {
+                if (time != MALFORMED) {
+                    MatchTimeGranularity.check(match, FixedWidthParser.minutes(time));
+                }
+            });
+        }
+        siteIndex = structure
+                && (profile.includes(29) || profile.includes(30) || profile.includes(31));
+    }
+
+    private <N> void add(List<Rule<N>> rules, int number, Consumer<N> check) {
+        if (profile.includes(number)) {
+            rules.add(new Rule<>(number, check));
+        }
+    }
+
+    /**
+     * Check {@code node} and everything below it, like
+     * {@code FootballSiteCoCoChecker.checkAll}.
+     */
+    public void checkAll(ASTFootballSiteNode node) {
+        if (node instanceof ASTFootballSite) {
+            checkSite((ASTFootballSite) node);
+        } else if (node instanceof ASTNavigation) {
+            checkNavigation((ASTNavigation) node);
+        } else if (node instanceof ASTCountry) {
+            checkCountry((ASTCountry) node);
+        } else if (node instanceof ASTLeague) {
+            checkLeague((ASTLeague) node);
+        } else if (node instanceof ASTMatch) {
+            checkMatch((ASTMatch) node);
+        }
+    }
+
+    /**
+     * Check {@code site} and everything below it, but run 0xFC029 –
+     * 0xFC031 on {@code matches} in place of the matches of {@code site},
+     * for a site whose leagues were streamed and dropped.
+     */
+    public void checkAll(ASTFootballSite site, SiteMatchIndex matches) {
+        checkSiteOnly(site, matches);
+        for (ASTCountry country : site.getCountryList()) {
+            checkCountry(country);
+        }
+    }
+
+    private void checkSite(ASTFootballSite site) {
+        checkSiteOnly(site);
+        for (ASTCountry country : site.getCountryList()) {
+            checkCountry(country);
+        }
+    }
+
+    /** Check the site and its navigation, but none of its countries. */
+    void checkSiteOnly(ASTFootballSite site) {
+        checkSiteOnly(site, siteIndex ? SiteMatchIndex.of(site) : null);
+    }
+
+    private void checkSiteOnly(ASTFootballSite site, SiteMatchIndex matches) {
+        index = siteIndex ? matches : null;
+        run(siteRules, site);
+        index = null;
+        if (site.isPresentNavigation()) {
+            checkNavigation(site.getNavigation());
+        }
+    }
+
+    private void checkNavigation(ASTNavigation navigation) {
+        run(navigationRules, navigation);
+    }
+
+    private void checkCountry(ASTCountry country) {
+        run(countryRules, country);
+        for (ASTLeague league : country.getLeagueList()) {
+            checkLeague(league);
+        }
+    }
+
+    /**
+     * One pass over the matches decodes their dates and times and finds
+     * 0xFC013 and 0xFC017; a second pass reports the match CoCos in
+     * match order, after all league CoCos, as the generated checker does.
+     */
+    private void checkLeague(ASTLeague league) {
+        if (!leagues) {
+            return;
+        }
+        season = FixedWidthParser.parseSeason(league.getSeason());
+        run(leagueRules, league);
+
+        boolean withinSeason = profile.includes(13) && season != MALFORMED;
+        boolean unique = profile.includes(17);
+        int startYear = FixedWidthParser.seasonStart(season);
+        int endYear = FixedWidthParser.seasonEnd(season);
+        long withinSeasonNanos = 0;
+        long uniqueNanos = 0;
+
+        List<ASTMatch> matches = league.getMatchList();
+        int[] dates = new int[matches.size()];
+        int[] times = new int[matches.size()];
+        matchKeys.clear();
+        duplicates.clear();
+        for (int i = 0; i < dates.length; i++) {
+            ASTMatch match = matches.get(i);
+            dates[i] = FixedWidthParser.parseDate(match.getMatchDate());
+            times[i] = FixedWidthParser.parseTime(match.getMatchTime());
+            long start = clock();
+            if (withinSeason && dates[i] != MALFORMED) {
+                // 0xFC013
+                MatchDateWithinSeason.check(league, startYear, endYear, match,
+                        FixedWidthParser.year(dates[i]));
+            }
+            long keyed = clock();
+            if (unique && !matchKeys.add(match, dates[i], times[i])) {
+                duplicates.add(match);
+            }
+            withinSeasonNanos += keyed - start;
+            uniqueNanos += clock() - keyed;
+        }
+        if (stats != null) {
+            if (withinSeason) {
+                stats.record(13, withinSeasonNanos);
+            }
+            if (unique) {
+                stats.addNanos(17, uniqueNanos);
+            }
+        }
+
+        run(lateLeagueRules, league);
+        for (int i = 0; i < dates.length; i++) {
+            checkMatch(matches.get(i), dates[i], times[i]);
+        }
+    }
+
+    private void checkMatch(ASTMatch match) {
+        if (leagues) {
+            checkMatch(match, FixedWidthParser.parseDate(match.getMatchDate()),
+                    FixedWidthParser.parseTime(match.getMatchTime()));
+        }
+    }
+
+    /**
+     * @param date    the decoded match date, or {@link #MALFORMED}
+     * @param time    the decoded match time, or {@link #MALFORMED}
+     * @see FixedWidthParser
+     */
+    private void checkMatch(ASTMatch match, int date, int time) {
+        this.date = date;
+        this.time = time;
+        run(matchRules, match);
+    }
+
+    private <N> void run(List<Rule<N>> rules, N node) {
+        for (int i = 0; i < rules.size(); i++) {
+            Rule<N> rule = rules.get(i);
+            if (stats == null) {
+                rule.check.accept(node);
+            } else {
+                long start = System.nanoTime();
+                rule.check.accept(node);
+                stats.record(rule.number, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /** @return the current time if rules are timed, else 0 */
+    private long clock() {
+        return stats == null ? 0 : System.nanoTime();
+    }
+
+    /** One CoCo for nodes of type {@code N}. */
+    private static final class Rule<N> {
+        final int number;
+        final Consumer<N> check;
+
+        Rule(int number, Consumer<N> check) {
+            this.number = number;
+            this.check = check;
+        }
+    }
+}
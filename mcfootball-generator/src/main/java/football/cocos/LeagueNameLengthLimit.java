@@ -2,7 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTLeague;
 import football.footballsite._cocos.FootballSiteASTLeagueCoCo;
-import de.se_rwth.commons.logging.Log;
 
 /**
  * CoCo 0xFC022: League name must not exceed 40 characters.
@@ -16,9 +15,10 @@ public class LeagueNameLengthLimit implements FootballSiteASTLeagueCoCo {
     public void check(ASTLeague node) {
         String name = node.getName();
         if (name.length() > MAX_LENGTH) {
-            Log.error("0xFC022 League name '" + name.substring(0, 20) + "...' at "
+            CoCoLog.error("0xFC022 League name '" + name.substring(0, 20) + "...' at "
                     + node.get_SourcePositionStart()
-                    + " is " + name.length() + " characters long (maximum " + MAX_LENGTH + ").");
+                    + " is " + name.length() + " characters long (maximum " + MAX_LENGTH + ").",
+                    node.get_SourcePositionStart());
         }
     }
 }
@@ -3,7 +3,6 @@ package football.cocos;
 import football.footballsite._ast.ASTCountry;
 import football.footballsite._ast.ASTLeague;
 import football.footballsite._cocos.FootballSiteASTCountryCoCo;
-import de.se_rwth.commons.logging.Log;
 
 import java.util.List;
 
@@ -24,12 +23,13 @@ public class LeagueSeasonConsistentWithinCountry implements FootballSiteASTCount
         for (int i = 1; i < leagues.size(); i++) {
             ASTLeague league = leagues.get(i);
             if (!firstSeason.equals(league.getSeason())) {
-                Log.error("0xFC026 League '" + league.getName()
+                CoCoLog.error("0xFC026 League '" + league.getName()
                         + "' at " + league.get_SourcePositionStart()
                         + " has season '" + league.getSeason()
                         + "' which differs from '" + firstSeason
                         + "' used by other leagues in country '"
-                        + node.getName() + "'.");
+                        + node.getName() + "'.",
+                        league.get_SourcePositionStart());
             }
         }
     }
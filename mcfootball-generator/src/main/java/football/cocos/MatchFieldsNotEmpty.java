@@ -2,7 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTMatch;
 import football.footballsite._cocos.FootballSiteASTMatchCoCo;
-import de.se_rwth.commons.logging.Log;
 
 /**
  * CoCo 0xFC008: Match string fields (homeTeam, awayTeam, homeCity, awayCity, stadium)
@@ -26,9 +25,10 @@ public class MatchFieldsNotEmpty implements FootballSiteASTMatchCoCo {
 
     private void checkField(ASTMatch node, String value, String fieldName) {
         if (value == null || value.isEmpty()) {
-            Log.error("0xFC008 Empty '" + fieldName
+            CoCoLog.error("0xFC008 Empty '" + fieldName
                     + "' in match at " + node.get_SourcePositionStart()
-                    + ". All match fields must be non-empty.");
+                    + ". All match fields must be non-empty.",
+                    node.get_SourcePositionStart());
         }
     }
 }
@@ -0,0 +1,110 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTMatch;
+
+import java.util.Arrays;
+
+/**
+ * The identifying tuples (date, time, homeTeam, awayTeam) of the matches
+ * seen so far, for finding duplicate matches (0xFC017).
+ * <p>
+ * A tuple is kept as two {@code long}s in an open-addressing table:
+ * <ul>
+ *   <li>date and time, each decoded by {@link FixedWidthParser} into the
+ *       high and low 32 bits. A date or time that is not well-formed is
+ *       stored as the complement of its id in a {@link NameDictionary},
+ *       so it never equals a decoded one.</li>
+ *   <li>home and away team, dictionary-encoded into the high and low
+ *       32 bits.</li>
+ * </ul>
+ * Two tuples are equal exactly when their strings are. Adding a match
+ * whose team names were seen before allocates nothing; only growing the
+ * tables does. {@link #clear()} also forgets the names, so a set reused
+ * for every league of a long-running checker (watch mode) holds no more
+ * than the names of its largest league. A set is used by one thread at
+ * a time.
+ */
+final class MatchKeySet {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Marks an empty slot; team ids are never negative, so no tuple has it. */
+    private static final long EMPTY = -1L;
+
+    private final NameDictionary names = new NameDictionary();
+    private long[] when = new long[INITIAL_CAPACITY];
+    private long[] teams = newTeams(INITIAL_CAPACITY);
+    private int size;
+
+    /** @return true if no earlier match had the tuple of {@code match} */
+    boolean add(ASTMatch match) {
+        return add(match, FixedWidthParser.parseDate(match.getMatchDate()),
+                FixedWidthParser.parseTime(match.getMatchTime()));
+    }
+
+    /**
+     * Like {@link #add(ASTMatch)} with the already decoded date and time
+     * of {@code match}.
+     */
+    boolean add(ASTMatch match, int date, int time) {
+        int dateCode = date != FixedWidthParser.MALFORMED
+                ? date : ~names.id(match.getMatchDate());
+        int timeCode = time != FixedWidthParser.MALFORMED
+                ? time : ~names.id(match.getMatchTime());
+        long w = ((long) dateCode << 32) | (timeCode & 0xFFFFFFFFL);
+        long t = ((long) names.id(match.getHomeTeam()) << 32) | names.id(match.getAwayTeam());
+
+        int mask = when.length - 1;
+        int slot = hash(w, t) & mask;
+        for (; teams[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (teams[slot] == t && when[slot] == w) {
+                return false;
+            }
+        }
+        when[slot] = w;
+        teams[slot] = t;
+        if (++size * 2 > when.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /** Forget all tuples and names, keeping the tables for reuse. */
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(teams, EMPTY);
+            size = 0;
+        }
+        names.clear();
+    }
+
+    private void grow() {
+        long[] oldWhen = when;
+        long[] oldTeams = teams;
+        when = new long[oldWhen.length * 2];
+        teams = newTeams(oldWhen.length * 2);
+        int mask = when.length - 1;
+        for (int i = 0; i < oldWhen.length; i++) {
+            if (oldTeams[i] != EMPTY) {
+                int slot = hash(oldWhen[i], oldTeams[i]) & mask;
+                while (teams[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                when[slot] = oldWhen[i];
+                teams[slot] = oldTeams[i];
+            }
+        }
+    }
+
+    private static long[] newTeams(int capacity) {
+        long[] slots = new long[capacity];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+
+    private static int hash(long when, long teams) {
+        long h = when * 0x9E3779B97F4A7C15L + teams * 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+}
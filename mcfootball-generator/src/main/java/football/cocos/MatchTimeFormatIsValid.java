@@ -2,9 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTMatch;
 import football.footballsite._cocos.FootballSiteASTMatchCoCo;
-import de.se_rwth.commons.logging.Log;
-
-import java.util.regex.Pattern;
 
 /**
  * CoCo: The matchTime string must be a valid HH:MM (24-hour clock).
@@ -12,17 +9,19 @@ import java.util.regex.Pattern;
  */
 public class MatchTimeFormatIsValid implements FootballSiteASTMatchCoCo {
 
-    // Matches 00:00 – 23:59
-    private static final Pattern TIME_PATTERN =
-            Pattern.compile("([01]\\d|2[0-3]):[0-5]\\d");
-
     @Override
     public void check(ASTMatch node) {
-        String time = node.getMatchTime();
-        if (!TIME_PATTERN.matcher(time).matches()) {
-            Log.error("0xFC007 Invalid time format '" + time
+        check(node, FixedWidthParser.isValidTime(
+                FixedWidthParser.parseTime(node.getMatchTime())));
+    }
+
+    /** Report {@code node} unless its time was found valid. */
+    static void check(ASTMatch node, boolean valid) {
+        if (!valid) {
+            CoCoLog.error("0xFC007 Invalid time format '" + node.getMatchTime()
                     + "' in match at " + node.get_SourcePositionStart()
-                    + ". Expected HH:MM (00:00 – 23:59).");
+                    + ". Expected HH:MM (00:00 – 23:59).",
+                    node.get_SourcePositionStart());
         }
     }
 }
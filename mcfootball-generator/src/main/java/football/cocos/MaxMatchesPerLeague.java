@@ -2,7 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTLeague;
 import football.footballsite._cocos.FootballSiteASTLeagueCoCo;
-import de.se_rwth.commons.logging.Log;
 
 /**
  * CoCo 0xFC027: A league must not exceed 380 matches.
@@ -17,9 +16,10 @@ public class MaxMatchesPerLeague implements FootballSiteASTLeagueCoCo {
     public void check(ASTLeague node) {
         int count = node.getMatchList().size();
         if (count > MAX_MATCHES) {
-            Log.error("0xFC027 League '" + node.getName()
+            CoCoLog.error("0xFC027 League '" + node.getName()
                     + "' at " + node.get_SourcePositionStart()
-                    + " has " + count + " matches (maximum " + MAX_MATCHES + ").");
+                    + " has " + count + " matches (maximum " + MAX_MATCHES + ").",
+                    node.get_SourcePositionStart());
         }
     }
 }
@@ -0,0 +1,82 @@
+package football.cocos;
+
+import java.util.Arrays;
+
+/**
+ * Encodes names as dense {@code int} ids: the first name added gets 0,
+ * the next new one 1, and so on, and an equal name gets its earlier id.
+ * <p>
+ * An open-addressing table of the name strings and their ids. Looking up
+ * a name uses the hash the string caches, so a name already seen costs
+ * no allocation; only growing the table allocates. A dictionary is used
+ * by one thread at a time.
+ */
+final class NameDictionary {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /** @return the id of {@code name}, which is added if it is new */
+    int id(String name) {
+        int mask = names.length - 1;
+        int slot = mix(name.hashCode()) & mask;
+        for (String present; (present = names[slot]) != null; slot = (slot + 1) & mask) {
+            if (present.equals(name)) {
+                return ids[slot];
+            }
+        }
+        names[slot] = name;
+        ids[slot] = size;
+        if (++size * 2 > names.length) {
+            grow();
+        }
+        return size - 1;
+    }
+
+    /** @return true if {@code name} was not in the dictionary yet */
+    boolean add(String name) {
+        int before = size;
+        id(name);
+        return size > before;
+    }
+
+    /** @return the number of distinct names */
+    int size() {
+        return size;
+    }
+
+    /** Forget all names, keeping the table for reuse. */
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(names, null);
+            size = 0;
+        }
+    }
+
+    private void grow() {
+        String[] oldNames = names;
+        int[] oldIds = ids;
+        names = new String[oldNames.length * 2];
+        ids = new int[oldNames.length * 2];
+        int mask = names.length - 1;
+        for (int i = 0; i < oldNames.length; i++) {
+            if (oldNames[i] != null) {
+                int slot = mix(oldNames[i].hashCode()) & mask;
+                while (names[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                names[slot] = oldNames[i];
+                ids[slot] = oldIds[i];
+            }
+        }
+    }
+
+    /** Spreads the high bits of a string hash over the slot index. */
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -4,7 +4,6 @@ import football.footballsite._ast.ASTCountry;
 import football.footballsite._ast.ASTFootballSite;
 import football.footballsite._ast.ASTNavigationItem;
 import football.footballsite._cocos.FootballSiteASTFootballSiteCoCo;
-import de.se_rwth.commons.logging.Log;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -31,9 +30,10 @@ public class NavigationCountryExists implements FootballSiteASTFootballSiteCoCo
         for (ASTNavigationItem item : node.getNavigation().getNavigationItemList()) {
             String navName = item.getName();
             if (!countryNames.contains(navName)) {
-                Log.error("0xFC004 Navigation item '" + navName
+                CoCoLog.error("0xFC004 Navigation item '" + navName
                         + "' at " + item.get_SourcePositionStart()
-                        + " does not match any declared country.");
+                        + " does not match any declared country.",
+                        item.get_SourcePositionStart());
             }
         }
     }
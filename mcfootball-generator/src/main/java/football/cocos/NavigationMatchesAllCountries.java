@@ -4,7 +4,6 @@ import football.footballsite._ast.ASTCountry;
 import football.footballsite._ast.ASTFootballSite;
 import football.footballsite._ast.ASTNavigationItem;
 import football.footballsite._cocos.FootballSiteASTFootballSiteCoCo;
-import de.se_rwth.commons.logging.Log;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -34,9 +33,10 @@ public class NavigationMatchesAllCountries implements FootballSiteASTFootballSit
         for (ASTCountry country : node.getCountryList()) {
             String name = country.getName();
             if (!navNames.contains(name)) {
-                Log.error("0xFC012 Country '" + name
+                CoCoLog.error("0xFC012 Country '" + name
                         + "' at " + country.get_SourcePositionStart()
-                        + " is not listed in the navigation block.");
+                        + " is not listed in the navigation block.",
+                        country.get_SourcePositionStart());
             }
         }
     }
@@ -3,10 +3,6 @@ package football.cocos;
 import football.footballsite._ast.ASTNavigation;
 import football.footballsite._ast.ASTNavigationItem;
 import football.footballsite._cocos.FootballSiteASTNavigationCoCo;
-import de.se_rwth.commons.logging.Log;
-
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * CoCo: No two navigation items may have the same name.
@@ -16,13 +12,14 @@ public class NavigationNoDuplicates implements FootballSiteASTNavigationCoCo {
 
     @Override
     public void check(ASTNavigation node) {
-        Set<String> seen = new HashSet<>();
+        NameDictionary seen = new NameDictionary();
         for (ASTNavigationItem item : node.getNavigationItemList()) {
             String name = item.getName();
             if (!seen.add(name)) {
-                Log.error("0xFC010 Duplicate navigation item '" + name
+                CoCoLog.error("0xFC010 Duplicate navigation item '" + name
                         + "' at " + item.get_SourcePositionStart()
-                        + ". Each country should appear at most once in navigation.");
+                        + ". Each country should appear at most once in navigation.",
+                        item.get_SourcePositionStart());
             }
         }
     }
@@ -0,0 +1,221 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTLeague;
+import de.se_rwth.commons.SourcePosition;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks all 31 CoCos of a site with one task per country on a
+ * {@link ForkJoinPool}.
+ * <p>
+ * Every country task runs the country, league and match CoCos of its
+ * country with its own {@link FusedCoCoChecker} into its own
+ * {@link FindingsCollector}. After all tasks are joined, the site and
+ * navigation CoCos run on the calling thread. The findings are then
+ * reported through {@link CoCoLog} on the calling thread, sorted by
+ * source position: files in the order the site lists them (the root
+ * model, then imported shards), then line, then column. Findings at the
+ * same position keep the order of the sequential checker, so the result
+ * is the same for any pool size and any scheduling.
+ * <p>
+ * The AST is only read, so countries can be checked at the same time.
+ * <p>
+ * If the calling thread reports into a {@link FindingsCollector} with an
+ * error limit, every task stops at the errors that collector still
+ * accepts, and the merged findings stop at the limit.
+ * <p>
+ * With a {@link CoCoResultCache}, a country or league the cache knows
+ * as clean is skipped, and a country whose country CoCos must run again
+ * still skips its unchanged leagues. The site and navigation CoCos
+ * always run; they read the country and navigation names and, for
+ * 0xFC029 – 0xFC031, a {@link SiteMatchIndex} built in one pass over
+ * all matches, changed or not.
+ * <p>
+ * Every task counts and times its rules into a {@link CoCoStats} of its
+ * own, which is added to the checker's after the join.
+ */
+public final class ParallelCoCoChecker {
+
+    private final ForkJoinPool pool;
+    private final CoCoResultCache cache;
+    private final CoCoProfile profile;
+    private final CoCoStats stats;
+
+    /**
+     * @param pool    runs the country tasks
+     * @param cache   clean results of earlier checks, or null to check everything
+     * @param profile the CoCos to check
+     * @param stats   receives the calls and times of every rule, or null
+     * @see FootballSiteCoCos#createParallelChecker(ForkJoinPool)
+     * @see FootballSiteCoCos#createIncrementalChecker(CoCoResultCache)
+     */
+    ParallelCoCoChecker(ForkJoinPool pool, CoCoResultCache cache,
+                        CoCoProfile profile, CoCoStats stats) {
+        this.pool = pool;
+        this.cache = cache;
+        this.profile = profile;
+        this.stats = stats;
+    }
+
+    /** Check {@code site} and report its findings in source-position order. */
+    public void checkAll(ASTFootballSite site) {
+        if (cache == null) {
+            check(site, new AtomicInteger(), new AtomicInteger());
+            return;
+        }
+        synchronized (cache) {
+            cache.begin(profile);
+            AtomicInteger checked = new AtomicInteger();
+            AtomicInteger reused = new AtomicInteger();
+            try {
+                check(site, checked, reused);
+            } finally {
+                cache.end(checked.get(), reused.get());
+            }
+        }
+    }
+
+    /**
+     * @param checked counts the leagues whose CoCos ran, with a cache
+     * @param reused  counts the leagues skipped as clean, with a cache
+     */
+    private void check(ASTFootballSite site, AtomicInteger checked, AtomicInteger reused) {
+        FindingsCollector target = CoCoLog.current();
+        int limit = target == null ? 0 : target.remaining();
+        List<ForkJoinTask<FindingsCollector>> tasks = new ArrayList<>();
+        List<CoCoStats> taskStats = new ArrayList<>();
+        for (ASTCountry country : site.getCountryList()) {
+            CoCoStats countryStats = newStats();
+            taskStats.add(countryStats);
+            tasks.add(pool.submit(() -> {
+                FindingsCollector findings = new FindingsCollector(limit);
+                if (cache == null) {
+                    findings.run(() -> FootballSiteCoCos.createFusedChecker(profile, countryStats)
+                                                        .checkAll(country));
+                } else {
+                    findings.run(() -> checkChanged(country, countryStats, checked, reused));
+                }
+                return findings;
+            }));
+        }
+        List<FindingsCollector> parts = new ArrayList<>(tasks.size() + 1);
+        FindingsCollector siteFindings = new FindingsCollector(limit);
+        parts.add(siteFindings);
+        for (ForkJoinTask<FindingsCollector> task : tasks) {
+            parts.add(task.join());
+        }
+        CoCoStats siteStats = newStats();
+        taskStats.add(siteStats);
+        siteFindings.run(() -> FootballSiteCoCos.createFusedChecker(profile, siteStats)
+                                                .checkSiteOnly(site));
+        if (stats != null) {
+            for (CoCoStats part : taskStats) {
+                stats.addAll(part);
+            }
+        }
+
+        List<Finding> merged = new ArrayList<>();
+        for (FindingsCollector part : parts) {
+            List<String> errors = part.getErrors();
+            List<SourcePosition> positions = part.getPositions();
+            for (int i = 0; i < errors.size(); i++) {
+                merged.add(new Finding(errors.get(i), positions.get(i)));
+            }
+        }
+        // Stable: equal positions keep the sequential order
+        merged.sort(byPosition(site));
+        for (Finding finding : merged) {
+            CoCoLog.error(finding.message, finding.pos);
+        }
+    }
+
+    /**
+     * Check the parts of {@code country} the cache does not know as
+     * clean, in the order of the sequential checker, and remember the
+     * clean ones.
+     */
+    private void checkChanged(ASTCountry country, CoCoStats countryStats,
+                              AtomicInteger checked, AtomicInteger reused) {
+        List<ASTLeague> leagues = country.getLeagueList();
+        String[] leagueHashes = new String[leagues.size()];
+        for (int i = 0; i < leagueHashes.length; i++) {
+            leagueHashes[i] = StructuralHash.of(leagues.get(i));
+        }
+        String countryHash = StructuralHash.of(country, leagueHashes);
+        if (cache.reuse(countryHash)) {
+            for (String leagueHash : leagueHashes) {
+                cache.reuse(leagueHash);
+            }
+            reused.addAndGet(leagueHashes.length);
+            return;
+        }
+        FindingsCollector findings = CoCoLog.current();
+        int before = findings.getErrorCount();
+        FootballSiteCoCos.createFusedStructureChecker(profile, countryStats).checkAll(country);
+        FusedCoCoChecker leagueChecker =
+                FootballSiteCoCos.createFusedLeagueChecker(profile, countryStats);
+        for (int i = 0; i < leagueHashes.length; i++) {
+            if (cache.reuse(leagueHashes[i])) {
+                reused.incrementAndGet();
+                continue;
+            }
+            int leagueBefore = findings.getErrorCount();
+            leagueChecker.checkAll(leagues.get(i));
+            checked.incrementAndGet();
+            if (findings.getErrorCount() == leagueBefore) {
+                cache.markClean(leagueHashes[i]);
+            }
+        }
+        if (findings.getErrorCount() == before) {
+            cache.markClean(countryHash);
+        }
+    }
+
+    /** @return a {@link CoCoStats} for one task, or null if rules are not timed */
+    private CoCoStats newStats() {
+        return stats == null ? null : new CoCoStats();
+    }
+
+    /** File rank in site order, then line, then column. */
+    private static Comparator<Finding> byPosition(ASTFootballSite site) {
+        Map<String, Integer> fileRank = new HashMap<>();
+        rank(fileRank, site.get_SourcePositionStart());
+        for (ASTCountry country : site.getCountryList()) {
+            rank(fileRank, country.get_SourcePositionStart());
+        }
+        return Comparator.<Finding>comparingInt(
+                        f -> fileRank.getOrDefault(file(f.pos), Integer.MAX_VALUE))
+                .thenComparing(f -> file(f.pos))
+                .thenComparingInt(f -> f.pos.getLine())
+                .thenComparingInt(f -> f.pos.getColumn());
+    }
+
+    private static void rank(Map<String, Integer> fileRank, SourcePosition pos) {
+        fileRank.putIfAbsent(file(pos), fileRank.size());
+    }
+
+    private static String file(SourcePosition pos) {
+        return pos.getFileName().orElse("");
+    }
+
+    /** One collected error with the position it reports. */
+    private static final class Finding {
+        final String message;
+        final SourcePosition pos;
+
+        Finding(String message, SourcePosition pos) {
+            this.message = message;
+            this.pos = pos;
+        }
+    }
+}
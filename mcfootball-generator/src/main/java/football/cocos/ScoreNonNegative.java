@@ -2,7 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTMatch;
 import football.footballsite._cocos.FootballSiteASTMatchCoCo;
-import de.se_rwth.commons.logging.Log;
 
 /**
  * CoCo 0xFC019: Match scores must be non-negative (≥ 0).
@@ -20,14 +19,16 @@ public class ScoreNonNegative implements FootballSiteASTMatchCoCo {
         int awayScore = node.getAwayScore().getValue();
 
         if (homeScore < 0) {
-            Log.error("0xFC019 Negative home score (" + homeScore
+            CoCoLog.error("0xFC019 Negative home score (" + homeScore
                     + ") in match at " + node.get_SourcePositionStart()
-                    + ". Scores must be non-negative.");
+                    + ". Scores must be non-negative.",
+                    node.get_SourcePositionStart());
         }
         if (awayScore < 0) {
-            Log.error("0xFC019 Negative away score (" + awayScore
+            CoCoLog.error("0xFC019 Negative away score (" + awayScore
                     + ") in match at " + node.get_SourcePositionStart()
-                    + ". Scores must be non-negative.");
+                    + ". Scores must be non-negative.",
+                    node.get_SourcePositionStart());
         }
     }
 }
@@ -2,7 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTMatch;
 import football.footballsite._cocos.FootballSiteASTMatchCoCo;
-import de.se_rwth.commons.logging.Log;
 
 /**
  * CoCo 0xFC020: Match scores must not exceed 99.
@@ -18,14 +17,16 @@ public class ScoreReasonableUpperBound implements FootballSiteASTMatchCoCo {
         int awayScore = node.getAwayScore().getValue();
 
         if (homeScore > MAX_SCORE) {
-            Log.error("0xFC020 Home score (" + homeScore
+            CoCoLog.error("0xFC020 Home score (" + homeScore
                     + ") exceeds maximum " + MAX_SCORE
-                    + " in match at " + node.get_SourcePositionStart() + ".");
+                    + " in match at " + node.get_SourcePositionStart() + ".",
+                    node.get_SourcePositionStart());
         }
         if (awayScore > MAX_SCORE) {
-            Log.error("0xFC020 Away score (" + awayScore
+            CoCoLog.error("0xFC020 Away score (" + awayScore
                     + ") exceeds maximum " + MAX_SCORE
-                    + " in match at " + node.get_SourcePositionStart() + ".");
+                    + " in match at " + node.get_SourcePositionStart() + ".",
+                    node.get_SourcePositionStart());
         }
     }
 }
@@ -2,9 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTLeague;
 import football.footballsite._cocos.FootballSiteASTLeagueCoCo;
-import de.se_rwth.commons.logging.Log;
-
-import java.util.regex.Pattern;
 
 /**
  * CoCo: The league season string must match the pattern YYYY-YYYY
@@ -12,17 +9,19 @@ import java.util.regex.Pattern;
  */
 public class SeasonFormatIsValid implements FootballSiteASTLeagueCoCo {
 
-    private static final Pattern SEASON_PATTERN =
-            Pattern.compile("\\d{4}-\\d{4}");
-
     @Override
     public void check(ASTLeague node) {
-        String season = node.getSeason();
-        if (!SEASON_PATTERN.matcher(season).matches()) {
-            Log.error("0xFC009 Invalid season format '" + season
+        check(node, FixedWidthParser.parseSeason(node.getSeason()) != FixedWidthParser.MALFORMED);
+    }
+
+    /** Report {@code node} unless its season was found well-formed. */
+    static void check(ASTLeague node, boolean wellFormed) {
+        if (!wellFormed) {
+            CoCoLog.error("0xFC009 Invalid season format '" + node.getSeason()
                     + "' in league '" + node.getName()
                     + "' at " + node.get_SourcePositionStart()
-                    + ". Expected YYYY-YYYY.");
+                    + ". Expected YYYY-YYYY.",
+                    node.get_SourcePositionStart());
         }
     }
 }
@@ -2,10 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTLeague;
 import football.footballsite._cocos.FootballSiteASTLeagueCoCo;
-import de.se_rwth.commons.logging.Log;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * CoCo 0xFC024: Season end year must be exactly start year + 1.
@@ -13,22 +9,24 @@ import java.util.regex.Pattern;
  */
 public class SeasonYearsConsecutive implements FootballSiteASTLeagueCoCo {
 
-    private static final Pattern SEASON_PATTERN = Pattern.compile("(\\d{4})-(\\d{4})");
-
     @Override
     public void check(ASTLeague node) {
-        Matcher m = SEASON_PATTERN.matcher(node.getSeason());
-        if (!m.matches()) {
+        int season = FixedWidthParser.parseSeason(node.getSeason());
+        if (season == FixedWidthParser.MALFORMED) {
             return; // Format issue handled by 0xFC009
         }
-        int start = Integer.parseInt(m.group(1));
-        int end = Integer.parseInt(m.group(2));
+        check(node, FixedWidthParser.seasonStart(season), FixedWidthParser.seasonEnd(season));
+    }
+
+    /** Check the years of a well-formed {@code YYYY-YYYY} season. */
+    static void check(ASTLeague node, int start, int end) {
         if (end != start + 1) {
-            Log.error("0xFC024 Season '" + node.getSeason()
+            CoCoLog.error("0xFC024 Season '" + node.getSeason()
                     + "' in league '" + node.getName()
                     + "' at " + node.get_SourcePositionStart()
                     + " does not have consecutive years (expected "
-                    + start + "-" + (start + 1) + ").");
+                    + start + "-" + (start + 1) + ").",
+                    node.get_SourcePositionStart());
         }
     }
 }
@@ -0,0 +1,25 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._cocos.FootballSiteASTFootballSiteCoCo;
+
+/**
+ * CoCo 0xFC028: A footballsite must declare at least one country or
+ * import at least one shard.
+ * <p>
+ * The grammar allows {@code Country*} so that a site can consist of
+ * imports only; this CoCo keeps the former {@code Country+} guarantee
+ * for sites without imports.
+ */
+public class SiteHasCountryOrImport implements FootballSiteASTFootballSiteCoCo {
+
+    @Override
+    public void check(ASTFootballSite node) {
+        if (node.isEmptyCountrys() && node.isEmptyModelImports()) {
+            CoCoLog.error("0xFC028 Site '" + node.getName()
+                    + "' at " + node.get_SourcePositionStart()
+                    + " has no countries. Declare a country or import a shard.",
+                    node.get_SourcePositionStart());
+        }
+    }
+}
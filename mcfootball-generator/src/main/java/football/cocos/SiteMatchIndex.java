@@ -0,0 +1,396 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTLeague;
+import football.footballsite._ast.ASTMatch;
+import de.se_rwth.commons.SourcePosition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The matches of a whole site by team and by stadium, for the CoCos that
+ * compare matches across leagues and countries (0xFC029 – 0xFC031).
+ * <p>
+ * Built in one pass over the matches ({@link Builder}): team, stadium,
+ * league, country and file names become dense ids ({@link NameDictionary})
+ * and kick-offs are decoded with {@link FixedWidthParser}. A match is kept
+ * as a few {@code int}s and no AST, so a streamed site can be indexed
+ * league by league while its leagues are dropped. Each team's and each
+ * stadium's matches are then sorted by kick-off, packed with their match
+ * number into one {@code long}, so matches of a team on the same day, or
+ * of a stadium at the same kick-off, are neighbours. Building costs
+ * O(n log n) for n matches and each query O(n), where comparing every
+ * pair of matches would cost O(n²).
+ * <p>
+ * Matches are numbered in model order. A match whose date or time is
+ * malformed or out of range has no kick-off and is only used by
+ * {@link #forEachTeamInTwoCountries}; 0xFC006 and 0xFC007 report it.
+ */
+public final class SiteMatchIndex {
+
+    /** Bits of a packed entry that hold the match number; the kick-off takes 38. */
+    private static final int MATCH_BITS = 25;
+    private static final long MATCH_MASK = (1L << MATCH_BITS) - 1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long NO_KICKOFF = -1;
+    private static final int NO_FILE = -1;
+
+    private final int size;
+    /** Number of each match's league block, counted over the whole site. */
+    private final int[] leagueOf;
+    private final int[] countryOf;
+    private final int[] home;
+    private final int[] away;
+    private final int[] stadium;
+    /** Decoded date {@code YYYYMMDD} times minutes per day plus minute of day, or {@link #NO_KICKOFF}. */
+    private final long[] kickoffs;
+    private final int[] fileOf;
+    private final int[] lines;
+    private final int[] columns;
+
+    private final String[] teamNames;
+    private final String[] stadiumNames;
+    private final String[] leagueNames;
+    private final String[] countryNames;
+    private final String[] fileNames;
+
+    // Kick-off << MATCH_BITS | match, one sorted run per team or stadium
+    private final int[] teamStart;
+    private final long[] byTeam;
+    private final int[] stadiumStart;
+    private final long[] byStadium;
+
+    private SiteMatchIndex(Builder b) {
+        size = b.size;
+        leagueOf = Arrays.copyOf(b.leagueOf, size);
+        countryOf = Arrays.copyOf(b.countryOf, size);
+        home = Arrays.copyOf(b.home, size);
+        away = Arrays.copyOf(b.away, size);
+        stadium = Arrays.copyOf(b.stadium, size);
+        kickoffs = Arrays.copyOf(b.kickoffs, size);
+        fileOf = Arrays.copyOf(b.fileOf, size);
+        lines = Arrays.copyOf(b.lines, size);
+        columns = Arrays.copyOf(b.columns, size);
+
+        teamNames = b.teams.toArray();
+        stadiumNames = b.stadiums.toArray();
+        leagueNames = b.leagueNames.toArray(new String[0]);
+        countryNames = b.countries.toArray();
+        fileNames = b.files.toArray();
+
+        teamStart = new int[teamNames.length + 1];
+        byTeam = group(teamStart, home, away);
+        stadiumStart = new int[stadiumNames.length + 1];
+        byStadium = group(stadiumStart, stadium, null);
+    }
+
+    /** @return the index of all matches of {@code site} */
+    static SiteMatchIndex of(ASTFootballSite site) {
+        Builder builder = new Builder();
+        for (ASTCountry country : site.getCountryList()) {
+            for (ASTLeague league : country.getLeagueList()) {
+                builder.addLeague(country.getName(), league);
+            }
+        }
+        return builder.build();
+    }
+
+    /** @return the date of match {@code m} with a kick-off, as {@code YYYY-MM-DD} */
+    String date(int m) {
+        int date = (int) (kickoffs[m] / MINUTES_PER_DAY);
+        return String.format("%04d-%02d-%02d", date / 10000, date / 100 % 100, date % 100);
+    }
+
+    /** @return the time of match {@code m} with a kick-off, as {@code HH:MM} */
+    String time(int m) {
+        int minute = (int) (kickoffs[m] % MINUTES_PER_DAY);
+        return String.format("%02d:%02d", minute / 60, minute % 60);
+    }
+
+    String homeTeam(int m) {
+        return teamNames[home[m]];
+    }
+
+    String awayTeam(int m) {
+        return teamNames[away[m]];
+    }
+
+    /** @return the name of the league block that declares match {@code m} */
+    String league(int m) {
+        return leagueNames[leagueOf[m]];
+    }
+
+    /** @return the name of the country block that declares match {@code m} */
+    String country(int m) {
+        return countryNames[countryOf[m]];
+    }
+
+    /** @return the start position of match {@code m} */
+    SourcePosition position(int m) {
+        return fileOf[m] == NO_FILE
+                ? new SourcePosition(lines[m], columns[m])
+                : new SourcePosition(lines[m], columns[m], fileNames[fileOf[m]]);
+    }
+
+    /**
+     * Reports each match of a team that plays in another league on the
+     * same day. Per team and day, the match that kicks off first is the
+     * reference; every match of that day in another league is reported
+     * against it, once per team the two matches share.
+     */
+    void forEachSameDayInOtherLeague(Conflict conflict) {
+        Conflicts found = new Conflicts();
+        for (int team = 0; team < teamNames.length; team++) {
+            int end = teamStart[team + 1];
+            for (int run = teamStart[team]; run < end; ) {
+                long day = kickoffOf(byTeam[run]) / MINUTES_PER_DAY;
+                int first = matchOf(byTeam[run]);
+                int next = run + 1;
+                for (; next < end && kickoffOf(byTeam[next]) / MINUTES_PER_DAY == day; next++) {
+                    int m = matchOf(byTeam[next]);
+                    if (leagueOf[m] != leagueOf[first]) {
+                        found.add(m, first, home[m] == team ? 0 : 1);
+                    }
+                }
+                run = next;
+            }
+        }
+        found.report(this, conflict, false);
+    }
+
+    /**
+     * Reports each match at a stadium that another match with other teams
+     * uses at the same kick-off. Per stadium and kick-off, the first match
+     * in model order is the reference; a later one with the same home and
+     * away team is a duplicate (0xFC017, 0xFC029), not a second booking.
+     */
+    void forEachDoubleBooking(Conflict conflict) {
+        Conflicts found = new Conflicts();
+        for (int run = 0; run < byStadium.length; ) {
+            long kickoff = kickoffOf(byStadium[run]);
+            int first = matchOf(byStadium[run]);
+            int end = stadiumStart[stadium[first] + 1];
+            int next = run + 1;
+            for (; next < end && kickoffOf(byStadium[next]) == kickoff; next++) {
+                int m = matchOf(byStadium[next]);
+                if (home[m] != home[first] || away[m] != away[first]) {
+                    found.add(m, first, 0);
+                }
+            }
+            run = next;
+        }
+        found.report(this, conflict, true);
+    }
+
+    /**
+     * Reports the first match of a team in each country other than the
+     * country it first plays in, against its first match there. Countries
+     * are compared by name.
+     */
+    void forEachTeamInTwoCountries(Conflict conflict) {
+        int[] firstMatch = new int[teamNames.length];
+        int[] lastReported = new int[teamNames.length];
+        Arrays.fill(firstMatch, -1);
+        Arrays.fill(lastReported, -1);
+        for (int m = 0; m < size; m++) {
+            for (int side = 0; side < 2; side++) {
+                int team = side == 0 ? home[m] : away[m];
+                if (side == 1 && team == home[m]) {
+                    break;
+                }
+                int first = firstMatch[team];
+                if (first < 0) {
+                    firstMatch[team] = m;
+                } else if (countryOf[m] != countryOf[first] && countryOf[m] != lastReported[team]) {
+                    // Matches of one country block are consecutive in model order
+                    lastReported[team] = countryOf[m];
+                    conflict.report(m, first, teamNames[team]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the matches with a kick-off into one run per key: per match,
+     * its {@code first} key and its {@code second} key if there is one
+     * and it differs. Fills {@code start} with the first entry of each key.
+     */
+    private long[] group(int[] start, int[] first, int[] second) {
+        for (int m = 0; m < size; m++) {
+            if (kickoffs[m] != NO_KICKOFF) {
+                start[first[m] + 1]++;
+                if (second != null && second[m] != first[m]) {
+                    start[second[m] + 1]++;
+                }
+            }
+        }
+        for (int key = 1; key < start.length; key++) {
+            start[key] += start[key - 1];
+        }
+        long[] entries = new long[start[start.length - 1]];
+        int[] fill = Arrays.copyOf(start, start.length - 1);
+        for (int m = 0; m < size; m++) {
+            if (kickoffs[m] != NO_KICKOFF) {
+                long entry = kickoffs[m] << MATCH_BITS | m;
+                entries[fill[first[m]]++] = entry;
+                if (second != null && second[m] != first[m]) {
+                    entries[fill[second[m]]++] = entry;
+                }
+            }
+        }
+        for (int key = 0; key + 1 < start.length; key++) {
+            Arrays.sort(entries, start[key], start[key + 1]);
+        }
+        return entries;
+    }
+
+    /**
+     * @return the kick-off as {@code YYYYMMDD * 1440 + minute of day}, which
+     *         orders kick-offs and divides by 1440 into the date, or
+     *         {@link #NO_KICKOFF}
+     */
+    private static long kickoff(ASTMatch match) {
+        int date = FixedWidthParser.parseDate(match.getMatchDate());
+        int time = FixedWidthParser.parseTime(match.getMatchTime());
+        if (date == FixedWidthParser.MALFORMED || !FixedWidthParser.isValidTime(time)) {
+            return NO_KICKOFF;
+        }
+        return (long) date * MINUTES_PER_DAY
+                + FixedWidthParser.hours(time) * 60 + FixedWidthParser.minutes(time);
+    }
+
+    private static long kickoffOf(long entry) {
+        return entry >>> MATCH_BITS;
+    }
+
+    private static int matchOf(long entry) {
+        return (int) (entry & MATCH_MASK);
+    }
+
+    /**
+     * Collects the matches of a site league by league, in model order.
+     * Keeps no reference to the leagues added.
+     */
+    public static final class Builder {
+
+        private int size;
+        private int[] leagueOf = new int[16];
+        private int[] countryOf = new int[16];
+        private int[] home = new int[16];
+        private int[] away = new int[16];
+        private int[] stadium = new int[16];
+        private long[] kickoffs = new long[16];
+        private int[] fileOf = new int[16];
+        private int[] lines = new int[16];
+        private int[] columns = new int[16];
+
+        private final Names teams = new Names();
+        private final Names stadiums = new Names();
+        private final Names countries = new Names();
+        private final Names files = new Names();
+        private final List<String> leagueNames = new ArrayList<>();
+
+        /** Add the matches of {@code league}, declared in the country named {@code country}. */
+        public void addLeague(String country, ASTLeague league) {
+            int leagueNumber = leagueNames.size();
+            leagueNames.add(league.getName());
+            int countryId = countries.id(country);
+            List<ASTMatch> matches = league.getMatchList();
+            if (size + matches.size() > MATCH_MASK) {
+                throw new IllegalArgumentException("Too many matches to index: "
+                        + (size + matches.size()));
+            }
+            if (size + matches.size() > home.length) {
+                grow(Math.max(home.length * 2, size + matches.size()));
+            }
+            for (ASTMatch match : matches) {
+                SourcePosition pos = match.get_SourcePositionStart();
+                leagueOf[size] = leagueNumber;
+                countryOf[size] = countryId;
+                home[size] = teams.id(match.getHomeTeam());
+                away[size] = teams.id(match.getAwayTeam());
+                stadium[size] = stadiums.id(match.getStadium());
+                kickoffs[size] = kickoff(match);
+                fileOf[size] = pos.getFileName().map(files::id).orElse(NO_FILE);
+                lines[size] = pos.getLine();
+                columns[size] = pos.getColumn();
+                size++;
+            }
+        }
+
+        /** @return the index of all matches added so far */
+        public SiteMatchIndex build() {
+            return new SiteMatchIndex(this);
+        }
+
+        private void grow(int capacity) {
+            leagueOf = Arrays.copyOf(leagueOf, capacity);
+            countryOf = Arrays.copyOf(countryOf, capacity);
+            home = Arrays.copyOf(home, capacity);
+            away = Arrays.copyOf(away, capacity);
+            stadium = Arrays.copyOf(stadium, capacity);
+            kickoffs = Arrays.copyOf(kickoffs, capacity);
+            fileOf = Arrays.copyOf(fileOf, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+        }
+    }
+
+    /** A {@link NameDictionary} that also maps ids back to names. */
+    private static final class Names {
+        private final NameDictionary ids = new NameDictionary();
+        private final List<String> names = new ArrayList<>();
+
+        int id(String name) {
+            int id = ids.id(name);
+            if (id == names.size()) {
+                names.add(name);
+            }
+            return id;
+        }
+
+        String[] toArray() {
+            return names.toArray(new String[0]);
+        }
+    }
+
+    /** Receives one conflict found by a query. */
+    @FunctionalInterface
+    interface Conflict {
+        /**
+         * @param match the match to report
+         * @param other the match it conflicts with
+         * @param name  the team or stadium the two matches share
+         */
+        void report(int match, int other, String name);
+    }
+
+    /** Conflicts of one query, reported in model order of their match. */
+    private static final class Conflicts {
+        // match << 31 | other << 1 | side, side 1 for the away team
+        private long[] keys = new long[8];
+        private int size;
+
+        void add(int match, int other, int side) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            keys[size++] = (long) match << (MATCH_BITS + 1) | (long) other << 1 | side;
+        }
+
+        void report(SiteMatchIndex index, Conflict conflict, boolean stadium) {
+            Arrays.sort(keys, 0, size);
+            for (int i = 0; i < size; i++) {
+                int match = (int) (keys[i] >>> (MATCH_BITS + 1));
+                int other = (int) (keys[i] >>> 1 & MATCH_MASK);
+                String name = stadium ? index.stadiumNames[index.stadium[match]]
+                                      : (keys[i] & 1) == 0 ? index.homeTeam(match)
+                                                           : index.awayTeam(match);
+                conflict.report(match, other, name);
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package football.cocos;
 
 import football.footballsite._ast.ASTMatch;
 import football.footballsite._cocos.FootballSiteASTMatchCoCo;
-import de.se_rwth.commons.logging.Log;
 
 /**
  * CoCo 0xFC014: Stadium name must be at least 3 characters long.
@@ -16,9 +15,10 @@ public class StadiumNameMinLength implements FootballSiteASTMatchCoCo {
     public void check(ASTMatch node) {
         String stadium = node.getStadium();
         if (stadium != null && stadium.trim().length() < MIN_LENGTH) {
-            Log.error("0xFC014 Stadium name '" + stadium
+            CoCoLog.error("0xFC014 Stadium name '" + stadium
                     + "' in match at " + node.get_SourcePositionStart()
-                    + " is too short (minimum " + MIN_LENGTH + " characters).");
+                    + " is too short (minimum " + MIN_LENGTH + " characters).",
+                    node.get_SourcePositionStart());
         }
     }
 }
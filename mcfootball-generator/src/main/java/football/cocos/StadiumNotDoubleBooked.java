@@ -0,0 +1,32 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._cocos.FootballSiteASTFootballSiteCoCo;
+
+/**
+ * CoCo 0xFC030: No two matches with different teams are played in the
+ * same stadium at the same kick-off (date and time), across all leagues
+ * and countries of the site.
+ *
+ * @see SiteMatchIndex#forEachDoubleBooking
+ */
+public class StadiumNotDoubleBooked implements FootballSiteASTFootballSiteCoCo {
+
+    @Override
+    public void check(ASTFootballSite node) {
+        check(SiteMatchIndex.of(node));
+    }
+
+    /** Check with the index of the site, shared with the other site-wide CoCos. */
+    static void check(SiteMatchIndex index) {
+        index.forEachDoubleBooking((m, other, stadium) -> {
+            CoCoLog.error("0xFC030 Stadium '" + stadium + "' is double-booked on "
+                    + index.date(m) + " at " + index.time(m)
+                    + ": '" + index.homeTeam(m) + "' vs '" + index.awayTeam(m)
+                    + "' at " + index.position(m)
+                    + " and '" + index.homeTeam(other) + "' vs '" + index.awayTeam(other)
+                    + "' at " + index.position(other) + ".",
+                    index.position(m));
+        });
+    }
+}
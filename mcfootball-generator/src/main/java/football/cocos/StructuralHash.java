@@ -0,0 +1,95 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTLeague;
+import football.footballsite._ast.ASTMatch;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 hashes of the content of a league or country: every attribute
+ * a country, league or match CoCo reads, and nothing else. Source
+ * positions are left out, so a subtree that only moved hashes the same.
+ * <p>
+ * The content is serialized canonically like the page inputs of the
+ * generator's {@code PageDigest}: every string UTF-8 and prefixed with
+ * its length, so no shift of characters between two adjacent fields
+ * gives the same bytes. A {@link CoCoResultCache} trusts a hit without
+ * comparing content, so the hash must not collide by accident.
+ */
+final class StructuralHash {
+
+    private final MessageDigest sha = newSha256();
+
+    private StructuralHash() {
+    }
+
+    /** @return the lowercase hex hash of {@code league} and all its matches */
+    static String of(ASTLeague league) {
+        StructuralHash h = new StructuralHash();
+        h.string(league.getName());
+        h.string(league.getSeason());
+        h.number(league.getMatchList().size());
+        for (ASTMatch match : league.getMatchList()) {
+            h.string(match.getMatchDate());
+            h.string(match.getMatchTime());
+            h.string(match.getHomeTeam());
+            h.string(match.getHomeCity());
+            h.string(match.getAwayTeam());
+            h.string(match.getAwayCity());
+            h.number(match.getHomeScore().getValue());
+            h.number(match.getAwayScore().getValue());
+            h.string(match.getStadium());
+        }
+        return h.finish();
+    }
+
+    /**
+     * @param leagueHashes {@link #of(ASTLeague)} of each league of
+     *                     {@code country}, in order
+     * @return the lowercase hex hash of {@code country} and all its leagues
+     */
+    static String of(ASTCountry country, String[] leagueHashes) {
+        StructuralHash h = new StructuralHash();
+        h.string(country.getName());
+        h.number(leagueHashes.length);
+        for (String leagueHash : leagueHashes) {
+            h.string(leagueHash);
+        }
+        return h.finish();
+    }
+
+    private void string(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        number(bytes.length);
+        sha.update(bytes);
+    }
+
+    private void number(int n) {
+        sha.update((byte) (n >>> 24));
+        sha.update((byte) (n >>> 16));
+        sha.update((byte) (n >>> 8));
+        sha.update((byte) n);
+    }
+
+    private String finish() {
+        byte[] hash = sha.digest();
+        StringBuilder sb = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            sb.append(Character.forDigit((b >>> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java SE platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
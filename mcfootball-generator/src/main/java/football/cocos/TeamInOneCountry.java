@@ -0,0 +1,30 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._cocos.FootballSiteASTFootballSiteCoCo;
+
+/**
+ * CoCo 0xFC031: A team plays only in the leagues of one country. A team
+ * name in two countries is usually a club entered under the wrong
+ * country, or two clubs that need distinct names on the site.
+ *
+ * @see SiteMatchIndex#forEachTeamInTwoCountries
+ */
+public class TeamInOneCountry implements FootballSiteASTFootballSiteCoCo {
+
+    @Override
+    public void check(ASTFootballSite node) {
+        check(SiteMatchIndex.of(node));
+    }
+
+    /** Check with the index of the site, shared with the other site-wide CoCos. */
+    static void check(SiteMatchIndex index) {
+        index.forEachTeamInTwoCountries((m, first, team) -> {
+            CoCoLog.error("0xFC031 Team '" + team + "' plays in country '"
+                    + index.country(m) + "' at " + index.position(m)
+                    + " but already in country '" + index.country(first)
+                    + "' at " + index.position(first) + ".",
+                    index.position(m));
+        });
+    }
+}
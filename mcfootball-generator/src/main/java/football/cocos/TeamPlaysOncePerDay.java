@@ -0,0 +1,33 @@
+package football.cocos;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._cocos.FootballSiteASTFootballSiteCoCo;
+
+/**
+ * CoCo 0xFC029: A team plays in at most one league per day, across all
+ * leagues and countries of the site. Matches of one league on the same
+ * day are that league's fixture list; exact duplicates are 0xFC017.
+ *
+ * @see SiteMatchIndex#forEachSameDayInOtherLeague
+ */
+public class TeamPlaysOncePerDay implements FootballSiteASTFootballSiteCoCo {
+
+    @Override
+    public void check(ASTFootballSite node) {
+        check(SiteMatchIndex.of(node));
+    }
+
+    /** Check with the index of the site, shared with the other site-wide CoCos. */
+    static void check(SiteMatchIndex index) {
+        index.forEachSameDayInOtherLeague((m, other, team) -> {
+            CoCoLog.error("0xFC029 Team '" + team + "' plays twice on "
+                    + index.date(m) + ": in league '" + index.league(m)
+                    + "' of country '" + index.country(m)
+                    + "' at " + index.position(m)
+                    + " and in league '" + index.league(other)
+                    + "' of country '" + index.country(other)
+                    + "' at " + index.position(other) + ".",
+                    index.position(m));
+        });
+    }
+}
@@ -3,31 +3,33 @@ package football.cocos;
 import football.footballsite._ast.ASTLeague;
 import football.footballsite._ast.ASTMatch;
 import football.footballsite._cocos.FootballSiteASTLeagueCoCo;
-import de.se_rwth.commons.logging.Log;
-
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * CoCo 0xFC017: No duplicate matches within a league.
  * A match is uniquely identified by the tuple (date, time, homeTeam, awayTeam).
+ *
+ * @see MatchKeySet
  */
 public class UniqueMatchPerLeague implements FootballSiteASTLeagueCoCo {
 
     @Override
     public void check(ASTLeague node) {
-        Set<String> seen = new HashSet<>();
+        MatchKeySet seen = new MatchKeySet();
         for (ASTMatch match : node.getMatchList()) {
-            String key = match.getMatchDate() + "|" + match.getMatchTime()
-                    + "|" + match.getHomeTeam() + "|" + match.getAwayTeam();
-            if (!seen.add(key)) {
-                Log.error("0xFC017 Duplicate match (date='" + match.getMatchDate()
-                        + "', time='" + match.getMatchTime()
-                        + "', home='" + match.getHomeTeam()
-                        + "', away='" + match.getAwayTeam()
-                        + "') in league '" + node.getName()
-                        + "' at " + match.get_SourcePositionStart() + ".");
+            if (!seen.add(match)) {
+                reportDuplicate(node, match);
             }
         }
     }
+
+    /** Report {@code match}, whose key an earlier match of {@code league} has. */
+    static void reportDuplicate(ASTLeague league, ASTMatch match) {
+        CoCoLog.error("0xFC017 Duplicate match (date='" + match.getMatchDate()
+                + "', time='" + match.getMatchTime()
+                + "', home='" + match.getHomeTeam()
+                + "', away='" + match.getAwayTeam()
+                + "') in league '" + league.getName()
+                + "' at " + match.get_SourcePositionStart() + ".",
+                match.get_SourcePositionStart());
+    }
 }
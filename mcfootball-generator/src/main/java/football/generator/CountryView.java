@@ -0,0 +1,57 @@
+package football.generator;
+
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTLeague;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A country with its leagues, as used by navigation, the index page
+ * and the country page.
+ */
+public final class CountryView implements ViewModel {
+
+    private static final String[] KEYS = { "leagues", "name", "slug" };
+
+    private final String name;
+    private final String slug;
+    private final List<LeagueView> leagues;
+
+    public CountryView(String name, List<LeagueView> leagues) {
+        this.name = name;
+        this.slug = FootballSiteGenerator.toSlug(name);
+        this.leagues = leagues;
+    }
+
+    /** Build the view of a country, its leagues and their matches. */
+    public static CountryView of(ASTCountry country) {
+        List<LeagueView> leagues = new ArrayList<>(country.getLeagueList().size());
+        for (ASTLeague league : country.getLeagueList()) {
+            leagues.add(LeagueView.of(league));
+        }
+        return new CountryView(country.getName(), Collections.unmodifiableList(leagues));
+    }
+
+    public String getName() { return name; }
+    public String getSlug() { return slug; }
+
+    /** @return leagues in model order (unmodifiable) */
+    public List<LeagueView> getLeagues() { return leagues; }
+
+    @Override
+    public String[] keys() {
+        return KEYS;
+    }
+
+    @Override
+    public Object get(String key) {
+        switch (key) {
+            case "name":    return name;
+            case "slug":    return slug;
+            case "leagues": return leagues;
+            default:        return null;
+        }
+    }
+}
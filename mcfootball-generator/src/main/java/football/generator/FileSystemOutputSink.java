@@ -0,0 +1,231 @@
+package football.generator;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Writes pages below a root directory as UTF-8 files.
+ * <p>
+ * Each page is written through a buffered stream into a hidden temp
+ * file next to its target and then renamed over it, so a running web
+ * server only ever sees the old or the new page. Moving a page is a
+ * rename as well. Directories that were
+ * already created are remembered, so the many pages of one directory
+ * do not each pay for a directory check.
+ */
+public class FileSystemOutputSink implements OutputSink {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Path root;
+
+    /** Directories known to exist (created or checked by this sink). */
+    private final Set<Path> knownDirs = ConcurrentHashMap.newKeySet();
+
+    /** Makes temp file names unique within this process. */
+    private final AtomicLong tempCounter = new AtomicLong();
+
+    /**
+     * @param root root output directory (created on first write)
+     */
+    public FileSystemOutputSink(Path root) {
+        this.root = root;
+    }
+
+    /** @return the root output directory */
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public Page open(String relPath) throws IOException {
+        Path target = resolve(relPath);
+        Path dir = target.getParent();
+        ensureDirectory(dir);
+
+        Path temp = dir.resolve("." + target.getFileName() + "."
+                + ProcessHandle.current().pid() + "-" + tempCounter.incrementAndGet() + ".tmp");
+        OutputStream out = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW,
+                                                       StandardOpenOption.WRITE);
+        return new FilePage(target, temp, out);
+    }
+
+    @Override
+    public InputStream read(String relPath) throws IOException {
+        try {
+            return Files.newInputStream(resolve(relPath));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean exists(String relPath) {
+        return Files.isRegularFile(resolve(relPath));
+    }
+
+    /**
+     * Delete the page file, then any directories below the root that
+     * became empty.
+     */
+    @Override
+    public boolean delete(String relPath) throws IOException {
+        Path file = resolve(relPath);
+        boolean deleted = Files.deleteIfExists(file);
+        deleteEmptyParents(file);
+        return deleted;
+    }
+
+    /**
+     * Rename the page file over its new path, then delete any
+     * directories below the root that became empty.
+     */
+    @Override
+    public void move(String from, String to) throws IOException {
+        Path source = resolve(from);
+        Path target = resolve(to);
+        ensureDirectory(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        deleteEmptyParents(source);
+    }
+
+    @Override
+    public String describe(String relPath) {
+        return resolve(relPath).toString();
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────
+
+    private Path resolve(String relPath) {
+        return relPath.isEmpty() ? root : root.resolve(relPath);
+    }
+
+    private void ensureDirectory(Path dir) throws IOException {
+        if (!knownDirs.contains(dir)) {
+            Files.createDirectories(dir);
+            knownDirs.add(dir);
+        }
+    }
+
+    private void deleteEmptyParents(Path file) throws IOException {
+        Path dir = file.getParent();
+        while (dir != null && !dir.equals(root) && dir.startsWith(root)
+                && isEmptyDirectory(dir)) {
+            Files.delete(dir);
+            knownDirs.remove(dir);
+            dir = dir.getParent();
+        }
+    }
+
+    private static boolean isEmptyDirectory(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return false;
+        }
+        try (Stream<Path> entries = Files.list(dir)) {
+            return !entries.findAny().isPresent();
+        }
+    }
+
+    /** Temp file that replaces its target on publish. */
+    private static final class FilePage implements Page {
+
+        private final Path target;
+        private final Path temp;
+        private final OutputStream file;
+        private Writer writer;
+        private OutputStream stream;
+        private boolean closed;
+
+        FilePage(Path target, Path temp, OutputStream file) {
+            this.target = target;
+            this.temp = temp;
+            this.file = file;
+        }
+
+        @Override
+        public Writer writer() {
+            if (writer == null) {
+                checkUnused();
+                writer = new BufferedWriter(
+                        new OutputStreamWriter(file, StandardCharsets.UTF_8), BUFFER_SIZE);
+            }
+            return writer;
+        }
+
+        @Override
+        public OutputStream stream() {
+            if (stream == null) {
+                checkUnused();
+                stream = new BufferedOutputStream(file, BUFFER_SIZE);
+            }
+            return stream;
+        }
+
+        private void checkUnused() {
+            if (writer != null || stream != null) {
+                throw new IllegalStateException("Page already opened as "
+                        + (writer != null ? "text" : "bytes") + ": " + target);
+            }
+        }
+
+        /** Flush and close whichever layer was handed out. */
+        private void closeOutput() throws IOException {
+            if (writer != null) {
+                writer.close();
+            } else if (stream != null) {
+                stream.close();
+            } else {
+                file.close();
+            }
+        }
+
+        @Override
+        public void publish() throws IOException {
+            closed = true;
+            try {
+                closeOutput();
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                closeOutput();
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
@@ -10,39 +10,131 @@ package football.generator;
  *   country.ftl → output/<country-slug>/index.html
  *   league.ftl  → output/<country-slug>/<league-slug>/index.html
  *
- * Data is passed to templates as plain Map<String, Object> models
- * so FreeMarker stays simple (no AST-aware directives needed).
+ * With league paging enabled (N matches per page, per match date or
+ * per month), league.ftl renders each slice with prev/next links next
+ * to the league's index.html, which becomes a compact summary page
+ * rendered from league-summary.ftl.
+ *
+ * Pages go to an OutputSink: by default a FileSystemOutputSink that
+ * writes buffered UTF-8 and publishes each page atomically (temp file
+ * plus rename), or e.g. a MemoryOutputSink for tests and embedding.
+ *
+ * Data is passed to templates as Map<String, Object> models holding
+ * immutable view objects (CountryView, LeagueView, MatchView), so
+ * FreeMarker stays simple (no AST-aware directives needed). The views
+ * are built once per AST and read through ViewObjectWrapper.
+ *
+ * Pages are independent of each other, so with parallelism > 1 the
+ * index, country and league pages are rendered concurrently on a
+ * bounded thread pool. Output is identical to the sequential path.
+ *
+ * The navigation bar is the same on every page except for the relative
+ * link prefix, so nav.ftl is rendered once per page depth and handed to
+ * the page templates as a ready-made ${navLinks} fragment.
+ *
+ * In incremental mode a SiteManifest of per-page input hashes is kept
+ * in the output sink; pages whose template, template version and
+ * data are unchanged since the last run are not rendered again, and
+ * pages that disappeared from the model are deleted.
+ *
+ * For very large models a SiteStream renders leagues as they arrive
+ * from a streaming parse, with at most one pending page per worker.
+ * Its pages are staged and only moved into place when the stream is
+ * finished, so a stream that fails writes nothing.
+ *
+ * With gzip enabled every page also gets a pre-compressed .gz sibling
+ * (e.g. index.html.gz) for servers that serve those directly. It is
+ * written by the same render job. In incremental mode the manifest
+ * stores the page's input hash for the sibling too, so an unchanged
+ * page's sibling is neither read nor recompressed; without incremental
+ * mode every sibling is written again.
  *
  * Pattern: follows SLE-lite WebsiteGenerator.
  */
 
 import football.footballsite._ast.ASTFootballSite;
 import football.footballsite._ast.ASTCountry;
-import football.footballsite._ast.ASTLeague;
-import football.footballsite._ast.ASTMatch;
 
 import freemarker.template.Configuration;
 import freemarker.template.Template;
+import freemarker.template.TemplateException;
 import freemarker.template.TemplateExceptionHandler;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Writer;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 public class FootballSiteGenerator {
 
-    /** Root directory for all generated HTML. */
-    private final Path outputDir;
+    /** Relative path back to the site root, indexed by page depth. */
+    private static final String[] ROOT_PREFIXES = { "", "../", "../../" };
 
-    /** FreeMarker configuration — loads templates from classpath. */
-    private final Configuration cfg;
+    private static final int DEPTH_INDEX   = 0;
+    private static final int DEPTH_COUNTRY = 1;
+    private static final int DEPTH_LEAGUE  = 2;
+
+    /** Suffix of the pre-compressed sibling of a page. */
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private static final int GZIP_BUFFER_SIZE = 16 * 1024;
+
+    /** Destination of all generated pages. */
+    private final OutputSink sink;
+
+    /**
+     * FreeMarker configuration — loads templates from classpath. Shared
+     * by all generators of the JVM, so templates are compiled once, also
+     * across the runs of a resident --daemon.
+     */
+    private static final Configuration SHARED_CFG = createConfiguration();
+
+    private final Configuration cfg = SHARED_CFG;
+
+    /** Number of worker threads used to render pages (1 = sequential). */
+    private final int parallelism;
+
+    /** Skip pages whose inputs did not change since the last run. */
+    private boolean incremental;
+
+    /** Also write a .gz sibling of every page. */
+    private boolean gzip;
+
+    /** How league matches are split across pages. */
+    private LeaguePaging leaguePaging = LeaguePaging.SINGLE;
+
+    /** Matches per page for {@link LeaguePaging#FIXED_SIZE}. */
+    private int matchesPerPage;
+
+    /** Template name → hash of its source, computed once per generator. */
+    private final Map<String, String> templateVersions = new ConcurrentHashMap<>();
+
+    // ── Per-run state (reset by generate) ────────────────────────────
+    private SiteManifest manifest;
+    /** Where pages of the run go: the sink, or a stream's staging sink. */
+    private OutputSink pageSink;
+    private final AtomicInteger pagesRendered = new AtomicInteger();
+    private final AtomicInteger pagesSkipped  = new AtomicInteger();
+    private final AtomicInteger pagesCompressed = new AtomicInteger();
+
+    /** Phase timings and output figures, or null when not measured. */
+    private RunStats stats;
 
     // ──────────────────────────────────────────────────────────────────
     // Constructor
@@ -52,15 +144,42 @@ public class FootballSiteGenerator {
      * @param outputDir root output directory for generated HTML
      */
     public FootballSiteGenerator(Path outputDir) {
-        this.outputDir = outputDir;
+        this(outputDir, 1);
+    }
 
-        // FreeMarker setup — load templates from classpath (templates/)
-        cfg = new Configuration(Configuration.VERSION_2_3_32);
+    /**
+     * @param outputDir   root output directory for generated HTML
+     * @param parallelism number of worker threads for page rendering
+     *                    (1 renders all pages on the calling thread)
+     */
+    public FootballSiteGenerator(Path outputDir, int parallelism) {
+        this(new FileSystemOutputSink(outputDir), parallelism);
+    }
+
+    /**
+     * @param sink        destination of the generated pages
+     * @param parallelism number of worker threads for page rendering
+     *                    (1 renders all pages on the calling thread)
+     */
+    public FootballSiteGenerator(OutputSink sink, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "parallelism must be >= 1, was " + parallelism);
+        }
+        this.sink = sink;
+        this.parallelism = parallelism;
+    }
+
+    /** FreeMarker setup — load templates from classpath (templates/). */
+    private static Configuration createConfiguration() {
+        Configuration cfg = new Configuration(Configuration.VERSION_2_3_32);
         cfg.setClassLoaderForTemplateLoading(
-                getClass().getClassLoader(), "templates");
+                FootballSiteGenerator.class.getClassLoader(), "templates");
         cfg.setDefaultEncoding("UTF-8");
         cfg.setTemplateExceptionHandler(
                 TemplateExceptionHandler.RETHROW_HANDLER);
+        cfg.setObjectWrapper(new ViewObjectWrapper());
+        return cfg;
     }
 
     // ──────────────────────────────────────────────────────────────────
@@ -70,26 +189,160 @@ public class FootballSiteGenerator {
     /**
      * Generate the full static site from a parsed AST.
      *
-     * 1. Build a shared "all countries with their leagues" list
-     *    (used for navigation on every page).
+     * 1. Build the country/league/match views once and render the
+     *    navigation links once per page depth from them.
      * 2. Render index page.
      * 3. For each country → country page, and for each league → league page.
+     *
+     * Step 2 and 3 run on the render pool when parallelism > 1.
+     *
+     * @return how many pages were rendered, skipped and deleted
+     */
+    public GenerationReport generate(ASTFootballSite ast) {
+        RunStats.Timer nav = stats == null ? null : stats.start(RunStats.Phase.NAV);
+        List<CountryView> countries = buildSiteView(ast);
+        if (nav != null) {
+            nav.stop();
+        }
+        return generate(ast.getName(), countries);
+    }
+
+    /**
+     * Generate the full static site from prebuilt country views, e.g.
+     * the countries of several models combined by a {@link SiteMerger}.
+     * Every page is rendered exactly once.
+     *
+     * @return how many pages were rendered, skipped and deleted
      */
-    public void generate(ASTFootballSite ast) {
-        String siteName = ast.getName();
-        List<Map<String, Object>> navCountries = buildNavData(ast);
+    public GenerationReport generate(String siteName, List<CountryView> countries) {
+        beginRun();
+        RunStats.Timer nav = stats == null ? null : stats.start(RunStats.Phase.NAV);
+        String[] navLinks = renderNavLinks(countries);
+        if (nav != null) {
+            nav.stop();
+        }
 
-        generateIndex(siteName, navCountries);
+        List<Runnable> pages = new ArrayList<>();
+        pages.add(() -> generateIndex(siteName, countries, navLinks[DEPTH_INDEX]));
 
-        for (ASTCountry country : ast.getCountryList()) {
-            generateCountryPage(siteName, country, navCountries);
+        for (CountryView country : countries) {
+            pages.add(() -> generateCountryPage(siteName, country, navLinks[DEPTH_COUNTRY]));
 
-            for (ASTLeague league : country.getLeagueList()) {
-                generateLeaguePage(siteName, country, league, navCountries);
+            for (LeagueView league : country.getLeagues()) {
+                pages.add(() -> generateLeaguePage(siteName, country, league,
+                                                   navLinks[DEPTH_LEAGUE]));
             }
         }
 
-        System.out.println("  Site generated: " + outputDir);
+        renderPages(pages);
+        return finishRun();
+    }
+
+    /**
+     * Start a site whose leagues arrive one at a time, e.g. from a
+     * streaming parse (see {@link SiteStream}). Only one run — stream or
+     * {@code generate} — may be active on a generator at a time.
+     *
+     * @param siteName   name of the site
+     * @param navigation countries in navigation order (their leagues
+     *                   are not used)
+     */
+    public SiteStream openStream(String siteName, List<CountryView> navigation) {
+        return new SiteStream(siteName, navigation);
+    }
+
+    /** Reset the per-run state and load the manifest if incremental. */
+    private void beginRun() {
+        manifest = incremental ? SiteManifest.load(sink) : null;
+        pageSink = sink;
+        pagesRendered.set(0);
+        pagesSkipped.set(0);
+        pagesCompressed.set(0);
+    }
+
+    /** Delete removed pages, save the manifest and report the run. */
+    private GenerationReport finishRun() {
+        int deleted = 0;
+        if (manifest != null) {
+            deleted = deleteRemovedPages(manifest.removedPages());
+            try {
+                manifest.save(sink);
+            } catch (IOException e) {
+                System.err.println("ERROR writing manifest "
+                        + sink.describe(SiteManifest.FILE_NAME) + ": " + e.getMessage());
+            }
+        }
+
+        System.out.println("  Site generated: " + sink.describe(""));
+        return new GenerationReport(pagesRendered.get(), pagesSkipped.get(), deleted,
+                                    pagesCompressed.get());
+    }
+
+    /**
+     * Enable or disable incremental generation (default: off).
+     * When on, unchanged pages are skipped based on the manifest
+     * from the previous run in the same output sink.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /** @return true if unchanged pages are skipped */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Enable or disable writing a gzip-compressed sibling
+     * ({@value #GZIP_SUFFIX}) of every page (default: off).
+     */
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    /** @return true if .gz siblings are written */
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    /**
+     * Split league pages (default: {@link LeaguePaging#SINGLE}, all
+     * matches on one page). Leagues without matches keep a single page.
+     *
+     * @param paging         how to split the matches
+     * @param matchesPerPage page size for {@link LeaguePaging#FIXED_SIZE},
+     *                       ignored otherwise
+     */
+    public void setLeaguePaging(LeaguePaging paging, int matchesPerPage) {
+        if (paging == LeaguePaging.FIXED_SIZE && matchesPerPage < 1) {
+            throw new IllegalArgumentException(
+                    "matchesPerPage must be >= 1, was " + matchesPerPage);
+        }
+        this.leaguePaging = paging;
+        this.matchesPerPage = matchesPerPage;
+    }
+
+    /** @return how league matches are split across pages */
+    public LeaguePaging getLeaguePaging() {
+        return leaguePaging;
+    }
+
+    /**
+     * Measure render and write times, pages and bytes of the following
+     * runs into {@code stats} (default: null, nothing is measured).
+     */
+    public void setStats(RunStats stats) {
+        this.stats = stats;
+    }
+
+    /** @return destination of the generated pages */
+    public OutputSink getSink() {
+        return sink;
+    }
+
+    /** @return number of worker threads used for page rendering */
+    public int getParallelism() {
+        return parallelism;
     }
 
     // ──────────────────────────────────────────────────────────────────
@@ -100,85 +353,246 @@ public class FootballSiteGenerator {
      * Render output/index.html from index.ftl.
      */
     protected void generateIndex(String siteName,
-                                  List<Map<String, Object>> navCountries) {
+                                  List<CountryView> countries,
+                                  String navLinks) {
         Map<String, Object> model = new HashMap<>();
         model.put("siteName", siteName);
-        model.put("countries", navCountries);
+        model.put("countries", countries);
+        model.put("navLinks", navLinks);
 
-        render("index.ftl", outputDir.resolve("index.html"), model);
+        render("index.ftl", "index.html", model);
     }
 
     /**
      * Render output/{country-slug}/index.html from country.ftl.
      */
     protected void generateCountryPage(String siteName,
-                                        ASTCountry country,
-                                        List<Map<String, Object>> navCountries) {
-        String slug = toSlug(country.getName());
-
-        // Build league list for this country
-        List<Map<String, Object>> leagues = new ArrayList<>();
-        for (ASTLeague league : country.getLeagueList()) {
-            Map<String, Object> lm = new LinkedHashMap<>();
-            lm.put("name", league.getName());
-            lm.put("slug", toSlug(league.getName()));
-            lm.put("season", league.getSeason());
-            leagues.add(lm);
-        }
+                                        CountryView country,
+                                        String navLinks) {
+        String slug = country.getSlug();
 
         Map<String, Object> model = new HashMap<>();
         model.put("siteName", siteName);
         model.put("countryName", country.getName());
         model.put("countrySlug", slug);
-        model.put("leagues", leagues);
-        model.put("countries", navCountries);
+        model.put("leagues", country.getLeagues());
+        model.put("navLinks", navLinks);
 
-        render("country.ftl",
-               outputDir.resolve(slug).resolve("index.html"),
-               model);
+        render("country.ftl", slug + "/index.html", model);
     }
 
     /**
-     * Render output/{country-slug}/{league-slug}/index.html from league.ftl.
+     * Render output/{country-slug}/{league-slug}/index.html from league.ftl,
+     * or the summary and match pages of a paged league.
      */
     protected void generateLeaguePage(String siteName,
-                                       ASTCountry country,
-                                       ASTLeague league,
-                                       List<Map<String, Object>> navCountries) {
-        String countrySlug = toSlug(country.getName());
-        String leagueSlug  = toSlug(league.getName());
-
-        // Build match list as simple maps
-        List<Map<String, Object>> matches = new ArrayList<>();
-        for (ASTMatch m : league.getMatchList()) {
-            Map<String, Object> mm = new LinkedHashMap<>();
-            mm.put("date",     m.getMatchDate());
-            mm.put("time",     m.getMatchTime());
-            mm.put("homeTeam", m.getHomeTeam());
-            mm.put("homeCity", m.getHomeCity());
-            mm.put("awayTeam", m.getAwayTeam());
-            mm.put("awayCity", m.getAwayCity());
-            mm.put("homeScore", m.getHomeScore().getValue());
-            mm.put("awayScore", m.getAwayScore().getValue());
-            mm.put("stadium",  m.getStadium());
-            matches.add(mm);
+                                       CountryView country,
+                                       LeagueView league,
+                                       String navLinks) {
+        if (leaguePaging != LeaguePaging.SINGLE && !league.getMatches().isEmpty()) {
+            generatePagedLeague(siteName, country, league, navLinks);
+            return;
+        }
+
+        String countrySlug = country.getSlug();
+        String leagueSlug  = league.getSlug();
+
+        Map<String, Object> model = leagueModel(siteName, country, league, navLinks);
+        model.put("matches", league.getMatches());
+
+        render("league.ftl", countrySlug + "/" + leagueSlug + "/index.html", model);
+    }
+
+    /**
+     * Render a paged league: index.html from league-summary.ftl plus one
+     * league.ftl page per slice of matches, linked to its neighbours.
+     */
+    protected void generatePagedLeague(String siteName,
+                                        CountryView country,
+                                        LeagueView league,
+                                        String navLinks) {
+        String dir = country.getSlug() + "/" + league.getSlug() + "/";
+        List<MatchView> matches = league.getMatches();
+        List<MatchPage> pages = MatchPage.split(matches, leaguePaging, matchesPerPage);
+
+        Map<String, Object> summary = leagueModel(siteName, country, league, navLinks);
+        summary.put("matchCount", matches.size());
+        summary.put("firstDate",  MatchPage.firstDate(matches));
+        summary.put("lastDate",   MatchPage.lastDate(matches));
+        summary.put("pages",      pages);
+        render("league-summary.ftl", dir + "index.html", summary);
+
+        for (int i = 0; i < pages.size(); i++) {
+            MatchPage page = pages.get(i);
+            Map<String, Object> model = leagueModel(siteName, country, league, navLinks);
+            model.put("matches",   page.getMatches());
+            model.put("pageLabel", page.getLabel());
+            model.put("prev", i > 0 ? pages.get(i - 1) : null);
+            model.put("next", i + 1 < pages.size() ? pages.get(i + 1) : null);
+            render("league.ftl", dir + page.getFileName(), model);
         }
+    }
 
+    /**
+     * Model entries shared by all pages of a league.
+     */
+    private static Map<String, Object> leagueModel(String siteName,
+                                                   CountryView country,
+                                                   LeagueView league,
+                                                   String navLinks) {
         Map<String, Object> model = new HashMap<>();
         model.put("siteName",    siteName);
         model.put("countryName", country.getName());
-        model.put("countrySlug", countrySlug);
+        model.put("countrySlug", country.getSlug());
         model.put("leagueName",  league.getName());
-        model.put("leagueSlug",  leagueSlug);
+        model.put("leagueSlug",  league.getSlug());
         model.put("season",      league.getSeason());
-        model.put("matches",     matches);
-        model.put("countries",   navCountries);
+        model.put("navLinks",    navLinks);
+        return model;
+    }
+
+    // ──────────────────────────────────────────────────────────────────
+    // Streaming
+    // ──────────────────────────────────────────────────────────────────
+
+    /**
+     * One generator run fed league by league instead of from a complete
+     * model. League and country pages are rendered as soon as they are
+     * added; the index follows in {@link #finish}. At most
+     * {@code parallelism} pages are queued or rendering at any time, so
+     * {@code addLeague} blocks while the render pool is busy and a fast
+     * producer cannot pile up leagues in memory.
+     * <p>
+     * The navigation is fixed when the stream is opened. Pages are
+     * written to a {@link StagingOutputSink} and moved into place by
+     * {@code finish}. Closing a stream without {@code finish} waits for
+     * running pages and deletes the staged ones, so the site keeps the
+     * pages of its last complete run.
+     */
+    public final class SiteStream implements AutoCloseable {
+
+        private final String siteName;
+        private final String[] navLinks;
+        private final ExecutorService pool;
+        private final Semaphore slots;
+        private final StagingOutputSink staging;
+        private volatile Throwable failure;
+        private boolean closed;
+
+        private SiteStream(String siteName, List<CountryView> navigation) {
+            beginRun();
+            this.staging = new StagingOutputSink(sink);
+            pageSink = staging;
+            this.siteName = siteName;
+            this.navLinks = renderNavLinks(navigation);
+            this.pool = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+            this.slots = new Semaphore(parallelism);
+        }
+
+        /**
+         * Render the page(s) of one league.
+         *
+         * @param country the league's country (only name and slug are used)
+         */
+        public void addLeague(CountryView country, LeagueView league) {
+            submit(() -> generateLeaguePage(siteName, country, league,
+                                            navLinks[DEPTH_LEAGUE]));
+        }
 
-        render("league.ftl",
-               outputDir.resolve(countrySlug)
-                        .resolve(leagueSlug)
-                        .resolve("index.html"),
-               model);
+        /** Render a country page once all its leagues are known. */
+        public void addCountry(CountryView country) {
+            submit(() -> generateCountryPage(siteName, country, navLinks[DEPTH_COUNTRY]));
+        }
+
+        /**
+         * Render the index, wait for all pages, move them into place and
+         * complete the run like {@link FootballSiteGenerator#generate(String, List)}.
+         *
+         * @param countries all countries of the site, in model order
+         */
+        public GenerationReport finish(List<CountryView> countries) {
+            submit(() -> generateIndex(siteName, countries, navLinks[DEPTH_INDEX]));
+            awaitPages();
+            rethrowFailure();
+            closed = true;
+            shutdown();
+            pageSink = sink;
+            try {
+                staging.commit();
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            return finishRun();
+        }
+
+        /** Discard the staged pages unless the stream was finished. */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            shutdown();
+            pageSink = sink;
+            staging.rollback();
+        }
+
+        private void shutdown() {
+            if (pool != null) {
+                awaitPages();
+                pool.shutdownNow();
+            }
+        }
+
+        private void submit(Runnable page) {
+            if (closed) {
+                throw new IllegalStateException("Site stream is closed");
+            }
+            rethrowFailure();
+            if (pool == null) {
+                page.run();
+                return;
+            }
+            try {
+                slots.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Page rendering interrupted", e);
+            }
+            pool.execute(() -> {
+                try {
+                    page.run();
+                } catch (Throwable t) {
+                    if (failure == null) {
+                        failure = t;
+                    }
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+
+        /** Wait until no page is queued or rendering. */
+        private void awaitPages() {
+            if (pool == null) {
+                return;
+            }
+            slots.acquireUninterruptibly(parallelism);
+            slots.release(parallelism);
+        }
+
+        private void rethrowFailure() {
+            Throwable t = failure;
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            if (t != null) {
+                throw new IllegalStateException("Page rendering failed", t);
+            }
+        }
     }
 
     // ──────────────────────────────────────────────────────────────────
@@ -186,48 +600,263 @@ public class FootballSiteGenerator {
     // ──────────────────────────────────────────────────────────────────
 
     /**
-     * Build a navigation data structure from the AST:
-     * List of { name, slug, leagues: [ { name, slug, season } ] }
+     * Run the page jobs — in order on the calling thread, or on a
+     * fixed pool of {@link #parallelism} workers. Each job writes its
+     * own file, so no ordering between jobs is needed.
+     * A job failure is rethrown after all submitted jobs have finished.
+     */
+    private void renderPages(List<Runnable> pages) {
+        int threads = Math.min(parallelism, pages.size());
+        if (threads <= 1) {
+            for (Runnable page : pages) {
+                page.run();
+            }
+            return;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(pages.size());
+        for (Runnable page : pages) {
+            tasks.add(Executors.callable(page, null));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Void> f : pool.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Page rendering interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Page rendering failed", cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Build the view of the whole site from the AST:
+     * countries → leagues → matches, in model order.
      */
-    private List<Map<String, Object>> buildNavData(ASTFootballSite ast) {
-        List<Map<String, Object>> countries = new ArrayList<>();
+    static List<CountryView> buildSiteView(ASTFootballSite ast) {
+        List<CountryView> countries = new ArrayList<>(ast.getCountryList().size());
         for (ASTCountry c : ast.getCountryList()) {
-            Map<String, Object> cm = new LinkedHashMap<>();
-            cm.put("name", c.getName());
-            cm.put("slug", toSlug(c.getName()));
+            countries.add(CountryView.of(c));
+        }
+        return Collections.unmodifiableList(countries);
+    }
 
-            List<Map<String, Object>> leagues = new ArrayList<>();
-            for (ASTLeague l : c.getLeagueList()) {
-                Map<String, Object> lm = new LinkedHashMap<>();
-                lm.put("name", l.getName());
-                lm.put("slug", toSlug(l.getName()));
-                lm.put("season", l.getSeason());
-                leagues.add(lm);
+    /**
+     * Render the navigation links (nav.ftl) once for every page depth.
+     * The trailing line break is dropped because the page templates
+     * place ${navLinks} on a line of its own.
+     *
+     * @return fragments indexed by depth (see {@link #ROOT_PREFIXES})
+     */
+    private String[] renderNavLinks(List<CountryView> countries) {
+        String[] fragments = new String[ROOT_PREFIXES.length];
+        try {
+            Template template = cfg.getTemplate("nav.ftl");
+            for (int depth = 0; depth < ROOT_PREFIXES.length; depth++) {
+                Map<String, Object> model = new HashMap<>();
+                model.put("prefix", ROOT_PREFIXES[depth]);
+                model.put("countries", countries);
+
+                StringWriter out = new StringWriter();
+                template.process(model, out);
+                String html = out.toString();
+                fragments[depth] = html.endsWith("\n")
+                        ? html.substring(0, html.length() - 1)
+                        : html;
+            }
+        } catch (IOException | TemplateException e) {
+            throw new IllegalStateException("Cannot render nav.ftl: " + e.getMessage(), e);
+        }
+        return fragments;
+    }
+
+    /**
+     * Delete pages of the previous run that are no longer generated,
+     * including their .gz siblings.
+     *
+     * @return number of pages deleted (siblings not counted)
+     */
+    private int deleteRemovedPages(List<String> removed) {
+        int deleted = 0;
+        for (String relPath : removed) {
+            try {
+                if (sink.delete(relPath) && !relPath.endsWith(GZIP_SUFFIX)) {
+                    deleted++;
+                    System.out.println("  deleted: " + sink.describe(relPath));
+                }
+            } catch (IOException e) {
+                System.err.println("ERROR deleting " + sink.describe(relPath)
+                        + ": " + e.getMessage());
             }
-            cm.put("leagues", leagues);
-            countries.add(cm);
         }
-        return countries;
+        return deleted;
     }
 
     /**
-     * Render a FreeMarker template to a file, creating parent dirs as needed.
+     * Render a FreeMarker template to a page of the output sink; the
+     * page is only published if the template completed.
+     * In incremental mode the page is skipped if its inputs match the
+     * previous run and the page is still present.
+     * With gzip enabled the page is compressed afterwards (also when
+     * skipped, in case its .gz sibling is missing).
+     *
+     * @param relPath page path relative to the site root
      */
-    private void render(String templateName, Path outputFile,
+    private void render(String templateName, String relPath,
                         Map<String, Object> model) {
-        try {
-            File file = outputFile.toFile();
-            file.getParentFile().mkdirs();
+        long wall = stats == null ? 0L : System.nanoTime();
+        long cpu = stats == null ? 0L : RunStats.cpuNow();
+        String hash = null;
+        if (manifest != null) {
+            hash = PageDigest.of(templateName, templateVersion(templateName), model);
+            if (manifest.isUnchanged(relPath, hash) && pageSink.exists(relPath)) {
+                manifest.record(relPath, hash);
+                pagesSkipped.incrementAndGet();
+                if (stats != null) {
+                    stats.add(RunStats.Phase.RENDER, System.nanoTime() - wall,
+                              RunStats.cpuNow() - cpu);
+                }
+                if (gzip) {
+                    compress(relPath, hash);
+                }
+                return;
+            }
+        }
 
+        try {
             Template template = cfg.getTemplate(templateName);
-            try (Writer out = new FileWriter(file)) {
-                template.process(model, out);
+            long writeNanos = 0L;
+            long writeCpu = 0L;
+            try (OutputSink.Page page = pageSink.open(relPath)) {
+                RunStats.MeasuredPage measured = stats == null ? null : stats.measure(page);
+                OutputSink.Page out = measured == null ? page : measured;
+                template.process(model, out.writer());
+                out.publish();
+                if (measured != null) {
+                    writeNanos = measured.getWriteNanos();
+                    writeCpu = measured.getWriteCpuNanos();
+                }
             }
-            System.out.println("  wrote: " + outputFile);
+            if (stats != null) {
+                long renderNanos = System.nanoTime() - wall - writeNanos;
+                stats.add(RunStats.Phase.RENDER, renderNanos,
+                          RunStats.cpuNow() - cpu - writeCpu);
+                stats.pageRendered(templateName, relPath, renderNanos);
+            }
+            pagesRendered.incrementAndGet();
+            if (manifest != null) {
+                manifest.record(relPath, hash);
+            }
+            System.out.println("  wrote: " + sink.describe(relPath));
         } catch (Exception e) {
+            if (manifest != null) {
+                // Keep the page (no hash → rendered again next run)
+                manifest.retain(relPath);
+                manifest.retain(relPath + GZIP_SUFFIX);
+            }
             System.err.println("ERROR rendering " + templateName
-                    + " → " + outputFile + ": " + e.getMessage());
+                    + " → " + sink.describe(relPath) + ": " + e.getMessage());
             e.printStackTrace();
+            return;
+        }
+
+        if (gzip) {
+            compress(relPath, hash);
+        }
+    }
+
+    /**
+     * Write the {@value #GZIP_SUFFIX} sibling of a published page at
+     * maximum compression. In incremental mode the manifest records the
+     * page's input hash under the sibling's path as well, so the sibling
+     * of an unchanged page is kept without reading the page (and the
+     * sibling of a removed page is deleted with it). Without incremental
+     * mode every page is compressed again.
+     *
+     * @param hash the page's input hash, or null if not incremental
+     */
+    private void compress(String relPath, String hash) {
+        RunStats.Timer timer = stats == null ? null : stats.start(RunStats.Phase.WRITE);
+        try {
+            compressPage(relPath, hash);
+        } finally {
+            if (timer != null) {
+                timer.stop();
+            }
+        }
+    }
+
+    private void compressPage(String relPath, String hash) {
+        String gzPath = relPath + GZIP_SUFFIX;
+        try {
+            if (manifest != null && manifest.isUnchanged(gzPath, hash)
+                    && pageSink.exists(gzPath)) {
+                manifest.record(gzPath, hash);
+                return;
+            }
+
+            byte[] html;
+            try (InputStream in = pageSink.read(relPath)) {
+                if (in == null) {
+                    return;
+                }
+                html = in.readAllBytes();
+            }
+
+            try (OutputSink.Page page = pageSink.open(gzPath)) {
+                OutputSink.Page target = stats == null ? page : stats.count(page);
+                GZIPOutputStream out = new MaxGzipOutputStream(target.stream());
+                out.write(html);
+                out.finish();
+                target.publish();
+            }
+            pagesCompressed.incrementAndGet();
+            if (manifest != null) {
+                manifest.record(gzPath, hash);
+            }
+        } catch (IOException e) {
+            if (manifest != null) {
+                manifest.retain(gzPath);
+            }
+            System.err.println("ERROR compressing " + sink.describe(relPath)
+                    + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Hash of a template's source text, so that editing a template
+     * invalidates every page rendered from it.
+     */
+    private String templateVersion(String templateName) {
+        return templateVersions.computeIfAbsent(templateName, name -> {
+            try (InputStream in = getClass().getClassLoader()
+                    .getResourceAsStream("templates/" + name)) {
+                if (in == null) {
+                    return "missing";
+                }
+                return PageDigest.ofBytes(in.readAllBytes());
+            } catch (IOException e) {
+                // Unknown version → never matches a manifest entry
+                return "unreadable-" + System.nanoTime();
+            }
+        });
+    }
+
+    /** gzip stream at {@link Deflater#BEST_COMPRESSION} (the default is 6). */
+    private static final class MaxGzipOutputStream extends GZIPOutputStream {
+
+        MaxGzipOutputStream(OutputStream out) throws IOException {
+            super(out, GZIP_BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_COMPRESSION);
         }
     }
 
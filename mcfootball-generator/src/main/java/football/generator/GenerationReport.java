@@ -0,0 +1,43 @@
+package football.generator;
+
+/**
+ * Page counts of one {@link FootballSiteGenerator#generate} run.
+ */
+public class GenerationReport {
+
+    private final int pagesRendered;
+    private final int pagesSkipped;
+    private final int pagesDeleted;
+    private final int pagesCompressed;
+
+    public GenerationReport(int pagesRendered, int pagesSkipped, int pagesDeleted) {
+        this(pagesRendered, pagesSkipped, pagesDeleted, 0);
+    }
+
+    public GenerationReport(int pagesRendered, int pagesSkipped, int pagesDeleted,
+                            int pagesCompressed) {
+        this.pagesRendered   = pagesRendered;
+        this.pagesSkipped    = pagesSkipped;
+        this.pagesDeleted    = pagesDeleted;
+        this.pagesCompressed = pagesCompressed;
+    }
+
+    /** Pages written in this run. */
+    public int getPagesRendered() { return pagesRendered; }
+
+    /** Pages left untouched because their inputs did not change. */
+    public int getPagesSkipped()  { return pagesSkipped; }
+
+    /** Pages of the previous run that no longer exist in the model. */
+    public int getPagesDeleted()  { return pagesDeleted; }
+
+    /** .gz siblings written in this run (0 unless gzip is enabled). */
+    public int getPagesCompressed() { return pagesCompressed; }
+
+    @Override
+    public String toString() {
+        String s = pagesRendered + " rendered, " + pagesSkipped + " skipped, "
+                + pagesDeleted + " deleted";
+        return pagesCompressed > 0 ? s + ", " + pagesCompressed + " compressed" : s;
+    }
+}
@@ -0,0 +1,21 @@
+package football.generator;
+
+/**
+ * How a league's matches are split across pages.
+ *
+ * @see FootballSiteGenerator#setLeaguePaging(LeaguePaging, int)
+ */
+public enum LeaguePaging {
+
+    /** All matches on the league page (default). */
+    SINGLE,
+
+    /** A fixed number of matches per page, in model order. */
+    FIXED_SIZE,
+
+    /** One page per match date (the grammar has no matchday number). */
+    MATCHDAY,
+
+    /** One page per calendar month of the match date. */
+    MONTH
+}
@@ -0,0 +1,58 @@
+package football.generator;
+
+import football.footballsite._ast.ASTLeague;
+
+import java.util.List;
+
+/**
+ * A league as listed in navigation and on its country page.
+ * <p>
+ * The match views are built once with the league, but they are not a
+ * template property: league.ftl receives them as its own top-level
+ * {@code matches} list, so a changed score does not change the data
+ * (and page hash) of the index and country pages.
+ */
+public final class LeagueView implements ViewModel {
+
+    private static final String[] KEYS = { "name", "season", "slug" };
+
+    private final String name;
+    private final String slug;
+    private final String season;
+    private final List<MatchView> matches;
+
+    public LeagueView(String name, String season, List<MatchView> matches) {
+        this.name = name;
+        this.slug = FootballSiteGenerator.toSlug(name);
+        this.season = season;
+        this.matches = matches;
+    }
+
+    /** Build the view of a league and all its matches. */
+    public static LeagueView of(ASTLeague league) {
+        return new LeagueView(league.getName(), league.getSeason(),
+                MatchView.listOf(league.getMatchList()));
+    }
+
+    public String getName()   { return name; }
+    public String getSlug()   { return slug; }
+    public String getSeason() { return season; }
+
+    /** @return matches in model order (unmodifiable) */
+    public List<MatchView> getMatches() { return matches; }
+
+    @Override
+    public String[] keys() {
+        return KEYS;
+    }
+
+    @Override
+    public Object get(String key) {
+        switch (key) {
+            case "name":   return name;
+            case "slug":   return slug;
+            case "season": return season;
+            default:       return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package football.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * One page of a paged league: a slice of its matches, stored as
+ * {@code <country>/<league>/<fileName>} next to the league's summary
+ * page. As a template value it is a link (href, label, date range,
+ * match count) for summary tables and prev/next navigation.
+ */
+final class MatchPage implements ViewModel {
+
+    private static final String[] KEYS = {
+        "firstDate", "href", "label", "lastDate", "matchCount"
+    };
+
+    private final String fileName;
+    private final String label;
+    private final List<MatchView> matches;
+
+    MatchPage(String fileName, String label, List<MatchView> matches) {
+        this.fileName = fileName;
+        this.label = label;
+        this.matches = matches;
+    }
+
+    String getFileName()        { return fileName; }
+    String getLabel()           { return label; }
+    List<MatchView> getMatches() { return matches; }
+
+    @Override
+    public String[] keys() {
+        return KEYS;
+    }
+
+    @Override
+    public Object get(String key) {
+        switch (key) {
+            case "href":       return fileName;
+            case "label":      return label;
+            case "matchCount": return matches.size();
+            case "firstDate":  return firstDate(matches);
+            case "lastDate":   return lastDate(matches);
+            default:           return null;
+        }
+    }
+
+    /** @return earliest match date (ISO dates compare as strings) */
+    static String firstDate(List<MatchView> matches) {
+        String first = null;
+        for (MatchView m : matches) {
+            if (first == null || m.getDate().compareTo(first) < 0) {
+                first = m.getDate();
+            }
+        }
+        return first;
+    }
+
+    /** @return latest match date (ISO dates compare as strings) */
+    static String lastDate(List<MatchView> matches) {
+        String last = null;
+        for (MatchView m : matches) {
+            if (last == null || m.getDate().compareTo(last) > 0) {
+                last = m.getDate();
+            }
+        }
+        return last;
+    }
+
+    // ── Splitting ────────────────────────────────────────────────────
+
+    /**
+     * Split a league's matches into pages.
+     *
+     * @param pageSize matches per page, used by {@link LeaguePaging#FIXED_SIZE}
+     * @return non-empty pages in order; empty if there are no matches
+     */
+    static List<MatchPage> split(List<MatchView> matches, LeaguePaging paging,
+                                 int pageSize) {
+        switch (paging) {
+            case FIXED_SIZE:
+                return bySize(matches, pageSize);
+            case MATCHDAY:
+                return byKey(matches, MatchView::getDate, "matchday-");
+            case MONTH:
+                return byKey(matches, m -> month(m.getDate()), "month-");
+            default:
+                throw new IllegalArgumentException("Not a paged mode: " + paging);
+        }
+    }
+
+    private static List<MatchPage> bySize(List<MatchView> matches, int pageSize) {
+        List<MatchPage> pages = new ArrayList<>();
+        for (int from = 0; from < matches.size(); from += pageSize) {
+            int to = Math.min(from + pageSize, matches.size());
+            pages.add(new MatchPage("page-" + (pages.size() + 1) + ".html",
+                    "Matches " + (from + 1) + "–" + to,
+                    matches.subList(from, to)));
+        }
+        return pages;
+    }
+
+    /**
+     * Group matches by a date-derived key; groups are ordered by key
+     * (ISO dates sort chronologically), matches keep model order.
+     */
+    private static List<MatchPage> byKey(List<MatchView> matches,
+                                         Function<MatchView, String> key,
+                                         String filePrefix) {
+        Map<String, List<MatchView>> groups = new TreeMap<>();
+        for (MatchView m : matches) {
+            groups.computeIfAbsent(key.apply(m), k -> new ArrayList<>()).add(m);
+        }
+        List<MatchPage> pages = new ArrayList<>(groups.size());
+        for (Map.Entry<String, List<MatchView>> e : groups.entrySet()) {
+            pages.add(new MatchPage(filePrefix + fileSafe(e.getKey()) + ".html",
+                    e.getKey(), Collections.unmodifiableList(e.getValue())));
+        }
+        return pages;
+    }
+
+    /** "2025-08-23" → "2025-08"; anything shorter is kept as is. */
+    private static String month(String date) {
+        return date.length() >= 7 ? date.substring(0, 7) : date;
+    }
+
+    private static String fileSafe(String key) {
+        return key.replaceAll("[^A-Za-z0-9-]", "-");
+    }
+}
@@ -0,0 +1,92 @@
+package football.generator;
+
+import football.footballsite._ast.ASTMatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One row of a league page's match table.
+ */
+public final class MatchView implements ViewModel {
+
+    private static final String[] KEYS = {
+        "awayCity", "awayScore", "awayTeam", "date", "homeCity",
+        "homeScore", "homeTeam", "stadium", "time"
+    };
+
+    private final String date;
+    private final String time;
+    private final String homeTeam;
+    private final String homeCity;
+    private final String awayTeam;
+    private final String awayCity;
+    private final int homeScore;
+    private final int awayScore;
+    private final String stadium;
+
+    public MatchView(String date, String time,
+                     String homeTeam, String homeCity,
+                     String awayTeam, String awayCity,
+                     int homeScore, int awayScore, String stadium) {
+        this.date      = date;
+        this.time      = time;
+        this.homeTeam  = homeTeam;
+        this.homeCity  = homeCity;
+        this.awayTeam  = awayTeam;
+        this.awayCity  = awayCity;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.stadium   = stadium;
+    }
+
+    /** Build the view of a single match. */
+    public static MatchView of(ASTMatch m) {
+        return new MatchView(m.getMatchDate(), m.getMatchTime(),
+                m.getHomeTeam(), m.getHomeCity(),
+                m.getAwayTeam(), m.getAwayCity(),
+                m.getHomeScore().getValue(), m.getAwayScore().getValue(),
+                m.getStadium());
+    }
+
+    /** Build the views of all matches, in model order. */
+    public static List<MatchView> listOf(List<ASTMatch> matches) {
+        List<MatchView> views = new ArrayList<>(matches.size());
+        for (ASTMatch m : matches) {
+            views.add(of(m));
+        }
+        return Collections.unmodifiableList(views);
+    }
+
+    public String getDate()     { return date; }
+    public String getTime()     { return time; }
+    public String getHomeTeam() { return homeTeam; }
+    public String getHomeCity() { return homeCity; }
+    public String getAwayTeam() { return awayTeam; }
+    public String getAwayCity() { return awayCity; }
+    public int getHomeScore()   { return homeScore; }
+    public int getAwayScore()   { return awayScore; }
+    public String getStadium()  { return stadium; }
+
+    @Override
+    public String[] keys() {
+        return KEYS;
+    }
+
+    @Override
+    public Object get(String key) {
+        switch (key) {
+            case "date":      return date;
+            case "time":      return time;
+            case "homeTeam":  return homeTeam;
+            case "homeCity":  return homeCity;
+            case "awayTeam":  return awayTeam;
+            case "awayCity":  return awayCity;
+            case "homeScore": return homeScore;
+            case "awayScore": return awayScore;
+            case "stadium":   return stadium;
+            default:          return null;
+        }
+    }
+}
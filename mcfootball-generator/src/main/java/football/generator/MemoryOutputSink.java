@@ -0,0 +1,112 @@
+package football.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps generated pages in memory — for tests and for embedding the
+ * generator without touching the file system.
+ */
+public class MemoryOutputSink implements OutputSink {
+
+    /** Relative path → published page bytes. */
+    private final Map<String, byte[]> pages = new ConcurrentHashMap<>();
+
+    @Override
+    public Page open(String relPath) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        return new Page() {
+            private Writer writer;
+
+            @Override
+            public Writer writer() {
+                if (writer == null) {
+                    writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8);
+                }
+                return writer;
+            }
+
+            @Override
+            public OutputStream stream() {
+                return bytes;
+            }
+
+            @Override
+            public void publish() throws IOException {
+                if (writer != null) {
+                    writer.flush();
+                }
+                pages.put(relPath, bytes.toByteArray());
+            }
+
+            @Override
+            public void close() {
+                // Nothing to release; unpublished content is dropped
+            }
+        };
+    }
+
+    @Override
+    public InputStream read(String relPath) {
+        byte[] content = pages.get(relPath);
+        return content != null ? new ByteArrayInputStream(content) : null;
+    }
+
+    @Override
+    public boolean exists(String relPath) {
+        return pages.containsKey(relPath);
+    }
+
+    @Override
+    public boolean delete(String relPath) {
+        return pages.remove(relPath) != null;
+    }
+
+    @Override
+    public void move(String from, String to) throws IOException {
+        byte[] content = pages.remove(from);
+        if (content == null) {
+            throw new IOException("No page to move: " + describe(from));
+        }
+        pages.put(to, content);
+    }
+
+    @Override
+    public String describe(String relPath) {
+        return "memory:/" + relPath;
+    }
+
+    /**
+     * @return content of a published text page, or null if there is none
+     */
+    public String getPage(String relPath) {
+        byte[] content = pages.get(relPath);
+        return content != null ? new String(content, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * @return bytes of a published page, or null if there is none
+     */
+    public byte[] getBytes(String relPath) {
+        byte[] content = pages.get(relPath);
+        return content != null ? content.clone() : null;
+    }
+
+    /**
+     * @return snapshot of the paths of all published pages, sorted
+     */
+    public SortedSet<String> getPaths() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(pages.keySet()));
+    }
+}
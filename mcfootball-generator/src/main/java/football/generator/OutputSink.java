@@ -0,0 +1,83 @@
+package football.generator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Destination of generated pages, addressed by '/'-separated paths
+ * relative to the site root (e.g. "germany/bundesliga/index.html").
+ * <p>
+ * A page is written through a {@link Page} and becomes visible only
+ * when it is published, so readers never see a half-written page.
+ * Implementations must be safe for concurrent use by render workers.
+ *
+ * @see FileSystemOutputSink
+ * @see MemoryOutputSink
+ */
+public interface OutputSink {
+
+    /**
+     * Start writing a page. The previous content (if any) stays
+     * visible until {@link Page#publish()} is called.
+     */
+    Page open(String relPath) throws IOException;
+
+    /**
+     * @return the bytes of the published page, or null if there is none
+     */
+    InputStream read(String relPath) throws IOException;
+
+    /** @return true if a page has been published under this path */
+    boolean exists(String relPath);
+
+    /**
+     * Remove a published page.
+     *
+     * @return true if the page existed
+     */
+    boolean delete(String relPath) throws IOException;
+
+    /**
+     * Publish the page at {@code from} under {@code to}, replacing what
+     * is there, and remove it from {@code from}. The default copies the
+     * bytes; sinks that can rename should.
+     */
+    default void move(String from, String to) throws IOException {
+        try (InputStream in = read(from)) {
+            if (in == null) {
+                throw new IOException("No page to move: " + describe(from));
+            }
+            try (Page page = open(to)) {
+                in.transferTo(page.stream());
+                page.publish();
+            }
+        }
+        delete(from);
+    }
+
+    /**
+     * @return human-readable location of a page for log output
+     *         ("" denotes the site root)
+     */
+    String describe(String relPath);
+
+    /**
+     * A page being written, either as text through {@link #writer()}
+     * or as bytes through {@link #stream()} — not both. Closing it
+     * without {@link #publish()} discards everything written.
+     */
+    interface Page extends Closeable {
+
+        /** @return writer for text content, encoded as UTF-8 */
+        Writer writer();
+
+        /** @return stream for binary content (e.g. a .gz sibling) */
+        OutputStream stream();
+
+        /** Make the written content the page's published content. */
+        void publish() throws IOException;
+    }
+}
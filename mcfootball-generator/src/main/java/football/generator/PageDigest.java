@@ -0,0 +1,156 @@
+package football.generator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content hash of everything that goes into one rendered page:
+ * template name, template version and the template data model.
+ * <p>
+ * The model is serialized canonically (map keys sorted, every value
+ * tagged with its kind and length-prefixed) so two runs with the same
+ * inputs always produce the same hash, independent of HashMap order.
+ * A {@link ViewModel} is serialized exactly like a map of its
+ * properties.
+ */
+final class PageDigest {
+
+    private final MessageDigest sha;
+
+    private PageDigest() {
+        this.sha = newSha256();
+    }
+
+    /**
+     * @param templateName    e.g. "league.ftl"
+     * @param templateVersion hash of the template source
+     * @param model           data model passed to the template
+     * @return lowercase hex SHA-256 of all page inputs
+     */
+    static String of(String templateName, String templateVersion,
+                     Map<String, Object> model) {
+        PageDigest d = new PageDigest();
+        d.string(templateName);
+        d.string(templateVersion);
+        d.value(model);
+        return toHex(d.sha.digest());
+    }
+
+    /**
+     * @return lowercase hex SHA-256 of the given bytes
+     */
+    static String ofBytes(byte[] bytes) {
+        return toHex(newSha256().digest(bytes));
+    }
+
+    /**
+     * @return lowercase hex SHA-256 of the remaining bytes of the given
+     *         buffer, which is left unchanged; a mapped buffer is hashed
+     *         without copying it to the heap
+     */
+    static String ofBuffer(ByteBuffer bytes) {
+        MessageDigest sha = newSha256();
+        sha.update(bytes.duplicate());
+        return toHex(sha.digest());
+    }
+
+    // ── Canonical serialization ──────────────────────────────────────
+
+    private void value(Object v) {
+        if (v == null) {
+            tag('Z');
+        } else if (v instanceof String) {
+            tag('S');
+            string((String) v);
+        } else if (v instanceof Number) {
+            tag('N');
+            string(v.toString());
+        } else if (v instanceof Boolean) {
+            tag('B');
+            string(v.toString());
+        } else if (v instanceof Map) {
+            map((Map<?, ?>) v);
+        } else if (v instanceof ViewModel) {
+            view((ViewModel) v);
+        } else if (v instanceof Collection) {
+            Collection<?> items = (Collection<?>) v;
+            tag('L');
+            length(items.size());
+            for (Object item : items) {
+                value(item);
+            }
+        } else {
+            tag('O');
+            string(v.getClass().getName());
+            string(v.toString());
+        }
+    }
+
+    private void map(Map<?, ?> m) {
+        List<String> keys = new ArrayList<>();
+        for (Object k : m.keySet()) {
+            keys.add(String.valueOf(k));
+        }
+        keys.sort(null);
+
+        tag('M');
+        length(keys.size());
+        for (String key : keys) {
+            string(key);
+            value(m.get(key));
+        }
+    }
+
+    private void view(ViewModel v) {
+        String[] keys = v.keys();
+        tag('M');
+        length(keys.length);
+        for (String key : keys) {
+            string(key);
+            value(v.get(key));
+        }
+    }
+
+    private void string(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        length(bytes.length);
+        sha.update(bytes);
+    }
+
+    private void length(int n) {
+        sha.update((byte) (n >>> 24));
+        sha.update((byte) (n >>> 16));
+        sha.update((byte) (n >>> 8));
+        sha.update((byte) n);
+    }
+
+    private void tag(char c) {
+        sha.update((byte) c);
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java SE platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String toHex(byte[] hash) {
+        StringBuilder sb = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            sb.append(Character.forDigit((b >>> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,483 @@
+package football.generator;
+
+import football.cocos.CoCoStats;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings and output figures of one tool run, for {@code --report json}.
+ * <p>
+ * Every {@link Phase} accumulates wall and CPU time (CPU time of the
+ * measuring thread, 0 where the JVM cannot measure it). Phases that run
+ * on several threads at once — rendering and writing pages, parsing
+ * imported shards — add up the time of all threads, so their wall time
+ * can exceed {@link #toJson() elapsedMs}.
+ * <p>
+ * Render and write are told apart by timing the page output stream:
+ * time spent inside it (and in publishing and compressing the page) is
+ * write time, the rest of a page's time is render time.
+ * <p>
+ * The calls and time of every CoCo are reported from
+ * {@link #getCoCoStats()}, filled by the checkers the run gives it to.
+ * <p>
+ * All methods may be called from any thread. Nothing is measured unless
+ * a generator has a RunStats (see
+ * {@link FootballSiteGenerator#setStats(RunStats)}).
+ */
+public final class RunStats {
+
+    /** Parts of a run, in pipeline order. */
+    public enum Phase {
+        /** Reading the model file (and decoding a snapshot on a cache hit). */
+        READ,
+        /** MontiCore parsing of the model and its imported shards. */
+        PARSE,
+        /** All CoCo checks. */
+        COCO,
+        /** Building the site views and the navigation fragments. */
+        NAV,
+        /** FreeMarker template processing, incl. incremental page hashing. */
+        RENDER,
+        /** Page bytes into the output sink, publishing and gzip. */
+        WRITE
+    }
+
+    private static final int SLOWEST_PAGES = 10;
+    private static final int SLOWEST_TEMPLATES = 5;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder[] wallNanos = adders();
+    private final LongAdder[] cpuNanos = adders();
+
+    private final LongAdder filesWritten = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final Map<String, TemplateTime> templates = new ConcurrentHashMap<>();
+    /** Min-heap on render time: the head is the fastest of the slowest pages. */
+    private final PriorityQueue<PageTime> slowestPages =
+            new PriorityQueue<>(Comparator.comparingLong(p -> p.nanos));
+
+    private final Map<String, Object> info = new LinkedHashMap<>();
+    private GenerationReport report;
+    private final CoCoStats cocoRules = new CoCoStats();
+
+    /**
+     * Start measuring now; also resets the peak usage of the heap
+     * pools, so {@code peakHeapBytes} belongs to this run.
+     */
+    public RunStats() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[Phase.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /** @return CPU time of the current thread in nanoseconds, 0 if unsupported */
+    static long cpuNow() {
+        return THREADS.isCurrentThreadCpuTimeSupported()
+                ? THREADS.getCurrentThreadCpuTime() : 0L;
+    }
+
+    /** Start timing {@code phase} on the current thread. */
+    public Timer start(Phase phase) {
+        return new Timer(phase);
+    }
+
+    /** Add time measured elsewhere to {@code phase}. */
+    public void add(Phase phase, long wall, long cpu) {
+        wallNanos[phase.ordinal()].add(wall);
+        cpuNanos[phase.ordinal()].add(Math.max(0L, cpu));
+    }
+
+    /**
+     * Record a top-level value of the report, e.g. the model path or the
+     * exit status. Values are strings, numbers or booleans.
+     */
+    public void put(String key, Object value) {
+        synchronized (info) {
+            info.put(key, value);
+        }
+    }
+
+    /** @return the calls and time of every CoCo, for the checkers of the run */
+    public CoCoStats getCoCoStats() {
+        return cocoRules;
+    }
+
+    /** Page counts of the generation, if it got that far. */
+    public void setGenerationReport(GenerationReport report) {
+        synchronized (info) {
+            this.report = report;
+        }
+    }
+
+    // ── Generator hooks ──────────────────────────────────────────────
+
+    /**
+     * Wrap a page so the time and bytes of its output go to
+     * {@link Phase#WRITE}. The page is written through its byte stream
+     * (text is encoded as UTF-8 here, as every sink does).
+     */
+    MeasuredPage measure(OutputSink.Page page) {
+        return new MeasuredPage(page, true);
+    }
+
+    /**
+     * Wrap a page so only its bytes are counted, for output that is
+     * already inside a {@link Phase#WRITE} timer (gzip siblings).
+     */
+    MeasuredPage count(OutputSink.Page page) {
+        return new MeasuredPage(page, false);
+    }
+
+    /** One page rendered in {@code nanos}, excluding its write time. */
+    void pageRendered(String templateName, String relPath, long nanos) {
+        templates.computeIfAbsent(templateName, TemplateTime::new).add(nanos);
+        synchronized (slowestPages) {
+            if (slowestPages.size() < SLOWEST_PAGES) {
+                slowestPages.add(new PageTime(relPath, templateName, nanos));
+            } else if (slowestPages.peek().nanos < nanos) {
+                slowestPages.poll();
+                slowestPages.add(new PageTime(relPath, templateName, nanos));
+            }
+        }
+    }
+
+    /** A file (page or .gz sibling) of {@code bytes} was published. */
+    void fileWritten(long bytes) {
+        filesWritten.increment();
+        bytesWritten.add(bytes);
+    }
+
+    // ── Report ───────────────────────────────────────────────────────
+
+    /** @return the run so far as one JSON object (ends with a line break) */
+    public String toJson() {
+        long elapsed = System.nanoTime() - startNanos;
+        StringBuilder json = new StringBuilder("{\n");
+        synchronized (info) {
+            for (Map.Entry<String, Object> e : info.entrySet()) {
+                json.append("  ").append(quote(e.getKey())).append(": ")
+                    .append(value(e.getValue())).append(",\n");
+            }
+        }
+        json.append("  \"elapsedMs\": ").append(millis(elapsed)).append(",\n");
+
+        json.append("  \"phases\": {\n");
+        Phase[] phases = Phase.values();
+        for (int i = 0; i < phases.length; i++) {
+            json.append("    ").append(quote(phases[i].name().toLowerCase(Locale.ROOT)))
+                .append(": { \"wallMs\": ").append(millis(wallNanos[i].sum()))
+                .append(", \"cpuMs\": ").append(millis(cpuNanos[i].sum()))
+                .append(" }").append(i + 1 < phases.length ? ",\n" : "\n");
+        }
+        json.append("  },\n");
+
+        GenerationReport pages;
+        synchronized (info) {
+            pages = report;
+        }
+        if (pages != null) {
+            json.append("  \"pages\": { \"rendered\": ").append(pages.getPagesRendered())
+                .append(", \"skipped\": ").append(pages.getPagesSkipped())
+                .append(", \"deleted\": ").append(pages.getPagesDeleted())
+                .append(", \"compressed\": ").append(pages.getPagesCompressed())
+                .append(" },\n");
+        }
+        json.append("  \"filesWritten\": ").append(filesWritten.sum()).append(",\n");
+        json.append("  \"bytesWritten\": ").append(bytesWritten.sum()).append(",\n");
+
+        List<TemplateTime> byTotal = new ArrayList<>(templates.values());
+        byTotal.sort(Comparator.comparingLong((TemplateTime t) -> t.total.sum()).reversed()
+                .thenComparing(t -> t.name));
+        json.append("  \"slowestTemplates\": [");
+        for (int i = 0; i < Math.min(SLOWEST_TEMPLATES, byTotal.size()); i++) {
+            TemplateTime t = byTotal.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                .append("    { \"template\": ").append(quote(t.name))
+                .append(", \"pages\": ").append(t.count.sum())
+                .append(", \"totalMs\": ").append(millis(t.total.sum()))
+                .append(", \"maxMs\": ").append(millis(t.max.get())).append(" }");
+        }
+        json.append(byTotal.isEmpty() ? "],\n" : "\n  ],\n");
+
+        List<PageTime> slowest;
+        synchronized (slowestPages) {
+            slowest = new ArrayList<>(slowestPages);
+        }
+        slowest.sort(Comparator.comparingLong((PageTime p) -> p.nanos).reversed()
+                .thenComparing(p -> p.relPath));
+        json.append("  \"slowestPages\": [");
+        for (int i = 0; i < slowest.size(); i++) {
+            PageTime p = slowest.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                .append("    { \"page\": ").append(quote(p.relPath))
+                .append(", \"template\": ").append(quote(p.templateName))
+                .append(", \"renderMs\": ").append(millis(p.nanos)).append(" }");
+        }
+        json.append(slowest.isEmpty() ? "],\n" : "\n  ],\n");
+
+        List<Integer> rules = cocoRules.getRulesByTime();
+        json.append("  \"cocoRules\": [");
+        for (int i = 0; i < rules.size(); i++) {
+            int rule = rules.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                .append("    { \"rule\": ").append(quote(CoCoStats.code(rule)))
+                .append(", \"calls\": ").append(cocoRules.getCalls(rule))
+                .append(", \"totalMs\": ").append(millis(cocoRules.getNanos(rule))).append(" }");
+        }
+        json.append(rules.isEmpty() ? "],\n" : "\n  ],\n");
+
+        json.append("  \"peakHeapBytes\": ").append(peakHeapBytes()).append("\n");
+        return json.append("}\n").toString();
+    }
+
+    /** Sum of the peak usage of all heap pools since the start of the run. */
+    private static long peakHeapBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()
+                    && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String value(Object value) {
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return value == null ? "null" : quote(value.toString());
+    }
+
+    private static String quote(String s) {
+        StringBuilder out = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':  out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────
+
+    /** Wall and CPU time of one phase on one thread. */
+    public final class Timer {
+
+        private final Phase phase;
+        private final long wall = System.nanoTime();
+        private final long cpu = cpuNow();
+
+        private Timer(Phase phase) {
+            this.phase = phase;
+        }
+
+        /** Add the time since {@link RunStats#start} to the phase. */
+        public void stop() {
+            add(phase, System.nanoTime() - wall, cpuNow() - cpu);
+        }
+    }
+
+    /**
+     * A page whose output stream and publish are timed as
+     * {@link Phase#WRITE}; {@link #getWriteNanos()} lets the caller
+     * subtract that from its render time.
+     */
+    final class MeasuredPage implements OutputSink.Page {
+
+        private final OutputSink.Page page;
+        private final MeasuredStream stream;
+        private Writer writer;
+
+        private MeasuredPage(OutputSink.Page page, boolean timed) {
+            this.page = page;
+            this.stream = new MeasuredStream(page, timed);
+        }
+
+        @Override
+        public Writer writer() {
+            if (writer == null) {
+                writer = new BufferedWriter(
+                        new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+            }
+            return writer;
+        }
+
+        @Override
+        public OutputStream stream() {
+            return stream;
+        }
+
+        @Override
+        public void publish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            long wall = System.nanoTime();
+            long cpu = cpuNow();
+            stream.flush();
+            page.publish();
+            stream.time(wall, cpu);
+            fileWritten(stream.bytes);
+        }
+
+        @Override
+        public void close() {
+            // The caller closes the wrapped page
+        }
+
+        /** @return wall time spent writing this page so far */
+        long getWriteNanos() {
+            return stream.nanos;
+        }
+
+        /** @return CPU time spent writing this page so far */
+        long getWriteCpuNanos() {
+            return stream.cpuNanos;
+        }
+    }
+
+    /** Counts and times everything passed on to the page's stream. */
+    private final class MeasuredStream extends OutputStream {
+
+        private final OutputSink.Page page;
+        private final boolean timed;
+        private OutputStream out;
+        private long bytes;
+        private long nanos;
+        private long cpuNanos;
+
+        MeasuredStream(OutputSink.Page page, boolean timed) {
+            this.page = page;
+            this.timed = timed;
+        }
+
+        private OutputStream out() {
+            if (out == null) {
+                out = page.stream();
+            }
+            return out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long wall = System.nanoTime();
+            long cpu = cpuNow();
+            out().write(b);
+            bytes++;
+            time(wall, cpu);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long wall = System.nanoTime();
+            long cpu = cpuNow();
+            out().write(b, off, len);
+            bytes += len;
+            time(wall, cpu);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (out != null) {
+                long wall = System.nanoTime();
+                long cpu = cpuNow();
+                out.flush();
+                time(wall, cpu);
+            }
+        }
+
+        @Override
+        public void close() {
+            // The sink closes its stream when the page is closed
+        }
+
+        void time(long wallStart, long cpuStart) {
+            if (!timed) {
+                return;
+            }
+            long wall = System.nanoTime() - wallStart;
+            long cpu = cpuNow() - cpuStart;
+            nanos += wall;
+            cpuNanos += cpu;
+            add(Phase.WRITE, wall, cpu);
+        }
+    }
+
+    /** Render time of one page. */
+    private static final class PageTime {
+        final String relPath;
+        final String templateName;
+        final long nanos;
+
+        PageTime(String relPath, String templateName, long nanos) {
+            this.relPath = relPath;
+            this.templateName = templateName;
+            this.nanos = nanos;
+        }
+    }
+
+    /** Render time of all pages of one template. */
+    private static final class TemplateTime {
+        final String name;
+        final LongAdder count = new LongAdder();
+        final LongAdder total = new LongAdder();
+        final AtomicLong max = new AtomicLong();
+
+        TemplateTime(String name) {
+            this.name = name;
+        }
+
+        void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+    }
+}
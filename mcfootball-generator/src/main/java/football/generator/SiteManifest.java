@@ -0,0 +1,128 @@
+package football.generator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-page input hashes of the last generator run, stored as
+ * {@value #FILE_NAME} in the site root of the output sink.
+ * <p>
+ * File format (one page per line, sorted by path):
+ * <pre>
+ * # mcfootball-manifest v1
+ * &lt;sha256-hex&gt; germany/bundesliga/index.html
+ * </pre>
+ * An unreadable or outdated manifest is treated as empty, which
+ * simply means every page is rendered again.
+ * <p>
+ * Thread-safe: pages may be recorded concurrently by render workers.
+ */
+public class SiteManifest {
+
+    /** Manifest file name, relative to the output directory. */
+    public static final String FILE_NAME = ".mcfootball-manifest";
+
+    /** Bump when the hashing scheme changes so old manifests are ignored. */
+    private static final String HEADER = "# mcfootball-manifest v1";
+
+    /** Hashes from the previous run: relative path → input hash. */
+    private final Map<String, String> previous;
+
+    /** Hashes of the current run: relative path → input hash. */
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+
+    /** Pages of the current run that failed and have no valid hash. */
+    private final Set<String> retained = ConcurrentHashMap.newKeySet();
+
+    private SiteManifest(Map<String, String> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Load the manifest from {@code sink}, or start empty if there
+     * is none.
+     */
+    public static SiteManifest load(OutputSink sink) {
+        Map<String, String> entries = new TreeMap<>();
+        try (InputStream stream = sink.read(FILE_NAME)) {
+            if (stream == null) {
+                return new SiteManifest(entries);
+            }
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(stream, StandardCharsets.UTF_8));
+            if (!HEADER.equals(in.readLine())) {
+                return new SiteManifest(entries);
+            }
+            String line;
+            while ((line = in.readLine()) != null) {
+                int sep = line.indexOf(' ');
+                if (sep > 0) {
+                    entries.put(line.substring(sep + 1), line.substring(0, sep));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("WARNING: Ignoring unreadable manifest "
+                    + sink.describe(FILE_NAME) + ": " + e.getMessage());
+            entries.clear();
+        }
+        return new SiteManifest(entries);
+    }
+
+    /**
+     * @return true if the page had the same input hash in the last run
+     */
+    public boolean isUnchanged(String relPath, String hash) {
+        return hash.equals(previous.get(relPath));
+    }
+
+    /** Record the input hash of a page that is part of this run. */
+    public void record(String relPath, String hash) {
+        current.put(relPath, hash);
+    }
+
+    /**
+     * Mark a page as part of this run without a hash (e.g. its render
+     * failed): it is not deleted, and it is rendered again next run.
+     */
+    public void retain(String relPath) {
+        retained.add(relPath);
+    }
+
+    /**
+     * @return pages from the last run that are not part of this run,
+     *         sorted by path
+     */
+    public List<String> removedPages() {
+        List<String> removed = new ArrayList<>();
+        for (String path : previous.keySet()) {
+            if (!current.containsKey(path) && !retained.contains(path)) {
+                removed.add(path);
+            }
+        }
+        Collections.sort(removed);
+        return removed;
+    }
+
+    /**
+     * Write the hashes of this run to {@code sink}.
+     */
+    public void save(OutputSink sink) throws IOException {
+        try (OutputSink.Page page = sink.open(FILE_NAME)) {
+            page.writer().write(HEADER + "\n");
+            for (Map.Entry<String, String> e : new TreeMap<>(current).entrySet()) {
+                page.writer().write(e.getValue() + " " + e.getKey() + "\n");
+            }
+            page.publish();
+        }
+    }
+}
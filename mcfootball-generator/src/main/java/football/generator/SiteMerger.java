@@ -0,0 +1,117 @@
+package football.generator;
+
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTNavigationItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Combines the countries of several models (e.g. one file per country)
+ * into a single site, so navigation and index list all of them and each
+ * page is rendered once.
+ * <p>
+ * Two countries with the same URL slug would write the same pages; the
+ * later one is skipped and reported as a conflict. The site name is
+ * taken from the first model added.
+ * <p>
+ * A model's navigation may name countries of other models, so the
+ * per-model check 0xFC004 (navigation item must be a declared country)
+ * is replaced by {@link #getUnresolvedNavigation()} on the merged site.
+ */
+public class SiteMerger {
+
+    /** CoCo code checked against the merged site instead of each model. */
+    public static final String MERGED_NAVIGATION_CODE = "0xFC004";
+
+    /** Country slug → model that contributed it. */
+    private final Map<String, String> slugOwners = new HashMap<>();
+    private final List<CountryView> countries = new ArrayList<>();
+    private final List<String> conflicts = new ArrayList<>();
+    private final Set<String> countryNames = new HashSet<>();
+    /** Navigation item description (for messages) → item name. */
+    private final Map<String, String> navigationItems = new LinkedHashMap<>();
+    private String siteName;
+
+    /**
+     * Add all countries of one model, in model order.
+     *
+     * @param source name of the model (for conflict messages)
+     * @return number of countries added (conflicting ones are skipped)
+     */
+    public int add(String source, ASTFootballSite ast) {
+        if (siteName == null) {
+            siteName = ast.getName();
+        }
+        if (ast.isPresentNavigation()) {
+            for (ASTNavigationItem item : ast.getNavigation().getNavigationItemList()) {
+                navigationItems.put("Navigation item '" + item.getName() + "' at "
+                        + item.get_SourcePositionStart() + " in " + source, item.getName());
+            }
+        }
+
+        int added = 0;
+        for (ASTCountry country : ast.getCountryList()) {
+            countryNames.add(country.getName());
+            String slug = FootballSiteGenerator.toSlug(country.getName());
+            String owner = slugOwners.putIfAbsent(slug, source);
+            if (owner != null) {
+                conflicts.add("Country '" + country.getName() + "' in " + source
+                        + " has the same slug '" + slug + "' as a country in "
+                        + owner + " — skipped.");
+                continue;
+            }
+            countries.add(CountryView.of(country));
+            added++;
+        }
+        return added;
+    }
+
+    /** @return name of the first model added, or null if none was */
+    public String getSiteName() {
+        return siteName;
+    }
+
+    /** @return merged countries, in the order they were added */
+    public List<CountryView> getCountries() {
+        return Collections.unmodifiableList(countries);
+    }
+
+    /** @return one message per skipped country */
+    public List<String> getConflicts() {
+        return Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * @return one message per navigation item (of any model) that names
+     *         no country of any model added so far
+     */
+    public List<String> getUnresolvedNavigation() {
+        List<String> unresolved = new ArrayList<>();
+        for (Map.Entry<String, String> e : navigationItems.entrySet()) {
+            if (!countryNames.contains(e.getValue())) {
+                unresolved.add(MERGED_NAVIGATION_CODE + " " + e.getKey()
+                        + " does not match any country of the merged site.");
+            }
+        }
+        return unresolved;
+    }
+
+    /**
+     * @return the per-model CoCo errors without those that
+     *         {@link #getUnresolvedNavigation()} checks site-wide
+     */
+    public static List<String> withoutMergedChecks(List<String> cocoErrors) {
+        return cocoErrors.stream()
+                .filter(e -> !e.startsWith(MERGED_NAVIGATION_CODE + " "))
+                .collect(Collectors.toList());
+    }
+}
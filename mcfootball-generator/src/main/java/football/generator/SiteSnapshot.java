@@ -0,0 +1,199 @@
+package football.generator;
+
+import football.footballsite._ast.ASTFootballSite;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the generator needs from a parsed and CoCo-checked model:
+ * the site name and the country → league → match views.
+ * <p>
+ * The binary form starts with a string table (each distinct string
+ * once, in order of first use), followed by the structure with strings
+ * and numbers written as variable-length ints. Team, city and stadium
+ * names repeat across matches, so this is much smaller than the .fb
+ * source and is read without any tokenizing.
+ */
+public final class SiteSnapshot {
+
+    /**
+     * Bump when the binary layout, the cache entry header or the view
+     * classes change, so snapshots written by an older generator are not
+     * read back.
+     */
+    static final int FORMAT_VERSION = 2;
+
+    private final String siteName;
+    private final List<CountryView> countries;
+
+    public SiteSnapshot(String siteName, List<CountryView> countries) {
+        this.siteName = siteName;
+        this.countries = countries;
+    }
+
+    /** Build the snapshot of a (checked) model. */
+    public static SiteSnapshot of(ASTFootballSite ast) {
+        return new SiteSnapshot(ast.getName(), FootballSiteGenerator.buildSiteView(ast));
+    }
+
+    public String getSiteName() { return siteName; }
+
+    /** @return countries in model order (unmodifiable) */
+    public List<CountryView> getCountries() { return countries; }
+
+    // ── Binary form ──────────────────────────────────────────────────
+
+    void writeTo(DataOutputStream out) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        intern(siteName, ids, table);
+        for (CountryView c : countries) {
+            intern(c.getName(), ids, table);
+            for (LeagueView l : c.getLeagues()) {
+                intern(l.getName(), ids, table);
+                intern(l.getSeason(), ids, table);
+                for (MatchView m : l.getMatches()) {
+                    intern(m.getDate(), ids, table);
+                    intern(m.getTime(), ids, table);
+                    intern(m.getHomeTeam(), ids, table);
+                    intern(m.getHomeCity(), ids, table);
+                    intern(m.getAwayTeam(), ids, table);
+                    intern(m.getAwayCity(), ids, table);
+                    intern(m.getStadium(), ids, table);
+                }
+            }
+        }
+
+        writeVarInt(out, table.size());
+        for (String s : table) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, utf8.length);
+            out.write(utf8);
+        }
+
+        writeVarInt(out, ids.get(siteName));
+        writeVarInt(out, countries.size());
+        for (CountryView c : countries) {
+            writeVarInt(out, ids.get(c.getName()));
+            writeVarInt(out, c.getLeagues().size());
+            for (LeagueView l : c.getLeagues()) {
+                writeVarInt(out, ids.get(l.getName()));
+                writeVarInt(out, ids.get(l.getSeason()));
+                writeVarInt(out, l.getMatches().size());
+                for (MatchView m : l.getMatches()) {
+                    writeVarInt(out, ids.get(m.getDate()));
+                    writeVarInt(out, ids.get(m.getTime()));
+                    writeVarInt(out, ids.get(m.getHomeTeam()));
+                    writeVarInt(out, ids.get(m.getHomeCity()));
+                    writeVarInt(out, ids.get(m.getAwayTeam()));
+                    writeVarInt(out, ids.get(m.getAwayCity()));
+                    writeVarInt(out, m.getHomeScore());
+                    writeVarInt(out, m.getAwayScore());
+                    writeVarInt(out, ids.get(m.getStadium()));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param in must report the exact remaining length via
+     *           {@code available()}, e.g. a stream over a byte array
+     */
+    static SiteSnapshot readFrom(DataInputStream in) throws IOException {
+        String[] table = new String[readCount(in)];
+        for (int i = 0; i < table.length; i++) {
+            byte[] utf8 = new byte[readCount(in)];
+            in.readFully(utf8);
+            table[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        String siteName = string(in, table);
+        int countryCount = readCount(in);
+        List<CountryView> countries = new ArrayList<>(countryCount);
+        for (int c = 0; c < countryCount; c++) {
+            String countryName = string(in, table);
+            int leagueCount = readCount(in);
+            List<LeagueView> leagues = new ArrayList<>(leagueCount);
+            for (int l = 0; l < leagueCount; l++) {
+                String leagueName = string(in, table);
+                String season = string(in, table);
+                int matchCount = readCount(in);
+                List<MatchView> matches = new ArrayList<>(matchCount);
+                for (int m = 0; m < matchCount; m++) {
+                    matches.add(new MatchView(
+                            string(in, table), string(in, table),
+                            string(in, table), string(in, table),
+                            string(in, table), string(in, table),
+                            readVarInt(in), readVarInt(in),
+                            string(in, table)));
+                }
+                leagues.add(new LeagueView(leagueName, season,
+                        Collections.unmodifiableList(matches)));
+            }
+            countries.add(new CountryView(countryName, Collections.unmodifiableList(leagues)));
+        }
+        return new SiteSnapshot(siteName, Collections.unmodifiableList(countries));
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────
+
+    private static void intern(String s, Map<String, Integer> ids, List<String> table) {
+        if (!ids.containsKey(s)) {
+            ids.put(s, table.size());
+            table.add(s);
+        }
+    }
+
+    private static String string(DataInputStream in, String[] table) throws IOException {
+        int id = readVarInt(in);
+        if (id >= table.length) {
+            throw new IOException("String id " + id + " out of range");
+        }
+        return table[id];
+    }
+
+    /**
+     * Read an element count. Every element takes at least one byte, so a
+     * count beyond the remaining input means a damaged snapshot (and
+     * must not be used to size an array).
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = readVarInt(in);
+        if (count > in.available()) {
+            throw new IOException("Count " + count + " exceeds snapshot size");
+        }
+        return count;
+    }
+
+    /** Unsigned LEB128: 7 bits per byte, high bit set on all but the last. */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative length or id in snapshot");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length int in snapshot");
+    }
+}
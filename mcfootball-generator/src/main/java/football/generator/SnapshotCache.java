@@ -0,0 +1,292 @@
+package football.generator;
+
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Stores a {@link SiteSnapshot} per model file so that an unchanged
+ * model is loaded without running the parser and the CoCos again.
+ * <p>
+ * One entry per model name ({@code AllEurope.fb} →
+ * {@code AllEurope.fb.snapshot}) in the site root of an
+ * {@link OutputSink}. The entry header holds the SHA-256 of the model
+ * source and a fingerprint of the grammar, CoCo and snapshot format
+ * versions; a snapshot is used only if both match. For a model with
+ * imports the header also holds the path and SHA-256 of every shard, so
+ * a changed shard is a miss as well. Anything else — no
+ * entry, another source, a rebuilt parser or CoCo, a damaged file — is a
+ * miss, and the caller parses and checks the model as usual.
+ * <p>
+ * Only snapshots of models that passed all CoCos may be stored, so a hit
+ * also means "valid".
+ */
+public class SnapshotCache {
+
+    /** File name suffix of cache entries. */
+    public static final String SUFFIX = ".snapshot";
+
+    /** "MCFS" */
+    private static final int MAGIC = 0x4D434653;
+
+    /** Class file directories whose contents decide what a model parses and checks to. */
+    private static final String[] FINGERPRINT_PACKAGES = {
+        "football/footballsite/", "football/cocos/"
+    };
+
+    private static volatile String toolFingerprint;
+
+    private final OutputSink store;
+    private final String fingerprint;
+
+    /**
+     * @param store where entries are kept, e.g. a
+     *              {@link FileSystemOutputSink} on a cache directory
+     */
+    public SnapshotCache(OutputSink store) {
+        this(store, toolFingerprint());
+    }
+
+    SnapshotCache(OutputSink store, String fingerprint) {
+        this.store = store;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @param modelName file name of the model, e.g. "AllEurope.fb"
+     * @param source    exact bytes of the model file
+     * @return the stored snapshot, or empty on any kind of miss
+     */
+    public Optional<SiteSnapshot> load(String modelName, byte[] source) {
+        return load(modelName, sourceKey(source), null);
+    }
+
+    /**
+     * Like {@link #load(String, byte[])}, for a model that may import
+     * shards: each shard recorded in the entry is hashed in
+     * {@code modelDir} and must still have the recorded source.
+     *
+     * @param sourceKey {@link #sourceKey} of the model source
+     * @param modelDir  directory of the model file, against which import
+     *                  paths resolve; null if the model has no imports
+     */
+    public Optional<SiteSnapshot> load(String modelName, String sourceKey, Path modelDir) {
+        String entry = entryName(modelName);
+        byte[] bytes;
+        try (InputStream stream = store.read(entry)) {
+            if (stream == null) {
+                return Optional.empty();
+            }
+            bytes = stream.readAllBytes();
+        } catch (IOException e) {
+            System.err.println("WARNING: Ignoring unreadable snapshot "
+                    + store.describe(entry) + ": " + e.getMessage());
+            return Optional.empty();
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC
+                    || !fingerprint.equals(in.readUTF())
+                    || !sourceKey.equals(in.readUTF())) {
+                return Optional.empty();
+            }
+            int imports = in.readInt();
+            if (imports > 0 && modelDir == null) {
+                return Optional.empty();
+            }
+            for (int i = 0; i < imports; i++) {
+                Path shard = modelDir.resolve(in.readUTF());
+                String key = in.readUTF();
+                if (!Files.isRegularFile(shard) || !sourceKey(shard).equals(key)) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(SiteSnapshot.readFrom(in));
+        } catch (IOException e) {
+            // Truncated or damaged entry: parse again and overwrite it
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store the snapshot of a model that parsed and passed all CoCos,
+     * replacing any previous entry of the same model.
+     */
+    public void store(String modelName, byte[] source, SiteSnapshot snapshot)
+            throws IOException {
+        store(modelName, sourceKey(source), Collections.emptyMap(), snapshot);
+    }
+
+    /**
+     * Store the snapshot of a model, with imports or without, that parsed
+     * and passed all CoCos after merging.
+     *
+     * @param sourceKey {@link #sourceKey} of the model source
+     * @param shardKeys import path → {@link #sourceKey} of the source the
+     *                  shard was parsed from
+     */
+    public void store(String modelName, String sourceKey, Map<String, String> shardKeys,
+                      SiteSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(MAGIC);
+        out.writeUTF(fingerprint);
+        out.writeUTF(sourceKey);
+        out.writeInt(shardKeys.size());
+        for (Map.Entry<String, String> shard : shardKeys.entrySet()) {
+            out.writeUTF(shard.getKey());
+            out.writeUTF(shard.getValue());
+        }
+        snapshot.writeTo(out);
+        out.flush();
+
+        try (OutputSink.Page page = store.open(entryName(modelName))) {
+            page.stream().write(buffer.toByteArray());
+            page.publish();
+        }
+    }
+
+    /** Shorthand for {@code store(modelName, source, SiteSnapshot.of(ast))}. */
+    public SiteSnapshot store(String modelName, byte[] source, ASTFootballSite ast)
+            throws IOException {
+        SiteSnapshot snapshot = SiteSnapshot.of(ast);
+        store(modelName, source, snapshot);
+        return snapshot;
+    }
+
+    /** @return lowercase hex SHA-256 of the model source */
+    public static String sourceKey(byte[] source) {
+        return PageDigest.ofBytes(source);
+    }
+
+    /** @return {@link #sourceKey(byte[])} of the remaining bytes of {@code source} */
+    public static String sourceKey(ByteBuffer source) {
+        return PageDigest.ofBuffer(source);
+    }
+
+    /**
+     * @return {@link #sourceKey(byte[])} of the current contents of
+     *         {@code file}, hashed through a read-only mapping
+     */
+    public static String sourceKey(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Model too large to map (" + size + " bytes): " + file);
+            }
+            return sourceKey(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (InternalError e) {
+            throw new IOException("Model file changed while mapped: " + e.getMessage(), e);
+        }
+    }
+
+    private static String entryName(String modelName) {
+        return Paths.get(modelName).getFileName() + SUFFIX;
+    }
+
+    // ── Tool fingerprint ─────────────────────────────────────────────
+
+    /**
+     * Hash of the snapshot format version and of every class file of
+     * the generated parser/AST ({@code football.footballsite}) and the
+     * CoCos ({@code football.cocos}), each read from the directory or
+     * jar it was loaded from. A changed grammar or CoCo means new class
+     * files and therefore a new fingerprint.
+     */
+    static String toolFingerprint() {
+        String fp = toolFingerprint;
+        if (fp == null) {
+            TreeMap<String, byte[]> classes = new TreeMap<>();
+            collectClasses(ASTFootballSite.class, FINGERPRINT_PACKAGES[0], classes);
+            collectClasses(FootballSiteCoCos.class, FINGERPRINT_PACKAGES[1], classes);
+
+            ByteArrayOutputStream all = new ByteArrayOutputStream();
+            all.writeBytes(("snapshot v" + SiteSnapshot.FORMAT_VERSION + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, byte[]> e : classes.entrySet()) {
+                all.writeBytes((e.getKey() + " " + e.getValue().length + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                all.writeBytes(e.getValue());
+            }
+            fp = PageDigest.ofBytes(all.toByteArray());
+            toolFingerprint = fp;
+        }
+        return fp;
+    }
+
+    /**
+     * Add all class files below {@code prefix} from the code source of
+     * {@code anchor} to {@code classes} (entry name → bytes). Falls back
+     * to the anchor class alone if the code source cannot be listed.
+     */
+    private static void collectClasses(Class<?> anchor, String prefix,
+                                       TreeMap<String, byte[]> classes) {
+        try {
+            CodeSource source = anchor.getProtectionDomain().getCodeSource();
+            URL location = source == null ? null : source.getLocation();
+            if (location != null && "file".equals(location.getProtocol())) {
+                Path root = Paths.get(location.toURI());
+                if (Files.isDirectory(root)) {
+                    Path dir = root.resolve(prefix);
+                    try (Stream<Path> files = Files.walk(dir)) {
+                        for (Path f : (Iterable<Path>) files::iterator) {
+                            if (f.toString().endsWith(".class")) {
+                                classes.put(root.relativize(f).toString().replace('\\', '/'),
+                                        Files.readAllBytes(f));
+                            }
+                        }
+                    }
+                    return;
+                }
+                if (Files.isRegularFile(root)) {
+                    try (JarFile jar = new JarFile(root.toFile())) {
+                        Enumeration<JarEntry> entries = jar.entries();
+                        while (entries.hasMoreElements()) {
+                            JarEntry e = entries.nextElement();
+                            if (e.getName().startsWith(prefix) && e.getName().endsWith(".class")) {
+                                try (InputStream in = jar.getInputStream(e)) {
+                                    classes.put(e.getName(), in.readAllBytes());
+                                }
+                            }
+                        }
+                    }
+                    return;
+                }
+            }
+        } catch (IOException | URISyntaxException | SecurityException e) {
+            // fall through to the anchor class
+        }
+
+        String name = anchor.getName().replace('.', '/') + ".class";
+        try (InputStream in = anchor.getClassLoader().getResourceAsStream(name)) {
+            classes.put(name, in == null ? new byte[0] : in.readAllBytes());
+        } catch (IOException e) {
+            classes.put(name, new byte[0]);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package football.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds back the pages of one run until the run is known to succeed.
+ * <p>
+ * Published pages go to {@value #STAGING_DIR} in the site root of the
+ * underlying sink; reads and existence checks see a staged page in
+ * place of the published one. {@link #commit()} moves every staged
+ * page to its real path, {@link #rollback()} deletes them, so the site
+ * either gets all pages of the run or none.
+ */
+final class StagingOutputSink implements OutputSink {
+
+    /** Directory of the staged pages, relative to the site root. */
+    static final String STAGING_DIR = ".mcfootball-staging";
+
+    private final OutputSink target;
+
+    /** Paths (relative to the site root) of the pages staged so far. */
+    private final Set<String> staged = ConcurrentHashMap.newKeySet();
+
+    StagingOutputSink(OutputSink target) {
+        this.target = target;
+    }
+
+    @Override
+    public Page open(String relPath) throws IOException {
+        Page page = target.open(stagedPath(relPath));
+        return new Page() {
+            @Override
+            public Writer writer() {
+                return page.writer();
+            }
+
+            @Override
+            public OutputStream stream() {
+                return page.stream();
+            }
+
+            @Override
+            public void publish() throws IOException {
+                page.publish();
+                staged.add(relPath);
+            }
+
+            @Override
+            public void close() throws IOException {
+                page.close();
+            }
+        };
+    }
+
+    @Override
+    public InputStream read(String relPath) throws IOException {
+        return target.read(staged.contains(relPath) ? stagedPath(relPath) : relPath);
+    }
+
+    @Override
+    public boolean exists(String relPath) {
+        return staged.contains(relPath) || target.exists(relPath);
+    }
+
+    /** Delete the staged page; the published one is left alone. */
+    @Override
+    public boolean delete(String relPath) throws IOException {
+        return staged.remove(relPath) && target.delete(stagedPath(relPath));
+    }
+
+    @Override
+    public String describe(String relPath) {
+        return target.describe(relPath);
+    }
+
+    /**
+     * Move all staged pages to their real paths. If one cannot be moved,
+     * the pages not yet moved are deleted and the error is rethrown.
+     */
+    void commit() throws IOException {
+        List<String> paths = new ArrayList<>(staged);
+        for (String relPath : paths) {
+            try {
+                target.move(stagedPath(relPath), relPath);
+                staged.remove(relPath);
+            } catch (IOException e) {
+                rollback();
+                throw new IOException("Cannot publish " + target.describe(relPath)
+                        + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /** Delete all staged pages. */
+    void rollback() {
+        for (String relPath : new ArrayList<>(staged)) {
+            try {
+                delete(relPath);
+            } catch (IOException e) {
+                System.err.println("ERROR deleting " + target.describe(stagedPath(relPath))
+                        + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static String stagedPath(String relPath) {
+        return STAGING_DIR + "/" + relPath;
+    }
+}
@@ -0,0 +1,21 @@
+package football.generator;
+
+/**
+ * Immutable, typed template data. Read by FreeMarker through
+ * {@link ViewObjectWrapper} instead of reflective bean introspection,
+ * and hashed by {@link PageDigest} like a map of its properties.
+ */
+interface ViewModel {
+
+    /**
+     * @return template-visible property names, sorted (the order is
+     *         part of the canonical page hash); shared, do not modify
+     */
+    String[] keys();
+
+    /**
+     * @return value of a property from {@link #keys()}, or null
+     *         for an unknown name
+     */
+    Object get(String key);
+}
@@ -0,0 +1,52 @@
+package football.generator;
+
+import freemarker.template.Configuration;
+import freemarker.template.DefaultObjectWrapper;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+/**
+ * Object wrapper that exposes {@link ViewModel}s to templates through
+ * their {@code get(key)} switch, so property access needs neither
+ * reflection nor a per-object property map. Everything else (strings,
+ * numbers, lists) is wrapped as by the default wrapper.
+ * <p>
+ * Stateless and write-protected, so one instance is shared by all
+ * render threads.
+ */
+final class ViewObjectWrapper extends DefaultObjectWrapper {
+
+    ViewObjectWrapper() {
+        super(Configuration.VERSION_2_3_32);
+        writeProtect();
+    }
+
+    @Override
+    protected TemplateModel handleUnknownType(Object obj) throws TemplateModelException {
+        if (obj instanceof ViewModel) {
+            return new ViewHashModel((ViewModel) obj);
+        }
+        return super.handleUnknownType(obj);
+    }
+
+    /** Template-side adapter of one view. */
+    private final class ViewHashModel implements TemplateHashModel {
+
+        private final ViewModel view;
+
+        ViewHashModel(ViewModel view) {
+            this.view = view;
+        }
+
+        @Override
+        public TemplateModel get(String key) throws TemplateModelException {
+            return wrap(view.get(key));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package football.stream;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTLeague;
+
+import java.util.List;
+
+/**
+ * Receives the parts of a model from a {@link FootballSiteStreamReader}
+ * in file order. Every method returns whether reading should go on;
+ * returning false stops the reader (e.g. after a CoCo error in
+ * production mode).
+ */
+public interface FootballSiteStreamListener {
+
+    /**
+     * The site header and the navigation block (if any) were read.
+     *
+     * @param navigation navigation item names in order, empty if the
+     *                   model has no navigation block
+     */
+    boolean siteStart(String siteName, List<String> navigation);
+
+    /** A {@code country Name} header was read. */
+    boolean countryStart(String countryName);
+
+    /**
+     * One complete league of the current country. Source positions are
+     * those of the model file. The listener may keep the league, but the
+     * reader itself does not, so memory stays bounded by one league.
+     */
+    boolean league(ASTLeague league);
+
+    /** The closing brace of the current country was read. */
+    boolean countryEnd();
+
+    /**
+     * The whole model was read. The skeleton holds the site, navigation,
+     * countries and leagues with their source positions, but no matches;
+     * it is meant for the site, navigation and country CoCos.
+     */
+    boolean siteEnd(ASTFootballSite skeleton);
+}
@@ -0,0 +1,487 @@
+package football.stream;
+
+import de.monticore.ast.ASTNode;
+import de.se_rwth.commons.SourcePosition;
+import de.se_rwth.commons.logging.Log;
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTLeague;
+import football.footballsite._ast.ASTMatch;
+import football.footballsite._ast.ASTNavigation;
+import football.footballsite._parser.FootballSiteParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads a .fb model front to back and hands it to a
+ * {@link FootballSiteStreamListener} one league at a time, so that a
+ * model with tens of thousands of matches never exists as one AST.
+ * <p>
+ * The reader only tokenizes the block structure (site, navigation,
+ * country and league braces). The text of each league is passed to the
+ * MontiCore parser ({@code parse_StringLeague}), so leagues and matches
+ * are checked against the real grammar, and the resulting nodes get the
+ * source positions they have in the model file. At the end the site,
+ * navigation, countries and league headers are parsed once more as a
+ * small skeleton for the CoCos that need the whole site.
+ * <p>
+ * Syntax errors of the block structure are logged as 0xFC901; errors
+ * inside a league are reported by the MontiCore parser, with positions
+ * relative to the league's {@code league} keyword, followed by 0xFC902
+ * naming the league. Models with imports are not read (0xFC904).
+ */
+public class FootballSiteStreamReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private enum Kind { NAME, STRING, NAT, SYMBOL, EOF }
+
+    private final Reader in;
+    private final String fileName;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int bufferPos;
+    private int bufferEnd;
+    private int line = 1;
+    private int column;             // 0-based
+
+    /** Raw text of the league being read, or null outside leagues. */
+    private StringBuilder capture;
+
+    // ── Current token ────────────────────────────────────────────────
+    private Kind kind;
+    private String text;
+    private int tokenLine;
+    private int tokenColumn;
+
+    /**
+     * Column of a node at column 0 of its line as reported by the
+     * MontiCore parser (0 or 1), learned from the first parsed league.
+     */
+    private int columnBase = -1;
+
+    // ── Skeleton of the site (no matches) ────────────────────────────
+    private String siteName;
+    private int[] sitePos;
+    private int[] navigationPos;
+    private final List<String> navigation = new ArrayList<>();
+    private final List<int[]> navigationItemPos = new ArrayList<>();
+    private final List<CountryHeader> countries = new ArrayList<>();
+
+    private boolean errors;
+
+    /**
+     * @param in       model source; buffered internally
+     * @param fileName model path used in source positions and messages
+     */
+    public FootballSiteStreamReader(Reader in, String fileName) {
+        this.in = in;
+        this.fileName = fileName;
+    }
+
+    /**
+     * Read the whole model and report its parts to {@code listener}.
+     *
+     * @return true if the model was read completely without syntax
+     *         errors and the listener never asked to stop
+     */
+    public boolean read(FootballSiteStreamListener listener) throws IOException {
+        try {
+            next();
+            sitePos = position();
+            expectKeyword("footballsite");
+            siteName = expectName();
+            expectSymbol("{");
+
+            if (isKeyword("import")) {
+                throw new SyntaxError("0xFC904 Import at " + describe(tokenLine, tokenColumn)
+                        + ": streaming mode reads single-file models only.");
+            }
+            if (isKeyword("navigation")) {
+                readNavigation();
+            }
+            if (!listener.siteStart(siteName, Collections.unmodifiableList(navigation))) {
+                return false;
+            }
+
+            if (!isKeyword("country")) {
+                throw syntaxError("'country'");
+            }
+            while (isKeyword("country")) {
+                if (!readCountry(listener)) {
+                    return false;
+                }
+            }
+            expectSymbol("}");
+            if (kind != Kind.EOF) {
+                throw syntaxError("end of file");
+            }
+            return listener.siteEnd(buildSkeleton());
+        } catch (SyntaxError e) {
+            errors = true;
+            Log.error(e.getMessage());
+            return false;
+        }
+    }
+
+    /** @return true if a syntax error was found */
+    public boolean hasErrors() {
+        return errors;
+    }
+
+    // ── Blocks ───────────────────────────────────────────────────────
+
+    private void readNavigation() throws IOException {
+        navigationPos = position();
+        expectKeyword("navigation");
+        expectSymbol("{");
+        do {
+            navigationItemPos.add(position());
+            navigation.add(expectName());
+            if (!isSymbol(";")) {
+                break;
+            }
+            next();
+        } while (!isSymbol("}"));
+        expectSymbol("}");
+    }
+
+    private boolean readCountry(FootballSiteStreamListener listener) throws IOException {
+        CountryHeader country = new CountryHeader(position());
+        expectKeyword("country");
+        country.name = expectName();
+        expectSymbol("{");
+        countries.add(country);
+        if (!listener.countryStart(country.name)) {
+            return false;
+        }
+
+        if (!isKeyword("league")) {
+            throw syntaxError("'league'");
+        }
+        while (isKeyword("league")) {
+            ASTLeague league = readLeague();
+            country.leagues.add(new LeagueHeader(league));
+            if (!listener.league(league)) {
+                return false;
+            }
+        }
+        expectSymbol("}");
+        return listener.countryEnd();
+    }
+
+    /**
+     * Capture the raw text from {@code league} to its closing brace and
+     * parse it with the MontiCore parser.
+     */
+    private ASTLeague readLeague() throws IOException {
+        int startLine = tokenLine;
+        int startColumn = tokenColumn;
+        capture = new StringBuilder(text);
+        try {
+            int depth = 0;
+            do {
+                next();
+                if (kind == Kind.EOF) {
+                    throw new SyntaxError("0xFC901 Unexpected end of file in league at "
+                            + describe(startLine, startColumn) + ".");
+                }
+                if (isSymbol("{")) {
+                    depth++;
+                } else if (isSymbol("}")) {
+                    depth--;
+                }
+            } while (depth > 0 || !isSymbol("}"));
+        } catch (SyntaxError e) {
+            capture = null;
+            throw e;
+        }
+        String source = capture.toString();
+        capture = null;
+        next();
+
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTLeague> league = parser.parse_StringLeague(source);
+        if (!league.isPresent() || parser.hasErrors()) {
+            throw new SyntaxError("0xFC902 League at " + describe(startLine, startColumn)
+                    + " could not be parsed (positions above are relative to it).");
+        }
+
+        ASTLeague ast = league.get();
+        if (columnBase < 0) {
+            columnBase = ast.get_SourcePositionStart().getColumn();
+        }
+        relocate(ast, startLine, startColumn);
+        for (ASTMatch match : ast.getMatchList()) {
+            relocate(match, startLine, startColumn);
+        }
+        return ast;
+    }
+
+    /**
+     * Move a node parsed from a league's text to its place in the file.
+     */
+    private void relocate(ASTNode node, int startLine, int startColumn) {
+        SourcePosition p = node.get_SourcePositionStart();
+        int column = p.getLine() == 1 ? p.getColumn() + startColumn : p.getColumn();
+        node.set_SourcePositionStart(
+                new SourcePosition(p.getLine() + startLine - 1, column, fileName));
+    }
+
+    /**
+     * Parse the site without matches and give every node the position
+     * it has in the file.
+     */
+    private ASTFootballSite buildSkeleton() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("footballsite ").append(siteName).append(" {\n");
+        if (navigationPos != null) {
+            sb.append("navigation { ").append(String.join("; ", navigation)).append("; }\n");
+        }
+        for (CountryHeader c : countries) {
+            sb.append("country ").append(c.name).append(" {\n");
+            for (LeagueHeader l : c.leagues) {
+                sb.append("league ").append(l.name)
+                  .append(" season \"").append(l.season).append("\" { }\n");
+            }
+            sb.append("}\n");
+        }
+        sb.append("}\n");
+
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTFootballSite> parsed = parser.parse_StringFootballSite(sb.toString());
+        if (!parsed.isPresent() || parser.hasErrors()) {
+            throw new SyntaxError("0xFC902 Site skeleton of " + fileName
+                    + " could not be parsed.");
+        }
+
+        ASTFootballSite site = parsed.get();
+        place(site, sitePos);
+        if (site.isPresentNavigation()) {
+            ASTNavigation nav = site.getNavigation();
+            place(nav, navigationPos);
+            for (int i = 0; i < nav.getNavigationItemList().size(); i++) {
+                place(nav.getNavigationItemList().get(i), navigationItemPos.get(i));
+            }
+        }
+        for (int i = 0; i < countries.size(); i++) {
+            ASTCountry country = site.getCountryList().get(i);
+            CountryHeader header = countries.get(i);
+            place(country, header.pos);
+            for (int j = 0; j < header.leagues.size(); j++) {
+                country.getLeagueList().get(j)
+                       .set_SourcePositionStart(header.leagues.get(j).pos);
+            }
+        }
+        return site;
+    }
+
+    private void place(ASTNode node, int[] pos) {
+        node.set_SourcePositionStart(new SourcePosition(pos[0], pos[1] + columnBase, fileName));
+    }
+
+    // ── Tokens ───────────────────────────────────────────────────────
+
+    private int[] position() {
+        return new int[] { tokenLine, tokenColumn };
+    }
+
+    private boolean isKeyword(String keyword) {
+        return kind == Kind.NAME && keyword.equals(text);
+    }
+
+    private boolean isSymbol(String symbol) {
+        return kind == Kind.SYMBOL && symbol.equals(text);
+    }
+
+    private void expectKeyword(String keyword) throws IOException {
+        if (!isKeyword(keyword)) {
+            throw syntaxError("'" + keyword + "'");
+        }
+        next();
+    }
+
+    private void expectSymbol(String symbol) throws IOException {
+        if (!isSymbol(symbol)) {
+            throw syntaxError("'" + symbol + "'");
+        }
+        next();
+    }
+
+    private String expectName() throws IOException {
+        if (kind != Kind.NAME) {
+            throw syntaxError("a name");
+        }
+        String name = text;
+        next();
+        return name;
+    }
+
+    private SyntaxError syntaxError(String expected) {
+        String found = kind == Kind.EOF ? "end of file" : "'" + text + "'";
+        return new SyntaxError("0xFC901 Syntax error at " + describe(tokenLine, tokenColumn)
+                + ": expected " + expected + " but found " + found + ".");
+    }
+
+    private String describe(int line, int column) {
+        return fileName + ":" + line + ":" + (column + 1);
+    }
+
+    /** Advance to the next token, skipping white space and comments. */
+    private void next() throws IOException {
+        skipWhitespaceAndComments();
+        tokenLine = line;
+        tokenColumn = column;
+
+        int c = readChar();
+        if (c < 0) {
+            kind = Kind.EOF;
+            text = "";
+        } else if (c == '"') {
+            StringBuilder sb = new StringBuilder();
+            int d;
+            while ((d = readChar()) != '"') {
+                if (d < 0 || d == '\n') {
+                    throw new SyntaxError("0xFC901 Unterminated string at "
+                            + describe(tokenLine, tokenColumn) + ".");
+                }
+                if (d == '\\') {
+                    d = readChar();
+                }
+                sb.append((char) d);
+            }
+            kind = Kind.STRING;
+            text = sb.toString();
+        } else if (isNameStart(c)) {
+            StringBuilder sb = new StringBuilder().append((char) c);
+            while (isNamePart(peekChar(0))) {
+                sb.append((char) readChar());
+            }
+            kind = Kind.NAME;
+            text = sb.toString();
+        } else if (c >= '0' && c <= '9') {
+            StringBuilder sb = new StringBuilder().append((char) c);
+            while (peekChar(0) >= '0' && peekChar(0) <= '9') {
+                sb.append((char) readChar());
+            }
+            kind = Kind.NAT;
+            text = sb.toString();
+        } else {
+            kind = Kind.SYMBOL;
+            text = String.valueOf((char) c);
+        }
+    }
+
+    private void skipWhitespaceAndComments() throws IOException {
+        while (true) {
+            int c = peekChar(0);
+            if (c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f') {
+                readChar();
+            } else if (c == '/' && peekChar(1) == '/') {
+                while (peekChar(0) >= 0 && peekChar(0) != '\n') {
+                    readChar();
+                }
+            } else if (c == '/' && peekChar(1) == '*') {
+                readChar();
+                readChar();
+                while (!(peekChar(0) == '*' && peekChar(1) == '/')) {
+                    if (readChar() < 0) {
+                        return;
+                    }
+                }
+                readChar();
+                readChar();
+            } else {
+                return;
+            }
+        }
+    }
+
+    /** Same character classes as the grammar's Name token. */
+    private static boolean isNameStart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$'
+                || (c >= '\u00C0' && c <= '\u017F');
+    }
+
+    private static boolean isNamePart(int c) {
+        return isNameStart(c) || (c >= '0' && c <= '9');
+    }
+
+    // ── Characters ───────────────────────────────────────────────────
+
+    private int peekChar(int ahead) throws IOException {
+        if (bufferPos + ahead >= bufferEnd) {
+            fill();
+            if (bufferPos + ahead >= bufferEnd) {
+                return -1;
+            }
+        }
+        return buffer[bufferPos + ahead];
+    }
+
+    private int readChar() throws IOException {
+        int c = peekChar(0);
+        if (c < 0) {
+            return -1;
+        }
+        bufferPos++;
+        if (c == '\n') {
+            line++;
+            column = 0;
+        } else {
+            column++;
+        }
+        if (capture != null) {
+            capture.append((char) c);
+        }
+        return c;
+    }
+
+    /** Keep the unread rest and top the buffer up from the reader. */
+    private void fill() throws IOException {
+        int rest = bufferEnd - bufferPos;
+        System.arraycopy(buffer, bufferPos, buffer, 0, rest);
+        bufferPos = 0;
+        bufferEnd = rest;
+        int n = in.read(buffer, bufferEnd, buffer.length - bufferEnd);
+        if (n > 0) {
+            bufferEnd += n;
+        }
+    }
+
+    // ── Records ──────────────────────────────────────────────────────
+
+    private static final class CountryHeader {
+        final int[] pos;
+        final List<LeagueHeader> leagues = new ArrayList<>();
+        String name;
+
+        CountryHeader(int[] pos) {
+            this.pos = pos;
+        }
+    }
+
+    /** Name, season and file position of a league, without its matches. */
+    private static final class LeagueHeader {
+        final String name;
+        final String season;
+        final SourcePosition pos;
+
+        LeagueHeader(ASTLeague league) {
+            this.name = league.getName();
+            this.season = league.getSeason();
+            this.pos = league.get_SourcePositionStart();
+        }
+    }
+
+    private static final class SyntaxError extends RuntimeException {
+        SyntaxError(String message) {
+            super(message);
+        }
+    }
+}
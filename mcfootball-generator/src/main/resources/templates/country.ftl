@@ -31,10 +31,7 @@
     <div class="content">
       <div class="brand"><a href="../index.html">GOODFELLAZßS</a></div>
       <nav class="nav">
-        <a href="../index.html">Home</a>
-      <#list countries as c>
-        <a href="../${c.slug}/index.html">${c.name}</a>
-      </#list>
+${navLinks}
       </nav>
     </div>
   </header>
@@ -32,10 +32,7 @@
     <div class="content">
       <div class="brand">GOODFELLAZßS</div>
       <nav class="nav">
-        <a href="index.html">Home</a>
-      <#list countries as country>
-        <a href="${country.slug}/index.html">${country.name}</a>
-      </#list>
+${navLinks}
       </nav>
     </div>
   </header>
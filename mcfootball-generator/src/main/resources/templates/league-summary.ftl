@@ -0,0 +1,86 @@
+<#-- Landing page of a paged league: totals plus one row per match page. -->
+<!DOCTYPE html>
+<html lang="en">
+<head>
+  <meta charset="UTF-8">
+  <meta name="viewport" content="width=device-width, initial-scale=1.0">
+  <title>${leagueName} — ${countryName} — GOODFELLAZßS</title>
+  <style>
+    *, *::before, *::after { box-sizing: border-box; }
+    body { margin: 0; padding: 0; background-color: #ffffff; color: #000000;
+           font-family: system-ui, -apple-system, BlinkMacSystemFont, "Segoe UI", sans-serif; }
+    header, footer { background-color: #000000; color: #ffffff; padding: 1rem 2rem; }
+    .brand { font-weight: bold; color: #e60000; letter-spacing: 0.08em;
+             text-transform: uppercase; font-size: 1.4rem; }
+    .brand a { color: #e60000; text-decoration: none; }
+    .nav { margin-top: 0.5rem; }
+    .nav a { color: #ffffff; text-decoration: none; margin-right: 1rem; font-size: 0.95rem; }
+    .nav a:hover { text-decoration: underline; }
+    .content { max-width: 1100px; margin: 0 auto; padding: 1.5rem 1rem 3rem; }
+    header .content, footer .content { padding: 1rem 0; }
+    a { color: #1e90ff; }
+    h1 { color: #000000; border-bottom: 3px solid #e60000; padding-bottom: 0.5rem; display: inline-block; }
+    h2 { color: #333333; }
+    .breadcrumb { color: #333333; font-size: 0.9rem; margin-bottom: 1rem; }
+    .breadcrumb a { color: #1e90ff; }
+    .team-name { color: #1e90ff; font-weight: 600; }
+    .score { color: #e60000; font-weight: 700; }
+    .match-meta { color: #333333; font-size: 0.9rem; }
+    table { width: 100%; border-collapse: collapse; }
+    th { background-color: #000000; color: #ffffff; padding: 0.6rem 0.8rem; text-align: left; font-weight: 600; }
+    td { padding: 0.6rem 0.8rem; border-bottom: 1px solid #eeeeee; }
+    tr:nth-child(even) { background-color: #fafafa; }
+    footer .brand { font-size: 1rem; }
+  </style>
+</head>
+<body>
+  <header>
+    <div class="content">
+      <div class="brand"><a href="../../index.html">GOODFELLAZßS</a></div>
+      <nav class="nav">
+${navLinks}
+      </nav>
+    </div>
+  </header>
+
+  <main>
+    <div class="content">
+      <div class="breadcrumb">
+        <a href="../../index.html">Home</a> &rsaquo;
+        <a href="../index.html">${countryName}</a> &rsaquo;
+        ${leagueName}
+      </div>
+
+      <h1>${leagueName}</h1>
+      <h2>Season ${season}</h2>
+      <p class="match-meta">${matchCount} matches, ${firstDate} – ${lastDate}</p>
+
+      <table>
+        <thead>
+          <tr>
+            <th>Page</th>
+            <th>Dates</th>
+            <th>Matches</th>
+          </tr>
+        </thead>
+        <tbody>
+        <#list pages as p>
+          <tr>
+            <td><a href="${p.href}">${p.label}</a></td>
+            <td class="match-meta">${p.firstDate}<#if p.lastDate != p.firstDate> – ${p.lastDate}</#if></td>
+            <td>${p.matchCount}</td>
+          </tr>
+        </#list>
+        </tbody>
+      </table>
+    </div>
+  </main>
+
+  <footer>
+    <div class="content">
+      <span class="brand">GOODFELLAZßS</span>
+      &nbsp;– European Football 2025/2026
+    </div>
+  </footer>
+</body>
+</html>
@@ -1,9 +1,17 @@
+<#-- Previous/next links of a paged league (pageLabel, prev, next set). -->
+<#macro pager>
+      <nav class="pager">
+        <#if prev??><a href="${prev.href}">&lsaquo; ${prev.label}</a><#else><span class="disabled">&lsaquo;</span></#if>
+        <a href="index.html">All pages</a>
+        <#if next??><a href="${next.href}">${next.label} &rsaquo;</a><#else><span class="disabled">&rsaquo;</span></#if>
+      </nav>
+</#macro>
 <!DOCTYPE html>
 <html lang="en">
 <head>
   <meta charset="UTF-8">
   <meta name="viewport" content="width=device-width, initial-scale=1.0">
-  <title>${leagueName} — ${countryName} — GOODFELLAZßS</title>
+  <title>${leagueName}<#if pageLabel??> (${pageLabel})</#if> — ${countryName} — GOODFELLAZßS</title>
   <style>
     *, *::before, *::after { box-sizing: border-box; }
     body { margin: 0; padding: 0; background-color: #ffffff; color: #000000;
@@ -30,6 +38,10 @@
     td { padding: 0.6rem 0.8rem; border-bottom: 1px solid #eeeeee; }
     tr:nth-child(even) { background-color: #fafafa; }
     footer .brand { font-size: 1rem; }
+<#if pageLabel??>
+    .pager { display: flex; justify-content: space-between; margin: 1rem 0; }
+    .pager .disabled { color: #999999; }
+</#if>
   </style>
 </head>
 <body>
@@ -37,10 +49,7 @@
     <div class="content">
       <div class="brand"><a href="../../index.html">GOODFELLAZßS</a></div>
       <nav class="nav">
-        <a href="../../index.html">Home</a>
-      <#list countries as c>
-        <a href="../../${c.slug}/index.html">${c.name}</a>
-      </#list>
+${navLinks}
       </nav>
     </div>
   </header>
@@ -50,11 +59,19 @@
       <div class="breadcrumb">
         <a href="../../index.html">Home</a> &rsaquo;
         <a href="../index.html">${countryName}</a> &rsaquo;
+      <#if pageLabel??>
+        <a href="index.html">${leagueName}</a> &rsaquo;
+        ${pageLabel}
+      <#else>
         ${leagueName}
+      </#if>
       </div>
 
       <h1>${leagueName}</h1>
-      <h2>Season ${season}</h2>
+      <h2>Season ${season}<#if pageLabel??> · ${pageLabel}</#if></h2>
+    <#if pageLabel??>
+      <@pager/>
+    </#if>
 
     <#if (matches?size > 0)>
       <table>
@@ -81,6 +98,9 @@
         </#list>
         </tbody>
       </table>
+      <#if pageLabel??>
+      <@pager/>
+      </#if>
     <#else>
       <p>No matches recorded yet.</p>
     </#if>
@@ -0,0 +1,6 @@
+<#-- Shared navigation links, rendered once per site and link depth.
+     prefix: relative path back to the site root ("", "../", "../../") -->
+        <a href="${prefix}index.html">Home</a>
+<#list countries as c>
+        <a href="${prefix}${c.slug}/index.html">${c.name}</a>
+</#list>
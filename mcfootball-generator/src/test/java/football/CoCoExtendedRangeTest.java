@@ -454,7 +454,7 @@ public class CoCoExtendedRangeTest {
         ASTFootballSite ast = parseModel("football/valid/TinyTest.fb");
         long before = Log.getErrorCount();
         FootballSiteCoCos.createChecker().checkAll(ast);
-        assertEquals("TinyTest.fb should pass all 27 CoCos",
+        assertEquals("TinyTest.fb should pass all 31 CoCos",
                 before, Log.getErrorCount());
     }
 
@@ -463,7 +463,7 @@ public class CoCoExtendedRangeTest {
         ASTFootballSite ast = parseModel("football/valid/Bundesliga.fb");
         long before = Log.getErrorCount();
         FootballSiteCoCos.createChecker().checkAll(ast);
-        assertEquals("Bundesliga.fb should pass all 27 CoCos",
+        assertEquals("Bundesliga.fb should pass all 31 CoCos",
                 before, Log.getErrorCount());
     }
 
@@ -0,0 +1,321 @@
+package football;
+
+import football.cocos.CoCoProfile;
+import football.cocos.CoCoStats;
+import football.cocos.FindingsCollector;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTCountry;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTLeague;
+import football.footballsite._parser.FootballSiteParser;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * The fused single-pass checker reports exactly the findings of the
+ * generated CoCo checkers, in the same order.
+ */
+public class FusedCoCoCheckerTest {
+
+    private static final String RESOURCES = "src/test/resources/football";
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    private static List<Path> allModels() throws IOException {
+        try (Stream<Path> files = Files.walk(Paths.get(RESOURCES))) {
+            return files.filter(f -> f.toString().endsWith(".fb"))
+                        .sorted()
+                        .collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> errors(Runnable check) {
+        FindingsCollector findings = new FindingsCollector();
+        findings.run(check);
+        return new ArrayList<>(findings.getErrors());
+    }
+
+    private static void assertSameFindings(String name, ASTFootballSite ast) {
+        assertEquals(name,
+                errors(() -> FootballSiteCoCos.createChecker().checkAll(ast)),
+                errors(() -> FootballSiteCoCos.createFusedChecker().checkAll(ast)));
+        assertEquals(name + " (structure)",
+                errors(() -> FootballSiteCoCos.createStructureChecker().checkAll(ast)),
+                errors(() -> FootballSiteCoCos.createFusedStructureChecker().checkAll(ast)));
+        assertEquals(name + " (leagues)",
+                errors(() -> FootballSiteCoCos.createLeagueChecker().checkAll(ast)),
+                errors(() -> FootballSiteCoCos.createFusedLeagueChecker().checkAll(ast)));
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testSameFindingsOnAllTestModels() throws IOException {
+        List<Path> models = allModels();
+        assertTrue(models.size() > 30);
+        int withErrors = 0;
+        for (Path model : models) {
+            FootballSiteParser parser = new FootballSiteParser();
+            Optional<ASTFootballSite> ast = parser.parseFootballSite(model.toString());
+            assertTrue("Model should parse: " + model, ast.isPresent());
+            assertSameFindings(model.toString(), ast.get());
+            if (!errors(() -> FootballSiteCoCos.createChecker().checkAll(ast.get())).isEmpty()) {
+                withErrors++;
+            }
+        }
+        assertTrue("Invalid models should be among them", withErrors >= 20);
+    }
+
+    @Test
+    public void testSameFindingsOnMatchEdgeCases() throws IOException {
+        String[][] matches = {
+            // date, time, home, away, stadium
+            {"2025-09-01", "15:00", "Alpha", "Beta", "Arena"},
+            {"2025-09-01", "15:00", "Alpha", "Beta", "Arena"},   // duplicate
+            {"2030-01-01", "25:10", "Gamma", "gamma", "Ab"},     // 0xFC013, 0xFC007+025, 003, 014
+            {"2025-9-1", "12:70", "Delta", "Eps", "   "},        // 0xFC006, 0xFC007+025, 014
+            {"2025-10-01", "9:30", "Zeta", "Eta", "Stadium"},    // 0xFC007 only
+            {"2025-09-01", "15:00", "Alpha", "Beta", "Other"},   // duplicate again
+        };
+        StringBuilder model = new StringBuilder("footballsite Edge {\n"
+                + "  navigation { Land; Other; }\n"
+                + "  country Land {\n"
+                + "    league lowerLeague season \"2025-2028\" {\n");
+        for (String[] m : matches) {
+            model.append("      match { date \"").append(m[0]).append("\" time \"").append(m[1])
+                 .append("\" home \"").append(m[2]).append("\" (\"C\") away \"").append(m[3])
+                 .append("\" (\" \") score 1 - 100 stadium \"").append(m[4]).append("\" }\n");
+        }
+        model.append("    }\n"
+                + "    league Second season \"25-26\" {\n"
+                + "      match { date \"2030-01-01\" time \"10:00\" home \"A\" (\"C\")"
+                + " away \"B\" (\"C\") score 0 - 0 stadium \"Arena\" }\n"
+                + "    }\n"
+                + "  }\n"
+                + "  country land { league L season \"2025-2026\" {\n"
+                + "      match { date \"2025-09-01\" time \"15:00\" home \"A\" (\"C\")"
+                + " away \"B\" (\"C\") score 0 - 0 stadium \"Arena\" }\n"
+                + "  } }\n"
+                + "}\n");
+
+        Optional<ASTFootballSite> ast =
+                new FootballSiteParser().parse_StringFootballSite(model.toString());
+        assertTrue(ast.isPresent());
+        List<String> expected =
+                errors(() -> FootballSiteCoCos.createChecker().checkAll(ast.get()));
+        for (String code : new String[] {"0xFC002", "0xFC003", "0xFC006", "0xFC007",
+                "0xFC009", "0xFC011", "0xFC012", "0xFC013", "0xFC014", "0xFC017",
+                "0xFC020", "0xFC023", "0xFC024", "0xFC025", "0xFC026"}) {
+            assertTrue(code + " should be reported: " + expected,
+                    expected.stream().anyMatch(e -> e.startsWith(code)));
+        }
+        assertSameFindings("edge cases", ast.get());
+    }
+
+    @Test
+    public void testCheckingOneCountryOrLeague() throws IOException {
+        ASTFootballSite ast = new FootballSiteParser()
+                .parseFootballSite(RESOURCES + "/invalid/MixedSeasons.fb").get();
+        for (ASTCountry country : ast.getCountryList()) {
+            assertEquals(errors(() -> FootballSiteCoCos.createChecker().checkAll(country)),
+                    errors(() -> FootballSiteCoCos.createFusedChecker().checkAll(country)));
+            for (ASTLeague league : country.getLeagueList()) {
+                assertEquals(
+                        errors(() -> FootballSiteCoCos.createLeagueChecker().checkAll(league)),
+                        errors(() -> FootballSiteCoCos.createFusedLeagueChecker()
+                                                      .checkAll(league)));
+            }
+        }
+    }
+
+    /** @return whether one of {@code errors} has the given code */
+    private static boolean reports(List<String> errors, String code) {
+        return errors.stream().anyMatch(e -> e.startsWith(code));
+    }
+
+    private static ASTFootballSite oneMatch(String season, String date, String time)
+            throws IOException {
+        return new FootballSiteParser().parse_StringFootballSite("footballsite Odd {\n"
+                + "  country Land { league Liga season \"" + season + "\" {\n"
+                + "      match { date \"" + date + "\" time \"" + time + "\""
+                + " home \"A\" (\"C\") away \"B\" (\"C\") score 0 - 0 stadium \"Arena\" }\n"
+                + "  } }\n}\n").get();
+    }
+
+    @Test
+    public void testFixedWidthDecodingAcceptsWhatThePatternsAccepted() throws IOException {
+        // The regular expressions the date, time and season CoCos used to match with
+        Pattern datePattern = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+        Pattern validTime = Pattern.compile("([01]\\d|2[0-3]):[0-5]\\d");
+        Pattern anyTime = Pattern.compile("\\d{2}:(\\d{2})");
+        Pattern seasonPattern = Pattern.compile("(\\d{4})-(\\d{4})");
+
+        String[] dates = {"2025-09-01", "2025-13-45", "2025-9-01", "2025-09-1", "2025/09/01",
+                "2025-09-01 ", " 2025-09-01", "20250-9-01", "2025--09-1", "+025-09-01",
+                "2025-0a-01", "\u0662\u0660\u0662\u0665-09-01", "", "2025-09-01-"};
+        String[] times = {"00:00", "23:59", "24:00", "19:60", "25:10", "09:07", "9:30",
+                "09:3", "09-30", "0930", "1a:00", " 9:30", "\u0661\u0665:00", "", "15:00:00"};
+        String[] seasons = {"2025-2026", "2025-2028", "2026-2025", "0000-0001", "9999-9999",
+                "25-26", "2025/2026", "2025-26", "2025 2026", "2025-2026 ", "-025-2026", ""};
+        for (int i = 0; i < Math.max(dates.length, Math.max(times.length, seasons.length)); i++) {
+            String date = dates[i % dates.length];
+            String time = times[i % times.length];
+            String season = seasons[i % seasons.length];
+            ASTFootballSite ast = oneMatch(season, date, time);
+            String context = season + " / " + date + " / " + time;
+            List<String> errors = errors(() -> FootballSiteCoCos.createChecker().checkAll(ast));
+
+            assertEquals(context, !datePattern.matcher(date).matches(), reports(errors, "0xFC006"));
+            assertEquals(context, !validTime.matcher(time).matches(), reports(errors, "0xFC007"));
+            Matcher minutes = anyTime.matcher(time);
+            assertEquals(context, minutes.matches()
+                            && !"00 15 30 45".contains(minutes.group(1)),
+                    reports(errors, "0xFC025"));
+            Matcher years = seasonPattern.matcher(season);
+            boolean wellFormed = years.matches();
+            assertEquals(context, !wellFormed, reports(errors, "0xFC009"));
+            assertEquals(context, wellFormed
+                            && Integer.parseInt(years.group(2)) != Integer.parseInt(years.group(1)) + 1,
+                    reports(errors, "0xFC024"));
+            if (wellFormed && datePattern.matcher(date).matches()) {
+                int year = Integer.parseInt(date.substring(0, 4));
+                assertEquals(context, year < Integer.parseInt(years.group(1))
+                                || year > Integer.parseInt(years.group(2)),
+                        reports(errors, "0xFC013"));
+            }
+            assertSameFindings(context, ast);
+        }
+    }
+
+    @Test
+    public void testDuplicateMatchesAreThoseWithEqualStrings() throws IOException {
+        // Malformed dates and times, and team names that look like them
+        String[] dates = {"2025-09-01", "2025-9-1", "2025-09-02", "x", "2025-09-01 "};
+        String[] times = {"15:00", "15:0", "25:10", "x", "15:00"};
+        String[] teams = {"Alpha", "Beta", "x", "2025-9-1", "15:0", "alpha"};
+        StringBuilder model = new StringBuilder("footballsite Dup {\n"
+                + "  country Land { league Liga season \"2025-2026\" {\n");
+        Set<String> seen = new HashSet<>();
+        int duplicates = 0;
+        for (int m = 0; m < 900; m++) {
+            String date = dates[m % dates.length];
+            String time = times[(m / 3) % times.length];
+            String home = teams[(m / 7) % teams.length];
+            String away = teams[(m / 11) % teams.length];
+            if (!seen.add(date + "|" + time + "|" + home + "|" + away)) {
+                duplicates++;
+            }
+            model.append("      match { date \"").append(date).append("\" time \"").append(time)
+                 .append("\" home \"").append(home).append("\" (\"C\") away \"").append(away)
+                 .append("\" (\"C\") score 0 - 0 stadium \"Arena\" }\n");
+        }
+        model.append("  } }\n}\n");
+        assertTrue(duplicates > 0 && seen.size() > 100);
+
+        ASTFootballSite ast =
+                new FootballSiteParser().parse_StringFootballSite(model.toString()).get();
+        List<String> errors = errors(() -> FootballSiteCoCos.createChecker().checkAll(ast));
+        assertEquals(duplicates, errors.stream().filter(e -> e.startsWith("0xFC017")).count());
+        assertSameFindings("duplicates", ast);
+    }
+
+    @Test
+    public void testFastProfileReportsOnlyItsRules() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (Path model : allModels()) {
+                ASTFootballSite ast = new FootballSiteParser()
+                        .parseFootballSite(model.toString()).get();
+                List<String> expected = errors(
+                        () -> FootballSiteCoCos.createFusedChecker().checkAll(ast)).stream()
+                        .filter(e -> CoCoProfile.FAST.includes(
+                                Integer.parseInt(e.substring(4, 7))))
+                        .collect(Collectors.toList());
+                assertEquals(model.toString(), expected, errors(() -> FootballSiteCoCos
+                        .createFusedChecker(CoCoProfile.FAST, null).checkAll(ast)));
+                List<String> parallel = errors(() -> FootballSiteCoCos
+                        .createParallelChecker(pool).checkAll(ast)).stream()
+                        .filter(e -> CoCoProfile.FAST.includes(
+                                Integer.parseInt(e.substring(4, 7))))
+                        .collect(Collectors.toList());
+                assertEquals(model.toString(), parallel, errors(() -> FootballSiteCoCos
+                        .createParallelChecker(pool, CoCoProfile.FAST, null).checkAll(ast)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(CoCoProfile.FAST, CoCoProfile.of("Fast"));
+        assertFalse(CoCoProfile.FAST.includes(19));
+        assertTrue(CoCoProfile.STRICT.includes(19));
+    }
+
+    @Test
+    public void testRuleStatsCountCallsPerNode() throws IOException {
+        ASTFootballSite ast = new FootballSiteParser()
+                .parseFootballSite(RESOURCES + "/valid/MultiCountry.fb").get();
+        int leagues = 0;
+        int matches = 0;
+        for (ASTCountry country : ast.getCountryList()) {
+            for (ASTLeague league : country.getLeagueList()) {
+                leagues++;
+                matches += league.getMatchList().size();
+            }
+        }
+        assertTrue(matches > leagues);
+
+        CoCoStats stats = new CoCoStats();
+        List<String> strict = errors(() -> FootballSiteCoCos.createFusedChecker().checkAll(ast));
+        assertEquals(strict, errors(() -> FootballSiteCoCos
+                .createFusedChecker(CoCoProfile.STRICT, stats).checkAll(ast)));
+        assertEquals(1, stats.getCalls(1));
+        assertEquals(ast.getCountryList().size(), stats.getCalls(5));
+        assertEquals(leagues, stats.getCalls(13));
+        assertEquals(leagues, stats.getCalls(17));
+        assertEquals(matches, stats.getCalls(3));
+        assertEquals(matches, stats.getCalls(25));
+        assertEquals(ast.isPresentNavigation() ? 31 : 29, stats.getRulesByTime().size());
+        assertTrue(stats.toString().contains(CoCoStats.code(17)));
+
+        CoCoStats fast = new CoCoStats();
+        FootballSiteCoCos.createParallelChecker(ForkJoinPool.commonPool(), CoCoProfile.FAST, fast)
+                         .checkAll(ast);
+        assertEquals(matches, fast.getCalls(3));
+        assertEquals(0, fast.getCalls(25));
+        assertEquals(0, fast.getCalls(13));
+        CoCoStats sum = new CoCoStats();
+        sum.addAll(stats);
+        sum.addAll(fast);
+        assertEquals(2 * matches, sum.getCalls(3));
+    }
+}
@@ -0,0 +1,157 @@
+package football;
+
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.*;
+
+/**
+ * Resident daemon: runs forwarded by the client behave like the CLI
+ * (output, exit status), and only clients with the token are served.
+ */
+public class GeneratorDaemonTest {
+
+    private static final String VALID_DIR   = "src/test/resources/football/valid/";
+    private static final String INVALID_DIR = "src/test/resources/football/invalid/";
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    private Path daemonFile;
+    private GeneratorDaemon daemon;
+    private Thread serving;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void startDaemon() throws Exception {
+        Log.clearFindings();
+        daemonFile = tempDir.getRoot().toPath().resolve("daemon");
+        daemon = new GeneratorDaemon(daemonFile, 1000);
+        daemon.warmUp();
+        serving = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        serving.start();
+        for (int i = 0; i < 100 && !Files.exists(daemonFile); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue("Daemon file should be written", Files.exists(daemonFile));
+    }
+
+    @After
+    public void stopDaemon() throws Exception {
+        daemon.close();
+        serving.join(5000);
+    }
+
+    private int forward(String... args) {
+        return GeneratorDaemon.forward(daemonFile, args,
+                new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    private String text(ByteArrayOutputStream stream) {
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testGenerateRunsInDaemon() {
+        File output = new File(tempDir.getRoot(), "site");
+        int status = forward("--model", VALID_DIR + "MultiCountry.fb",
+                             "--output", output.getPath());
+        assertEquals(text(err), 0, status);
+        assertTrue(text(out).contains("Pages: 7 rendered"));
+        assertTrue(new File(output, "germany/bundesliga/index.html").isFile());
+    }
+
+    @Test
+    public void testValidateReportsCoCoErrorsAndStatus() {
+        assertEquals(0, forward("--model", VALID_DIR + "TinyTest.fb", "--validate"));
+        assertTrue(text(out).contains("Valid: "));
+
+        assertEquals(1, forward("--model", INVALID_DIR + "DuplicateCountry.fb", "--validate"));
+        assertTrue(text(err).contains("0xFC001"));
+        assertTrue(text(err).contains("aborting (production mode)"));
+    }
+
+    @Test
+    public void testWatchIsRejected() {
+        assertEquals(1, forward("--model", VALID_DIR + "TinyTest.fb",
+                                "--output", "out", "--watch"));
+        assertTrue(text(err).contains("--watch cannot be run in the daemon"));
+    }
+
+    @Test
+    public void testWrongTokenIsNotServed() throws IOException {
+        String endpoint = new String(Files.readAllBytes(daemonFile), StandardCharsets.UTF_8);
+        Files.write(daemonFile, (endpoint.split(" ")[0] + " wrong\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(1, forward("--model", VALID_DIR + "TinyTest.fb", "--validate"));
+        assertTrue(text(err).contains("closed the connection"));
+        assertEquals("", text(out));
+    }
+
+    @Test
+    public void testSilentClientDoesNotBlockOthers() throws IOException {
+        try (Socket silent = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+            // Connected first but sends nothing: dropped after the request timeout
+            assertEquals(text(err), 0, forward("--model", VALID_DIR + "TinyTest.fb", "--validate"));
+            assertTrue(text(out).contains("Valid: "));
+            assertEquals(-1, silent.getInputStream().read());
+        }
+    }
+
+    @Test
+    public void testStopEndsDaemonAndRemovesFile() throws Exception {
+        assertEquals(0, GeneratorDaemon.stop(daemonFile, new PrintStream(err, true)));
+        serving.join(5000);
+        assertFalse(serving.isAlive());
+        assertFalse(Files.exists(daemonFile));
+        assertEquals(1, forward("--model", VALID_DIR + "TinyTest.fb", "--validate"));
+        assertTrue(text(err).contains("No generator daemon running"));
+    }
+
+    @Test
+    public void testClientMakesPathsAbsolute() {
+        String[] args = GeneratorDaemon.absolutePaths(new String[] {
+            "--models", "a.fb", "b.fb", "--output", "out", "--threads", "2"
+        });
+        assertEquals(Paths.get("a.fb").toAbsolutePath().toString(), args[1]);
+        assertEquals(Paths.get("b.fb").toAbsolutePath().toString(), args[2]);
+        assertEquals(Paths.get("out").toAbsolutePath().toString(), args[4]);
+        assertEquals("2", args[6]);
+    }
+}
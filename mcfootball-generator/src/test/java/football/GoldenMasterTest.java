@@ -15,7 +15,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -175,10 +178,37 @@ public class GoldenMasterTest {
         });
     }
 
+    @Test
+    public void testParallelOutputMatchesSequential() throws IOException {
+        ASTFootballSite ast = parseModel("football/valid/MultiCountry.fb");
+        Path seqDir = tempDir.newFolder("golden-seq").toPath();
+        Path parDir = tempDir.newFolder("golden-par").toPath();
+        new FootballSiteGenerator(seqDir).generate(ast);
+        new FootballSiteGenerator(parDir, 4).generate(ast);
+
+        List<Path> seqFiles = listFiles(seqDir);
+        assertEquals("Parallel run should write the same pages",
+                seqFiles, listFiles(parDir));
+        for (Path rel : seqFiles) {
+            assertArrayEquals("Page differs between sequential and parallel: " + rel,
+                    Files.readAllBytes(seqDir.resolve(rel)),
+                    Files.readAllBytes(parDir.resolve(rel)));
+        }
+    }
+
     // ══════════════════════════════════════════════════════════════════
     // Helpers
     // ══════════════════════════════════════════════════════════════════
 
+    private List<Path> listFiles(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(Files::isRegularFile)
+                       .map(root::relativize)
+                       .sorted()
+                       .collect(Collectors.toList());
+        }
+    }
+
     private String readFile(Path path) throws IOException {
         return new String(Files.readAllBytes(path), "UTF-8");
     }
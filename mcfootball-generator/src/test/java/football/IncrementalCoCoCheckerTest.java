@@ -0,0 +1,169 @@
+package football;
+
+import football.cocos.CoCoResultCache;
+import football.cocos.FindingsCollector;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Incremental CoCo checking: the same findings as a full check, with
+ * only changed leagues and countries checked again.
+ */
+public class IncrementalCoCoCheckerTest {
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    private static ASTFootballSite parse(String model) throws IOException {
+        return new FootballSiteParser().parse_StringFootballSite(model).get();
+    }
+
+    private static List<String> full(ASTFootballSite ast) {
+        FindingsCollector findings = new FindingsCollector();
+        findings.run(() -> FootballSiteCoCos.createParallelChecker().checkAll(ast));
+        return new ArrayList<>(findings.getErrors());
+    }
+
+    private static List<String> incremental(ASTFootballSite ast, CoCoResultCache cache) {
+        FindingsCollector findings = new FindingsCollector();
+        findings.run(() -> FootballSiteCoCos.createIncrementalChecker(cache).checkAll(ast));
+        return new ArrayList<>(findings.getErrors());
+    }
+
+    private static String match(String date, String home) {
+        return "      match { date \"" + date + "\" time \"15:00\" home \"" + home
+                + "\" (\"X\") away \"" + home + " Reserves\" (\"X\") score 1 - 0 stadium \""
+                + home + " Park\" }\n";
+    }
+
+    /** Countries C0..C{n-1} with two leagues of three matches each. */
+    private static String site(int countries, String extraMatchOfC0L1) {
+        StringBuilder model = new StringBuilder("footballsite Inc {\n  navigation {");
+        for (int c = 0; c < countries; c++) {
+            model.append(" C").append(c).append(';');
+        }
+        model.append(" }\n");
+        for (int c = 0; c < countries; c++) {
+            model.append("  country C").append(c).append(" {\n");
+            for (int l = 0; l < 2; l++) {
+                model.append("    league L").append(l).append(" season \"2025-2026\" {\n");
+                if (c == 0 && l == 1) {
+                    model.append(extraMatchOfC0L1);
+                }
+                for (int m = 0; m < 3; m++) {
+                    model.append(match("2025-09-0" + (m + 1), "Team" + c + l));
+                }
+                model.append("    }\n");
+            }
+            model.append("  }\n");
+        }
+        return model.append("}\n").toString();
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testSameFindingsOnAllTestModels() throws IOException {
+        List<Path> models;
+        try (Stream<Path> files = Files.walk(Paths.get("src/test/resources/football"))) {
+            models = files.filter(f -> f.toString().endsWith(".fb")).sorted()
+                          .collect(Collectors.toList());
+        }
+        CoCoResultCache cache = new CoCoResultCache();
+        for (int round = 0; round < 2; round++) {
+            for (Path model : models) {
+                ASTFootballSite ast = parse(new String(Files.readAllBytes(model),
+                        StandardCharsets.UTF_8));
+                assertEquals(model.toString(), full(ast), incremental(ast, cache));
+            }
+        }
+    }
+
+    @Test
+    public void testOnlyChangedLeaguesAreCheckedAgain() throws IOException {
+        CoCoResultCache cache = new CoCoResultCache();
+        assertEquals(List.of(), incremental(parse(site(10, "")), cache));
+        assertEquals(20, cache.getCheckedLeagues());
+        assertEquals(0, cache.getReusedLeagues());
+
+        assertEquals(List.of(), incremental(parse(site(10, "")), cache));
+        assertEquals(0, cache.getCheckedLeagues());
+        assertEquals(20, cache.getReusedLeagues());
+
+        // A new fixture in one league: the other league of its country is reused
+        assertEquals(List.of(), incremental(parse(site(10, match("2025-10-01", "New"))), cache));
+        assertEquals(1, cache.getCheckedLeagues());
+        assertEquals(19, cache.getReusedLeagues());
+    }
+
+    @Test
+    public void testFindingsOfMovedAndChangedLeaguesHaveCurrentPositions() throws IOException {
+        CoCoResultCache cache = new CoCoResultCache();
+        incremental(parse(site(3, "")), cache);
+
+        // An invalid match shifts every later line of the model
+        ASTFootballSite broken = parse(site(3, match("2031-01-01", "Bad")));
+        List<String> errors = incremental(broken, cache);
+        assertTrue(errors.stream().anyMatch(e -> e.startsWith("0xFC013")));
+        assertEquals(full(broken), errors);
+        assertEquals(1, cache.getCheckedLeagues());
+
+        // A league with findings is checked every time, so they are not lost
+        assertEquals(full(broken), incremental(broken, cache));
+        assertEquals(1, cache.getCheckedLeagues());
+
+        // Site CoCos always run
+        ASTFootballSite unlisted = parse(site(3, "").replace("navigation { C0;", "navigation {"));
+        errors = incremental(unlisted, cache);
+        assertTrue(errors.stream().anyMatch(e -> e.startsWith("0xFC012")));
+        assertEquals(full(unlisted), errors);
+        // The original league was dropped while the broken one was checked
+        assertEquals(1, cache.getCheckedLeagues());
+    }
+
+    @Test
+    public void testCacheKeepsOnlyTheLastModel() throws IOException {
+        CoCoResultCache cache = new CoCoResultCache();
+        incremental(parse(site(10, "")), cache);
+        int entries = cache.size();
+        assertEquals(30, entries);
+
+        for (int c = 1; c <= 5; c++) {
+            incremental(parse(site(10, match("2025-10-0" + c, "New"))), cache);
+        }
+        assertEquals(entries, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        incremental(parse(site(10, "")), cache);
+        assertEquals(20, cache.getCheckedLeagues());
+    }
+}
@@ -0,0 +1,216 @@
+package football;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FileSystemOutputSink;
+import football.generator.FootballSiteGenerator;
+import football.generator.GenerationReport;
+import football.generator.SiteManifest;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Incremental site generation: the manifest of per-page input hashes
+ * lets a second run skip unchanged pages, re-render changed ones and
+ * delete pages that disappeared from the model.
+ *
+ * Baseline model: MultiCountry.fb (2 countries, 4 leagues → 7 pages).
+ */
+public class IncrementalGenerationTest {
+
+    private static final int MULTI_COUNTRY_PAGES = 7;
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────
+
+    private String readModel(String resourcePath) throws IOException {
+        return new String(Files.readAllBytes(
+                new File("src/test/resources/" + resourcePath).toPath()),
+                StandardCharsets.UTF_8);
+    }
+
+    private ASTFootballSite parseString(String content) throws IOException {
+        File tmp = File.createTempFile("incremental_", ".fb");
+        tmp.deleteOnExit();
+        Files.write(tmp.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTFootballSite> opt = parser.parseFootballSite(tmp.getAbsolutePath());
+        assertTrue("Inline model should parse", opt.isPresent());
+        return opt.get();
+    }
+
+    private GenerationReport generate(Path outDir, String model) throws IOException {
+        return generate(outDir, model, false);
+    }
+
+    private GenerationReport generate(Path outDir, String model, boolean gzip)
+            throws IOException {
+        FootballSiteGenerator gen = new FootballSiteGenerator(outDir);
+        gen.setIncremental(true);
+        gen.setGzip(gzip);
+        return gen.generate(parseString(model));
+    }
+
+    private static byte[] gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return in.readAllBytes();
+        }
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testFirstRunRendersAllPagesAndWritesManifest() throws IOException {
+        Path outDir = tempDir.newFolder("first").toPath();
+        GenerationReport report = generate(outDir, readModel("football/valid/MultiCountry.fb"));
+
+        assertEquals(MULTI_COUNTRY_PAGES, report.getPagesRendered());
+        assertEquals(0, report.getPagesSkipped());
+        assertTrue("Manifest should be written",
+                Files.exists(outDir.resolve(SiteManifest.FILE_NAME)));
+    }
+
+    @Test
+    public void testUnchangedModelSkipsAllPages() throws IOException {
+        Path outDir = tempDir.newFolder("unchanged").toPath();
+        String model = readModel("football/valid/MultiCountry.fb");
+        generate(outDir, model);
+
+        GenerationReport second = generate(outDir, model);
+        assertEquals(0, second.getPagesRendered());
+        assertEquals(MULTI_COUNTRY_PAGES, second.getPagesSkipped());
+        assertEquals(0, second.getPagesDeleted());
+    }
+
+    @Test
+    public void testChangedMatchRendersOnlyItsLeaguePage() throws IOException {
+        Path outDir = tempDir.newFolder("changed").toPath();
+        String model = readModel("football/valid/MultiCountry.fb");
+        generate(outDir, model);
+
+        // Only the first match (Bundesliga) changes its score
+        String changed = model.replaceFirst("score   2 - 1", "score   4 - 1");
+        assertNotEquals("Fixture should change the model", model, changed);
+
+        GenerationReport second = generate(outDir, changed);
+        assertEquals(1, second.getPagesRendered());
+        assertEquals(MULTI_COUNTRY_PAGES - 1, second.getPagesSkipped());
+
+        String html = new String(Files.readAllBytes(
+                outDir.resolve("germany/bundesliga/index.html")), StandardCharsets.UTF_8);
+        assertTrue("Re-rendered page should contain new score", html.contains("4 – 1"));
+    }
+
+    @Test
+    public void testMissingOutputFileIsRenderedAgain() throws IOException {
+        Path outDir = tempDir.newFolder("missing").toPath();
+        String model = readModel("football/valid/MultiCountry.fb");
+        generate(outDir, model);
+
+        Files.delete(outDir.resolve("spain/la-liga/index.html"));
+        GenerationReport second = generate(outDir, model);
+        assertEquals(1, second.getPagesRendered());
+        assertTrue(Files.exists(outDir.resolve("spain/la-liga/index.html")));
+    }
+
+    @Test
+    public void testRemovedPagesAreDeleted() throws IOException {
+        Path outDir = tempDir.newFolder("removed").toPath();
+        generate(outDir, readModel("football/valid/MultiCountry.fb"));
+        assertTrue(Files.exists(outDir.resolve("spain/index.html")));
+
+        // Germany/Bundesliga only: Zweiteliga plus Spain's 3 pages are deleted
+        GenerationReport second = generate(outDir, readModel("football/valid/Bundesliga.fb"));
+        assertEquals(4, second.getPagesDeleted());
+        assertFalse("Spain directory should be gone",
+                Files.exists(outDir.resolve("spain")));
+        assertTrue(Files.exists(outDir.resolve("germany/bundesliga/index.html")));
+    }
+
+    @Test
+    public void testGzipSiblingsAreWrittenAndSkippedWhenUnchanged() throws IOException {
+        Path outDir = tempDir.newFolder("gzip").toPath();
+        String model = readModel("football/valid/MultiCountry.fb");
+
+        GenerationReport first = generate(outDir, model, true);
+        assertEquals(MULTI_COUNTRY_PAGES, first.getPagesCompressed());
+        Path page = outDir.resolve("germany/bundesliga/index.html");
+        assertArrayEquals("Sibling should decompress to the page",
+                Files.readAllBytes(page), gunzip(outDir.resolve("germany/bundesliga/index.html.gz")));
+
+        String changed = model.replaceFirst("score   2 - 1", "score   4 - 1");
+        GenerationReport second = generate(outDir, changed, true);
+        assertEquals("Only the changed page is recompressed", 1, second.getPagesCompressed());
+        assertArrayEquals(Files.readAllBytes(page),
+                gunzip(outDir.resolve("germany/bundesliga/index.html.gz")));
+    }
+
+    @Test
+    public void testUnchangedPagesAreNotReadForGzipCheck() throws IOException {
+        Path outDir = tempDir.newFolder("gzip-unchanged").toPath();
+        ASTFootballSite ast = parseString(readModel("football/valid/MultiCountry.fb"));
+        generate(outDir, readModel("football/valid/MultiCountry.fb"), true);
+
+        AtomicInteger pagesRead = new AtomicInteger();
+        FootballSiteGenerator gen = new FootballSiteGenerator(new FileSystemOutputSink(outDir) {
+            @Override
+            public InputStream read(String relPath) throws IOException {
+                if (relPath.endsWith(".html")) {
+                    pagesRead.incrementAndGet();
+                }
+                return super.read(relPath);
+            }
+        }, 1);
+        gen.setIncremental(true);
+        gen.setGzip(true);
+        GenerationReport second = gen.generate(ast);
+        assertEquals(MULTI_COUNTRY_PAGES, second.getPagesSkipped());
+        assertEquals(0, second.getPagesCompressed());
+        assertEquals("No page should be read back", 0, pagesRead.get());
+    }
+
+    @Test
+    public void testGzipSiblingsAreDeletedWhenDisabled() throws IOException {
+        Path outDir = tempDir.newFolder("gzip-off").toPath();
+        String model = readModel("football/valid/MultiCountry.fb");
+        generate(outDir, model, true);
+
+        GenerationReport second = generate(outDir, model, false);
+        assertEquals("Siblings are not counted as pages", 0, second.getPagesDeleted());
+        assertFalse("Stale sibling should be removed",
+                Files.exists(outDir.resolve("index.html.gz")));
+        assertTrue(Files.exists(outDir.resolve("index.html")));
+    }
+}
@@ -0,0 +1,136 @@
+package football;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FootballSiteGenerator;
+import football.generator.LeaguePaging;
+import football.generator.MemoryOutputSink;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.SortedSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * League paging: matches split into fixed-size, per-date or per-month
+ * pages with prev/next links and a summary landing page.
+ *
+ * Baseline model: Bundesliga.fb (Germany/Bundesliga only).
+ */
+public class LeaguePagingTest {
+
+    private static final String DIR = "germany/bundesliga/";
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────
+
+    private ASTFootballSite parse(String path) throws IOException {
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTFootballSite> opt = parser.parseFootballSite(path);
+        assertTrue("Model should parse: " + path, opt.isPresent());
+        return opt.get();
+    }
+
+    private MemoryOutputSink generate(LeaguePaging paging, int matchesPerPage)
+            throws IOException {
+        MemoryOutputSink sink = new MemoryOutputSink();
+        FootballSiteGenerator gen = new FootballSiteGenerator(sink, 1);
+        gen.setLeaguePaging(paging, matchesPerPage);
+        gen.generate(parse("src/test/resources/football/valid/Bundesliga.fb"));
+        return sink;
+    }
+
+    private static int count(String haystack, String needle) {
+        int n = 0;
+        for (int i = haystack.indexOf(needle); i >= 0; i = haystack.indexOf(needle, i + 1)) {
+            n++;
+        }
+        return n;
+    }
+
+    private static int matchRows(MemoryOutputSink sink, SortedSet<String> paths) {
+        int rows = 0;
+        for (String path : paths) {
+            if (path.startsWith(DIR) && !path.equals(DIR + "index.html")) {
+                rows += count(sink.getPage(path), "class=\"score\"");
+            }
+        }
+        return rows;
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testSingleModeKeepsOnePage() throws IOException {
+        MemoryOutputSink sink = generate(LeaguePaging.SINGLE, 0);
+        String page = sink.getPage(DIR + "index.html");
+        assertFalse("No pager on a single page", page.contains("class=\"pager\""));
+        assertTrue(count(page, "class=\"score\"") > 0);
+    }
+
+    @Test
+    public void testFixedSizePagesCoverAllMatchesOnce() throws IOException {
+        int total = count(generate(LeaguePaging.SINGLE, 0).getPage(DIR + "index.html"),
+                "class=\"score\"");
+
+        MemoryOutputSink sink = generate(LeaguePaging.FIXED_SIZE, 1);
+        SortedSet<String> paths = sink.getPaths();
+        assertTrue(paths.contains(DIR + "page-1.html"));
+        assertEquals(total, matchRows(sink, paths));
+        assertEquals("Page 1 holds one match", 1,
+                count(sink.getPage(DIR + "page-1.html"), "class=\"score\""));
+        assertFalse("Summary lists pages, not matches",
+                sink.getPage(DIR + "index.html").contains("class=\"score\""));
+    }
+
+    @Test
+    public void testPrevNextLinksChainThePages() throws IOException {
+        MemoryOutputSink sink = generate(LeaguePaging.FIXED_SIZE, 1);
+        String first = sink.getPage(DIR + "page-1.html");
+        String second = sink.getPage(DIR + "page-2.html");
+
+        assertTrue(first.contains("<a href=\"page-2.html\">"));
+        assertTrue("First page has no previous link",
+                first.contains("<span class=\"disabled\">&lsaquo;</span>"));
+        assertTrue(second.contains("<a href=\"page-1.html\">"));
+    }
+
+    @Test
+    public void testMatchdayAndMonthGroupByDate() throws IOException {
+        MemoryOutputSink byDay = generate(LeaguePaging.MATCHDAY, 0);
+        MemoryOutputSink byMonth = generate(LeaguePaging.MONTH, 0);
+
+        long dayPages = byDay.getPaths().stream()
+                .filter(p -> p.startsWith(DIR + "matchday-")).count();
+        long monthPages = byMonth.getPaths().stream()
+                .filter(p -> p.startsWith(DIR + "month-")).count();
+        assertTrue(dayPages > 0);
+        assertTrue("Months group at least as coarsely as dates", monthPages <= dayPages);
+        assertEquals(matchRows(byDay, byDay.getPaths()),
+                     matchRows(byMonth, byMonth.getPaths()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFixedSizeRequiresPositivePageSize() {
+        new FootballSiteGenerator(new MemoryOutputSink(), 1)
+                .setLeaguePaging(LeaguePaging.FIXED_SIZE, 0);
+    }
+}
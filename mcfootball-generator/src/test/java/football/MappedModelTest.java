@@ -0,0 +1,156 @@
+package football;
+
+import football.cocos.FindingsCollector;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.SnapshotCache;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * Memory-mapped model loading: the reader decodes exactly what reading
+ * the file as a string does, and a mapped parse reports the same
+ * positions and findings as a parse by path.
+ */
+public class MappedModelTest {
+
+    private static final String VALID_DIR   = "src/test/resources/football/valid/";
+    private static final String INVALID_DIR = "src/test/resources/football/invalid/";
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    private static String readAll(Reader in, int bufferSize) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buf = new char[bufferSize];
+        for (int n = in.read(buf); n >= 0; n = in.read(buf)) {
+            text.append(buf, 0, n);
+        }
+        return text.toString();
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testReaderDecodesLikeString() throws IOException {
+        // Multi-byte characters land on every chunk boundary somewhere
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append("Fußball Çanakkale 𝔽𝕠𝕠𝕥 ").append(i).append('\n');
+        }
+        Path file = tempDir.newFile("Unicode.fb").toPath();
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+
+        MappedModel model = MappedModel.map(file);
+        for (int bufferSize : new int[] {1, 7, 8192, 100000}) {
+            try (Reader in = model.newReader()) {
+                assertEquals("buffer " + bufferSize, text.toString(), readAll(in, bufferSize));
+            }
+        }
+        assertEquals(Files.size(file), model.size());
+        assertEquals(SnapshotCache.sourceKey(Files.readAllBytes(file)), model.sourceKey());
+        assertEquals(model.sourceKey(), SnapshotCache.sourceKey(file));
+    }
+
+    @Test
+    public void testMalformedAndEmptyInput() throws IOException {
+        byte[] bytes = {'a', (byte) 0xC3, 'b', (byte) 0xE2, (byte) 0x82};
+        Path file = tempDir.newFile("Broken.fb").toPath();
+        Files.write(file, bytes);
+        try (Reader in = MappedModel.map(file).newReader()) {
+            assertEquals(new String(bytes, StandardCharsets.UTF_8), readAll(in, 3));
+        }
+
+        Path empty = tempDir.newFile("Empty.fb").toPath();
+        try (Reader in = MappedModel.map(empty).newReader()) {
+            assertEquals(-1, in.read(new char[4]));
+        }
+    }
+
+    @Test
+    public void testMappedParseKeepsPositionsAndFile() throws IOException {
+        String path = VALID_DIR + "MixedUnicode.fb";
+        ASTFootballSite byPath = new FootballSiteParser().parseFootballSite(path).get();
+        Optional<ASTFootballSite> mapped =
+                MappedModel.map(Paths.get(path)).parse(new FootballSiteParser());
+        assertTrue(mapped.isPresent());
+
+        assertEquals(byPath.get_SourcePositionStart().toString(),
+                     mapped.get().get_SourcePositionStart().toString());
+        assertEquals(byPath.getCountryList().size(), mapped.get().getCountryList().size());
+        for (int i = 0; i < byPath.getCountryList().size(); i++) {
+            assertEquals(
+                    byPath.getCountryList().get(i).getLeagueList().get(0)
+                          .getMatchList().get(0).get_SourcePositionStart().toString(),
+                    mapped.get().getCountryList().get(i).getLeagueList().get(0)
+                          .getMatchList().get(0).get_SourcePositionStart().toString());
+            // End positions name the file too
+            assertEquals(byPath.get_SourcePositionStart().getFileName(),
+                    mapped.get().getCountryList().get(i).getLeagueList().get(0)
+                          .get_SourcePositionEnd().getFileName());
+        }
+    }
+
+    @Test
+    public void testSyntaxErrorsNameTheFile() throws IOException {
+        Path broken = tempDir.newFile("Broken.fb").toPath();
+        Files.write(broken, "footballsite Broken { country }\n".getBytes(StandardCharsets.UTF_8));
+        FootballSiteParser parser = new FootballSiteParser();
+        List<String> syntaxErrors = new ArrayList<>();
+        MappedModel.map(broken).parse(parser, syntaxErrors);
+        assertTrue(parser.hasErrors());
+        assertFalse(syntaxErrors.isEmpty());
+        for (String error : syntaxErrors) {
+            assertTrue(error, error.startsWith(broken + ": "));
+        }
+    }
+
+    @Test
+    public void testMappedParseReportsSameFindings() throws IOException {
+        String[] files = {"DuplicateCountry.fb", "DuplicateMatch.fb", "BadDateTime.fb"};
+        for (String file : files) {
+            String path = INVALID_DIR + file;
+            ASTFootballSite byPath = new FootballSiteParser().parseFootballSite(path).get();
+            ASTFootballSite mapped =
+                    MappedModel.map(Paths.get(path)).parse(new FootballSiteParser()).get();
+
+            FindingsCollector expected = new FindingsCollector();
+            expected.run(() -> FootballSiteCoCos.createChecker().checkAll(byPath));
+            FindingsCollector actual = new FindingsCollector();
+            actual.run(() -> FootballSiteCoCos.createChecker().checkAll(mapped));
+            assertFalse(file, expected.getErrors().isEmpty());
+            assertEquals(file, expected.getErrors(), actual.getErrors());
+        }
+    }
+}
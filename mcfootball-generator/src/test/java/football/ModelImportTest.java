@@ -0,0 +1,173 @@
+package football;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FootballSiteGenerator;
+import football.generator.MemoryOutputSink;
+import football.generator.SiteSnapshot;
+import football.generator.SnapshotCache;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * Model imports: shards are parsed separately and merged into the root
+ * site, and the site-level CoCos run on the merged result.
+ */
+public class ModelImportTest {
+
+    private static final String VALID_DIR = "src/test/resources/football/valid/";
+    private static final String SHARD_DIR = "src/test/resources/football/shards/";
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────
+
+    private static ASTFootballSite parse(String path) throws IOException {
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTFootballSite> opt = parser.parseFootballSite(path);
+        assertTrue("Model should parse: " + path, opt.isPresent());
+        return opt.get();
+    }
+
+    private static ParallelModelChecker.Result resolve(String path) throws IOException {
+        return new ModelImportResolver(Paths.get(path), 2).resolve(parse(path));
+    }
+
+    private static boolean hasCode(List<String> errors, String code) {
+        return errors.stream().anyMatch(e -> e.startsWith(code));
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testShardedSiteRendersLikeSingleFile() throws IOException {
+        ParallelModelChecker.Result merged = resolve(SHARD_DIR + "ShardedSite.fb");
+        assertTrue("Merged site should pass all CoCos: " + merged.getCoCoErrors(),
+                merged.isValid());
+        ASTFootballSite site = merged.getAst().get();
+        assertEquals(2, site.getCountryList().size());
+        assertEquals("Germany", site.getCountryList().get(0).getName());
+
+        MemoryOutputSink fromShards = new MemoryOutputSink();
+        new FootballSiteGenerator(fromShards, 1).generate(site);
+        MemoryOutputSink fromSingle = new MemoryOutputSink();
+        new FootballSiteGenerator(fromSingle, 1).generate(parse(VALID_DIR + "MultiCountry.fb"));
+
+        assertEquals(fromSingle.getPaths(), fromShards.getPaths());
+        for (String path : fromSingle.getPaths()) {
+            assertEquals(path, fromSingle.getPage(path), fromShards.getPage(path));
+        }
+    }
+
+    @Test
+    public void testDuplicateCountryAcrossShardsIsReported() throws IOException {
+        ParallelModelChecker.Result merged = resolve(SHARD_DIR + "DuplicateShard.fb");
+        assertFalse(merged.isValid());
+        assertTrue(merged.getCoCoErrors().toString(),
+                hasCode(merged.getCoCoErrors(), "0xFC001"));
+    }
+
+    @Test
+    public void testNavigationIsCheckedAgainstAllShards() throws IOException {
+        ParallelModelChecker.Result merged = resolve(SHARD_DIR + "NavMissingShard.fb");
+        List<String> errors = merged.getCoCoErrors();
+        assertTrue(errors.toString(), hasCode(errors, "0xFC012"));
+        assertFalse("Germany comes from a shard and exists: " + errors,
+                hasCode(errors, "0xFC004"));
+    }
+
+    @Test
+    public void testMissingImportIsReported() throws IOException {
+        ParallelModelChecker.Result merged = resolve(SHARD_DIR + "MissingImport.fb");
+        assertFalse(merged.getAst().isPresent());
+        assertTrue(merged.getCoCoErrors().toString(),
+                hasCode(merged.getCoCoErrors(), "0xFC911"));
+        // The merged checks are skipped, so Italy is not also a nav error
+        assertFalse(hasCode(merged.getCoCoErrors(), "0xFC004"));
+    }
+
+    @Test
+    public void testDevModeCheckerResolvesImports() {
+        ParallelModelChecker.Result result = ParallelModelChecker.check(SHARD_DIR + "ShardedSite.fb");
+        assertTrue(result.getCoCoErrors().toString(), result.isValid());
+        assertEquals(2, result.getAst().get().getCountryList().size());
+    }
+
+    @Test
+    public void testSnapshotMissesWhenAShardChanges() throws IOException {
+        File dir = tempDir.newFolder("models");
+        for (String name : new String[] {"ShardedSite.fb", "Germany.fb", "Spain.fb"}) {
+            Files.copy(Paths.get(SHARD_DIR + name), dir.toPath().resolve(name));
+        }
+        Path root = dir.toPath().resolve("ShardedSite.fb");
+        byte[] source = Files.readAllBytes(root);
+
+        ModelImportResolver resolver = new ModelImportResolver(root, 2);
+        ParallelModelChecker.Result merged = resolver.resolve(parse(root.toString()));
+        assertTrue(merged.isValid());
+
+        SnapshotCache cache = new SnapshotCache(new MemoryOutputSink());
+        String key = SnapshotCache.sourceKey(source);
+        cache.store("ShardedSite.fb", key, resolver.getShardKeys(),
+                SiteSnapshot.of(merged.getAst().get()));
+        assertTrue(cache.load("ShardedSite.fb", key, dir.toPath()).isPresent());
+        assertFalse("Shards cannot be verified without the model directory",
+                cache.load("ShardedSite.fb", source).isPresent());
+
+        Files.write(dir.toPath().resolve("Spain.fb"),
+                "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertFalse(cache.load("ShardedSite.fb", key, dir.toPath()).isPresent());
+    }
+
+    @Test
+    public void testBrokenShardsParsedInParallelNameTheirFile() throws IOException {
+        File dir = tempDir.newFolder("broken");
+        StringBuilder root = new StringBuilder("footballsite Broken {\n");
+        for (int i = 0; i < 4; i++) {
+            root.append("  import \"Shard").append(i).append(".fb\";\n");
+            Files.write(dir.toPath().resolve("Shard" + i + ".fb"),
+                    ("footballsite Shard" + i + " { country }\n").getBytes(StandardCharsets.UTF_8));
+        }
+        Path rootFile = dir.toPath().resolve("Broken.fb");
+        Files.write(rootFile, root.append("}\n").toString().getBytes(StandardCharsets.UTF_8));
+
+        ParallelModelChecker.Result result =
+                new ModelImportResolver(rootFile, 4).resolve(parse(rootFile.toString()));
+        String error = result.getParseError().get();
+        assertTrue(error, error.contains("Failed to parse " + dir.toPath().resolve("Shard0.fb")));
+        assertTrue(error, error.contains(System.lineSeparator() + "  "
+                + dir.toPath().resolve("Shard0.fb") + ": "));
+        assertFalse(error, error.contains("Shard1.fb"));
+    }
+}
@@ -0,0 +1,124 @@
+package football;
+
+import football.generator.FootballSiteGenerator;
+import football.generator.GenerationReport;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * Watch mode: one warm parser/checker/generator regenerates only the
+ * changed pages, and a broken edit leaves the previous site in place.
+ *
+ * Baseline model: MultiCountry.fb (2 countries, 4 leagues → 7 pages).
+ */
+public class ModelWatcherTest {
+
+    private static final String LEAGUE_PAGE = "germany/bundesliga/index.html";
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    private Path modelFile;
+    private Path outDir;
+    private String model;
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        Log.clearFindings();
+        model = new String(Files.readAllBytes(
+                new File("src/test/resources/football/valid/MultiCountry.fb").toPath()),
+                StandardCharsets.UTF_8);
+        modelFile = tempDir.newFolder("models").toPath().resolve("Site.fb");
+        Files.write(modelFile, model.getBytes(StandardCharsets.UTF_8));
+        outDir = tempDir.newFolder("site").toPath();
+    }
+
+    private String read(String relPath) throws IOException {
+        return new String(Files.readAllBytes(outDir.resolve(relPath)), StandardCharsets.UTF_8);
+    }
+
+    private void editModel(String content) throws IOException {
+        Files.write(modelFile, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testEditRegeneratesOnlyChangedPage() throws IOException {
+        ModelWatcher watcher = new ModelWatcher(modelFile, new FootballSiteGenerator(outDir));
+        assertEquals(7, watcher.regenerate().get().getPagesRendered());
+
+        editModel(model.replaceFirst("score   2 - 1", "score   4 - 1"));
+        GenerationReport second = watcher.regenerate().get();
+        assertEquals(1, second.getPagesRendered());
+        assertEquals(6, second.getPagesSkipped());
+        assertTrue(read(LEAGUE_PAGE).contains("4 – 1"));
+    }
+
+    @Test
+    public void testBrokenEditKeepsPreviousSite() throws IOException {
+        ModelWatcher watcher = new ModelWatcher(modelFile, new FootballSiteGenerator(outDir));
+        watcher.regenerate();
+        String before = read(LEAGUE_PAGE);
+
+        editModel(model.replaceFirst("score   2 - 1", "score   2 -"));
+        assertFalse("Parse error should reject the model", watcher.regenerate().isPresent());
+
+        editModel(model.replaceFirst("time    \"\\d\\d:\\d\\d\"", "time    \"25:00\""));
+        assertFalse("CoCo error should reject the model", watcher.regenerate().isPresent());
+
+        assertEquals(before, read(LEAGUE_PAGE));
+
+        editModel(model);
+        assertTrue("Fixed model is accepted again", watcher.regenerate().isPresent());
+    }
+
+    @Test(timeout = 20000)
+    public void testWatchPicksUpSavedFile() throws Exception {
+        ModelWatcher watcher = new ModelWatcher(modelFile, new FootballSiteGenerator(outDir));
+        Thread thread = new Thread(() -> {
+            try {
+                watcher.watch();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.start();
+        try {
+            Path page = outDir.resolve(LEAGUE_PAGE);
+            while (!Files.exists(page)) {
+                Thread.sleep(20);
+            }
+
+            editModel(model.replaceFirst("score   2 - 1", "score   7 - 1"));
+            while (!read(LEAGUE_PAGE).contains("7 – 1")) {
+                Thread.sleep(20);
+            }
+        } finally {
+            watcher.stop();
+            thread.join(5000);
+        }
+        assertFalse("Watcher should stop", thread.isAlive());
+    }
+}
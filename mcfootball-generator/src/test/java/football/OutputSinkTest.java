@@ -0,0 +1,144 @@
+package football;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FileSystemOutputSink;
+import football.generator.FootballSiteGenerator;
+import football.generator.MemoryOutputSink;
+import football.generator.OutputSink;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Output sinks: pages are published only when complete, the file
+ * system sink writes UTF-8 and leaves no temp files behind, and the
+ * in-memory sink produces the same site as the file system.
+ */
+public class OutputSinkTest {
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────
+
+    private ASTFootballSite parse(String path) throws IOException {
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTFootballSite> opt = parser.parseFootballSite(path);
+        assertTrue("Model should parse: " + path, opt.isPresent());
+        return opt.get();
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static void write(OutputSink sink, String relPath, String content,
+                              boolean publish) throws IOException {
+        try (OutputSink.Page page = sink.open(relPath)) {
+            page.writer().write(content);
+            if (publish) {
+                page.publish();
+            }
+        }
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testFileSinkWritesUtf8AndLeavesNoTempFiles() throws IOException {
+        Path root = tempDir.newFolder("fs").toPath();
+        OutputSink sink = new FileSystemOutputSink(root);
+
+        write(sink, "österreich/bundesliga/index.html", "Grüß Gott – ßS", true);
+
+        assertEquals("Grüß Gott – ßS", read(root.resolve("österreich/bundesliga/index.html")));
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals("Only the published page should exist", 1,
+                    files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    public void testUnpublishedPageKeepsPreviousContent() throws IOException {
+        Path root = tempDir.newFolder("keep").toPath();
+        OutputSink sink = new FileSystemOutputSink(root);
+
+        write(sink, "index.html", "old", true);
+        write(sink, "index.html", "half-written", false);
+
+        assertEquals("old", read(root.resolve("index.html")));
+        try (Stream<Path> files = Files.list(root)) {
+            assertEquals("Discarded temp file should be removed", "index.html",
+                    files.map(p -> p.getFileName().toString())
+                         .collect(Collectors.joining(",")));
+        }
+    }
+
+    @Test
+    public void testDeleteRemovesEmptyDirectories() throws IOException {
+        Path root = tempDir.newFolder("delete").toPath();
+        OutputSink sink = new FileSystemOutputSink(root);
+
+        write(sink, "spain/la-liga/index.html", "x", true);
+        assertTrue(sink.delete("spain/la-liga/index.html"));
+        assertFalse("Empty parents should be gone", Files.exists(root.resolve("spain")));
+        assertTrue("Root stays", Files.isDirectory(root));
+
+        // Directory cache must not assume the deleted directory still exists
+        write(sink, "spain/la-liga/index.html", "y", true);
+        assertEquals("y", read(root.resolve("spain/la-liga/index.html")));
+    }
+
+    @Test
+    public void testMemorySinkMatchesFileSystemOutput() throws IOException {
+        ASTFootballSite ast = parse("src/test/resources/football/valid/MultiCountry.fb");
+
+        Path root = tempDir.newFolder("site").toPath();
+        new FootballSiteGenerator(root).generate(ast);
+
+        MemoryOutputSink memory = new MemoryOutputSink();
+        new FootballSiteGenerator(memory, 1).generate(ast);
+
+        assertEquals(7, memory.getPaths().size());
+        for (String relPath : memory.getPaths()) {
+            assertEquals("Page " + relPath, read(root.resolve(relPath)),
+                    memory.getPage(relPath));
+        }
+    }
+
+    @Test
+    public void testMemorySinkDropsUnpublishedPage() throws IOException {
+        MemoryOutputSink sink = new MemoryOutputSink();
+        write(sink, "index.html", "draft", false);
+        assertFalse(sink.exists("index.html"));
+        assertNull(sink.getPage("index.html"));
+    }
+}
@@ -0,0 +1,182 @@
+package football;
+
+import football.cocos.FindingsCollector;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import de.se_rwth.commons.SourcePosition;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Parallel CoCo checking: the same findings as the sequential checker,
+ * merged in source-position order, independent of the pool size.
+ */
+public class ParallelCoCoCheckerTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void init() {
+        Log.init();
+        Log.enableFailQuick(false);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        pool.shutdown();
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    private static FindingsCollector sequential(ASTFootballSite ast) {
+        FindingsCollector findings = new FindingsCollector();
+        findings.run(() -> FootballSiteCoCos.createFusedChecker().checkAll(ast));
+        return findings;
+    }
+
+    private static List<String> parallel(ASTFootballSite ast, ForkJoinPool on) {
+        FindingsCollector findings = new FindingsCollector();
+        findings.run(() -> FootballSiteCoCos.createParallelChecker(on).checkAll(ast));
+        return new ArrayList<>(findings.getErrors());
+    }
+
+    /** Sequential findings of a single-file model, stably sorted by line and column. */
+    private static List<String> byPosition(FindingsCollector findings) {
+        List<SourcePosition> positions = findings.getPositions();
+        return IntStream.range(0, findings.getErrorCount()).boxed()
+                .sorted(Comparator.comparing(positions::get))
+                .map(findings.getErrors()::get)
+                .collect(Collectors.toList());
+    }
+
+    /** A site with {@code countries} countries whose every match breaks some CoCo. */
+    private static String manyCountries(int countries) {
+        StringBuilder model = new StringBuilder("footballsite Many {\n  navigation {");
+        for (int c = 0; c < countries; c++) {
+            model.append(" C").append(c).append(';');
+        }
+        model.append(" Missing; }\n");
+        for (int c = 0; c < countries; c++) {
+            model.append("  country C").append(c).append(" {\n")
+                 .append("    league L season \"2025-202").append(c % 3 + 5).append("\" {\n");
+            for (int m = 0; m < 20; m++) {
+                model.append("      match { date \"20").append(m % 2 == 0 ? "25" : "31")
+                     .append("-09-01\" time \"1").append(m % 10).append(":1").append(m % 4)
+                     .append("\" home \"T").append(m % 5).append("\" (\"X\") away \"U")
+                     .append(m % 5).append("\" (\"X\") score 1 - 0 stadium \"Arena\" }\n");
+            }
+            model.append("    }\n  }\n");
+        }
+        return model.append("  country C0 { league M season \"2025-2026\" {\n"
+                + "      match { date \"2025-09-01\" time \"15:00\" home \"A\" (\"X\")"
+                + " away \"B\" (\"X\") score 0 - 0 stadium \"Arena\" } } }\n}\n").toString();
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testSameFindingsInPositionOrderOnAllTestModels() throws IOException {
+        List<Path> models;
+        try (Stream<Path> files = Files.walk(Paths.get("src/test/resources/football"))) {
+            models = files.filter(f -> f.toString().endsWith(".fb")).sorted()
+                          .collect(Collectors.toList());
+        }
+        for (Path model : models) {
+            ASTFootballSite ast = new FootballSiteParser()
+                    .parseFootballSite(model.toString()).get();
+            assertEquals(model.toString(), byPosition(sequential(ast)), parallel(ast, pool));
+        }
+    }
+
+    @Test
+    public void testResultDoesNotDependOnScheduling() throws IOException {
+        ASTFootballSite ast = new FootballSiteParser()
+                .parse_StringFootballSite(manyCountries(24)).get();
+        FindingsCollector expected = sequential(ast);
+        assertTrue(expected.getErrorCount() > 100);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            List<String> first = parallel(ast, single);
+            assertEquals(byPosition(expected), first);
+            for (int run = 0; run < 10; run++) {
+                assertEquals(first, parallel(ast, pool));
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    public void testSiteCoCosAreIncluded() throws IOException {
+        ASTFootballSite ast = new FootballSiteParser()
+                .parse_StringFootballSite(manyCountries(3)).get();
+        List<String> errors = parallel(ast, pool);
+        assertTrue(errors.stream().anyMatch(e -> e.startsWith("0xFC001")));
+        assertTrue(errors.stream().anyMatch(e -> e.startsWith("0xFC004")));
+        assertEquals(sequential(ast).getErrorCount(), errors.size());
+    }
+
+    @Test
+    public void testReportsToGlobalLogWithoutCollector() throws IOException {
+        ASTFootballSite ast = new FootballSiteParser()
+                .parseFootballSite("src/test/resources/football/invalid/DuplicateCountry.fb")
+                .get();
+        long before = Log.getErrorCount();
+        FootballSiteCoCos.createParallelChecker(pool).checkAll(ast);
+        assertEquals(sequential(ast).getErrorCount(), Log.getErrorCount() - before);
+    }
+
+    @Test
+    public void testErrorLimitStopsChecking() throws IOException {
+        ASTFootballSite ast = new FootballSiteParser()
+                .parse_StringFootballSite(manyCountries(24)).get();
+        FindingsCollector all = sequential(ast);
+
+        FindingsCollector limited = new FindingsCollector(5);
+        limited.run(() -> FootballSiteCoCos.createFusedChecker().checkAll(ast));
+        assertTrue(limited.isLimitReached());
+        assertEquals(all.getErrors().subList(0, 5), limited.getErrors());
+
+        FindingsCollector parallel = new FindingsCollector(5);
+        parallel.run(() -> FootballSiteCoCos.createParallelChecker(pool).checkAll(ast));
+        assertTrue(parallel.isLimitReached());
+        assertEquals(5, parallel.getErrorCount());
+        assertTrue(all.getErrors().containsAll(parallel.getErrors()));
+
+        // An inner limit stops only the inner check
+        FindingsCollector outer = new FindingsCollector();
+        outer.run(() -> {
+            new FindingsCollector(1).run(
+                    () -> FootballSiteCoCos.createFusedChecker().checkAll(ast));
+            FootballSiteCoCos.createFusedChecker().checkAll(ast);
+        });
+        assertFalse(outer.isLimitReached());
+        assertEquals(all.getErrors(), outer.getErrors());
+    }
+}
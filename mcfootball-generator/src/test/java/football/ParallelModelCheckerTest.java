@@ -0,0 +1,180 @@
+package football;
+
+import football.cocos.FindingsCollector;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import de.se_rwth.commons.logging.Finding;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * Dev-mode pipeline: models are parsed and checked concurrently, and each
+ * file's CoCo errors are collected separately from the shared Log.
+ */
+public class ParallelModelCheckerTest {
+
+    private static final String VALID_DIR   = "src/test/resources/football/valid/";
+    private static final String INVALID_DIR = "src/test/resources/football/invalid/";
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────
+
+    private static List<String> allModels() {
+        List<String> paths = new ArrayList<>();
+        for (String dir : Arrays.asList(VALID_DIR, INVALID_DIR)) {
+            File[] files = new File(dir).listFiles((d, name) -> name.endsWith(".fb"));
+            assertNotNull(files);
+            Arrays.sort(files);
+            for (File f : files) {
+                paths.add(f.getPath());
+            }
+        }
+        return paths;
+    }
+
+    /** CoCo errors of one file, checked the classic way via the global Log. */
+    private static List<String> errorsViaLog(String path) throws IOException {
+        Log.clearFindings();
+        Optional<ASTFootballSite> ast = new FootballSiteParser().parseFootballSite(path);
+        List<String> errors = new ArrayList<>();
+        if (ast.isPresent()) {
+            FootballSiteCoCos.createChecker().checkAll(ast.get());
+            for (Finding f : Log.getFindings()) {
+                if (f.isError()) {
+                    errors.add(f.getMsg());
+                }
+            }
+        }
+        Log.clearFindings();
+        return errors;
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testResultsKeepInputOrder() {
+        List<String> paths = allModels();
+        List<ParallelModelChecker.Result> results = new ParallelModelChecker(4).checkAll(paths);
+
+        assertEquals(paths.size(), results.size());
+        for (int i = 0; i < paths.size(); i++) {
+            assertEquals(paths.get(i), results.get(i).getModelPath());
+        }
+    }
+
+    @Test
+    public void testFindingsAreAttributedPerFile() throws IOException {
+        List<String> paths = allModels();
+        List<ParallelModelChecker.Result> results = new ParallelModelChecker(4).checkAll(paths);
+
+        for (ParallelModelChecker.Result result : results) {
+            if (result.getParseError().isPresent()) {
+                continue;
+            }
+            assertEquals("Findings of " + result.getModelPath(),
+                    errorsViaLog(result.getModelPath()), result.getCoCoErrors());
+        }
+    }
+
+    @Test
+    public void testValidAndInvalidModelsAreSeparated() {
+        List<ParallelModelChecker.Result> results = new ParallelModelChecker(4).checkAll(
+                Arrays.asList(VALID_DIR + "MultiCountry.fb",
+                              INVALID_DIR + "DuplicateCountry.fb",
+                              VALID_DIR + "Bundesliga.fb"));
+
+        assertTrue(results.get(0).isValid());
+        assertFalse(results.get(1).isValid());
+        assertTrue(results.get(1).getCoCoErrors().get(0).startsWith("0xFC001"));
+        assertTrue(results.get(2).isValid());
+    }
+
+    @Test
+    public void testCollectedErrorsDoNotReachGlobalLog() {
+        long before = Log.getErrorCount();
+        ParallelModelChecker.Result result =
+                ParallelModelChecker.check(INVALID_DIR + "SameTeamMatch.fb");
+
+        assertFalse(result.getCoCoErrors().isEmpty());
+        assertEquals(before, Log.getErrorCount());
+    }
+
+    @Test
+    public void testSyntaxErrorsNameTheirFile() throws IOException {
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            File broken = File.createTempFile("broken" + i + "_", ".fb");
+            broken.deleteOnExit();
+            Files.write(broken.toPath(), ("footballsite Broken" + i + " { country }\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            paths.add(broken.getPath());
+        }
+
+        List<ParallelModelChecker.Result> results = new ParallelModelChecker(4).checkAll(paths);
+        for (int i = 0; i < paths.size(); i++) {
+            String error = results.get(i).getParseError().get();
+            for (int j = 0; j < paths.size(); j++) {
+                assertEquals(error, i == j, error.contains(paths.get(j)));
+            }
+            // Each file's syntax errors are listed on their own lines, with its name
+            assertTrue(error, error.contains(System.lineSeparator() + "  " + paths.get(i) + ": "));
+        }
+    }
+
+    @Test
+    public void testLogErrorsOfConcurrentCollectorsStayApart() throws Exception {
+        long before = Log.getErrorCount();
+        List<Thread> threads = new ArrayList<>();
+        List<FindingsCollector> collectors = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            FindingsCollector collector = new FindingsCollector();
+            String prefix = "thread " + t + " error ";
+            collectors.add(collector);
+            threads.add(new Thread(() -> collector.run(() -> {
+                for (int i = 0; i < 200; i++) {
+                    Log.error(prefix + i);
+                }
+            })));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int t = 0; t < collectors.size(); t++) {
+            List<String> errors = collectors.get(t).getErrors();
+            assertEquals(200, errors.size());
+            for (int i = 0; i < errors.size(); i++) {
+                assertEquals("thread " + t + " error " + i, errors.get(i));
+            }
+        }
+        assertEquals(before, Log.getErrorCount());
+    }
+}
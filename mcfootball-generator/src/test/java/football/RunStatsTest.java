@@ -0,0 +1,135 @@
+package football;
+
+import football.cocos.CoCoProfile;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FootballSiteGenerator;
+import football.generator.GenerationReport;
+import football.generator.MemoryOutputSink;
+import football.generator.RunStats;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * --report json: measuring a run leaves the pages unchanged, and the
+ * counted pages and bytes match what the sink received.
+ */
+public class RunStatsTest {
+
+    private static final String VALID_DIR = "src/test/resources/football/valid/";
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    private ASTFootballSite parse(String file) throws IOException {
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTFootballSite> opt = parser.parseFootballSite(VALID_DIR + file);
+        assertTrue("Model should parse: " + file, opt.isPresent());
+        return opt.get();
+    }
+
+    private static long number(String json, String key) {
+        Matcher m = Pattern.compile("\"" + key + "\": (\\d+)").matcher(json);
+        assertTrue(key + " missing in " + json, m.find());
+        return Long.parseLong(m.group(1));
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testMeasuredRunWritesSamePages() throws IOException {
+        MemoryOutputSink plain = new MemoryOutputSink();
+        new FootballSiteGenerator(plain, 1).generate(parse("MultiCountry.fb"));
+
+        MemoryOutputSink measured = new MemoryOutputSink();
+        FootballSiteGenerator generator = new FootballSiteGenerator(measured, 2);
+        generator.setStats(new RunStats());
+        generator.generate(parse("MultiCountry.fb"));
+
+        assertEquals(plain.getPaths(), measured.getPaths());
+        for (String path : plain.getPaths()) {
+            assertArrayEquals(path, plain.getBytes(path), measured.getBytes(path));
+        }
+    }
+
+    @Test
+    public void testReportCountsPagesAndBytes() throws IOException {
+        MemoryOutputSink sink = new MemoryOutputSink();
+        FootballSiteGenerator generator = new FootballSiteGenerator(sink, 2);
+        generator.setGzip(true);
+        RunStats stats = new RunStats();
+        generator.setStats(stats);
+        GenerationReport report = generator.generate(parse("MultiCountry.fb"));
+        stats.setGenerationReport(report);
+        stats.put("model", "Multi\"Country.fb");
+
+        long bytes = 0;
+        for (String path : sink.getPaths()) {
+            bytes += sink.getBytes(path).length;
+        }
+        String json = stats.toJson();
+        assertEquals(14, number(json, "filesWritten"));
+        assertEquals(bytes, number(json, "bytesWritten"));
+        assertEquals(7, number(json, "rendered"));
+        assertEquals(7, number(json, "compressed"));
+        assertTrue(number(json, "peakHeapBytes") > 0);
+        assertTrue(json.contains("\"model\": \"Multi\\\"Country.fb\""));
+
+        for (String phase : new String[] {"read", "parse", "coco", "nav", "render", "write"}) {
+            assertTrue(phase + " missing", json.contains("\"" + phase + "\": { \"wallMs\": "));
+        }
+        // Slowest templates: the three page templates; slowest pages: all 7
+        assertEquals(3, count(json, "\"template\": \"") - count(json, "\"page\": \""));
+        assertEquals(7, count(json, "\"page\": \""));
+    }
+
+    @Test
+    public void testReportListsCoCoRulesMostExpensiveFirst() throws IOException {
+        RunStats stats = new RunStats();
+        assertTrue(stats.toJson().contains("\"cocoRules\": [],"));
+
+        ASTFootballSite ast = parse("MultiCountry.fb");
+        FootballSiteCoCos.createFusedChecker(CoCoProfile.FAST, stats.getCoCoStats()).checkAll(ast);
+        String json = stats.toJson();
+        assertEquals(13, count(json, "\"rule\": \"0xFC"));
+        assertTrue(json.contains("{ \"rule\": \"0xFC003\", \"calls\": 8, \"totalMs\": "));
+        assertFalse(json.contains("0xFC025"));
+
+        Matcher ms = Pattern.compile("\"totalMs\": ([0-9.]+)").matcher(json);
+        double previous = Double.MAX_VALUE;
+        while (ms.find()) {
+            double total = Double.parseDouble(ms.group(1));
+            assertTrue(json, total <= previous);
+            previous = total;
+        }
+    }
+
+    private static int count(String s, String part) {
+        int n = 0;
+        for (int i = s.indexOf(part); i >= 0; i = s.indexOf(part, i + 1)) {
+            n++;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,113 @@
+package football;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FootballSiteGenerator;
+import football.generator.GenerationReport;
+import football.generator.MemoryOutputSink;
+import football.generator.SiteMerger;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * Merge mode: countries of several models form one site with a shared
+ * navigation, and duplicate country slugs are reported, not overwritten.
+ */
+public class SiteMergerTest {
+
+    private static final String VALID_DIR = "src/test/resources/football/valid/";
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    private ASTFootballSite parse(String file) throws IOException {
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTFootballSite> opt = parser.parseFootballSite(VALID_DIR + file);
+        assertTrue("Model should parse: " + file, opt.isPresent());
+        return opt.get();
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testMergedSiteListsAllCountries() throws IOException {
+        SiteMerger merger = new SiteMerger();
+        merger.add("Bundesliga.fb", parse("Bundesliga.fb"));
+        merger.add("PremierLeague.fb", parse("PremierLeague.fb"));
+
+        assertEquals("BundesligaResults", merger.getSiteName());
+        assertEquals(2, merger.getCountries().size());
+        assertTrue(merger.getConflicts().isEmpty());
+
+        MemoryOutputSink sink = new MemoryOutputSink();
+        GenerationReport report = new FootballSiteGenerator(sink, 1)
+                .generate(merger.getSiteName(), merger.getCountries());
+
+        // index + 2 countries + 2 leagues, each written once
+        assertEquals(5, report.getPagesRendered());
+        String index = sink.getPage("index.html");
+        assertTrue(index.contains("href=\"germany/index.html\""));
+        assertTrue(index.contains("href=\"england/index.html\""));
+        String league = sink.getPage("germany/bundesliga/index.html");
+        assertTrue("League nav should link the other model's country",
+                league.contains("href=\"../../england/index.html\""));
+    }
+
+    @Test
+    public void testDuplicateCountrySlugIsReportedAndSkipped() throws IOException {
+        SiteMerger merger = new SiteMerger();
+        merger.add("Bundesliga.fb", parse("Bundesliga.fb"));
+        int added = merger.add("MultiCountry.fb", parse("MultiCountry.fb"));
+
+        // Germany clashes, Spain is added
+        assertEquals(1, added);
+        assertEquals(2, merger.getCountries().size());
+        assertEquals(1, merger.getConflicts().size());
+        String conflict = merger.getConflicts().get(0);
+        assertTrue(conflict, conflict.contains("'germany'"));
+        assertTrue(conflict, conflict.contains("MultiCountry.fb"));
+        assertTrue(conflict, conflict.contains("Bundesliga.fb"));
+    }
+
+    @Test
+    public void testNavigationIsCheckedAgainstMergedSite() throws IOException {
+        // PremierLeague.fb lists Germany in its navigation but only declares England
+        SiteMerger merger = new SiteMerger();
+        merger.add("PremierLeague.fb", parse("PremierLeague.fb"));
+        assertEquals(1, merger.getUnresolvedNavigation().size());
+        String unresolved = merger.getUnresolvedNavigation().get(0);
+        assertTrue(unresolved, unresolved.startsWith("0xFC004"));
+        assertTrue(unresolved, unresolved.contains("'Germany'"));
+
+        merger.add("Bundesliga.fb", parse("Bundesliga.fb"));
+        assertTrue(merger.getUnresolvedNavigation().isEmpty());
+    }
+
+    @Test
+    public void testPerModelNavigationCheckIsDeferred() {
+        assertEquals(Collections.singletonList("0xFC001 Duplicate country"),
+                SiteMerger.withoutMergedChecks(Arrays.asList(
+                        "0xFC004 Navigation item 'Germany' is not a declared country",
+                        "0xFC001 Duplicate country")));
+    }
+}
@@ -0,0 +1,209 @@
+package football;
+
+import football.cocos.CoCoProfile;
+import football.cocos.FindingsCollector;
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the site-wide fixture CoCos 0xFC029 (team plays once per
+ * day), 0xFC030 (stadium not double-booked) and 0xFC031 (team in one
+ * country), which compare matches across leagues and countries.
+ */
+public class SiteWideCoCoTest {
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────
+
+    private static ASTFootballSite parse(String model) throws IOException {
+        return new FootballSiteParser().parse_StringFootballSite(model).get();
+    }
+
+    private static List<String> errors(Runnable check) {
+        FindingsCollector findings = new FindingsCollector();
+        findings.run(check);
+        return new ArrayList<>(findings.getErrors());
+    }
+
+    /** Findings of all checkers, which must agree, with code {@code code}. */
+    private static List<String> findings(ASTFootballSite ast, String code) {
+        List<String> generated = errors(() -> FootballSiteCoCos.createChecker().checkAll(ast));
+        assertEquals(generated, errors(() -> FootballSiteCoCos.createFusedChecker().checkAll(ast)));
+        assertEquals(generated, errors(() -> FootballSiteCoCos.createParallelChecker().checkAll(ast)));
+        return generated.stream().filter(e -> e.startsWith(code)).collect(Collectors.toList());
+    }
+
+    private static String match(String date, String time, String home, String away,
+                                String stadium) {
+        return "      match { date \"" + date + "\" time \"" + time + "\" home \"" + home
+                + "\" (\"X\") away \"" + away + "\" (\"X\") score 1 - 0 stadium \""
+                + stadium + "\" }\n";
+    }
+
+    private static String league(String name, String... matches) {
+        return "    league " + name + " season \"2025-2026\" {\n"
+                + String.join("", matches) + "    }\n";
+    }
+
+    private static String country(String name, String... leagues) {
+        return "  country " + name + " {\n" + String.join("", leagues) + "  }\n";
+    }
+
+    private static String site(String... countries) {
+        return "footballsite Wide {\n" + String.join("", countries) + "}\n";
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // 0xFC029 TeamPlaysOncePerDay
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testTeamPlayingTwiceOnOneDayInTwoLeagues() throws IOException {
+        ASTFootballSite ast = parse(site(country("Testland",
+                league("Cup", match("2025-09-01", "20:00", "Alpha", "Beta", "Cup Arena")),
+                league("League",
+                        match("2025-09-01", "15:00", "Gamma", "Alpha", "Gamma Park"),
+                        match("2025-09-02", "15:00", "Alpha", "Delta", "Alpha Park")))));
+        List<String> errors = findings(ast, "0xFC029");
+        assertEquals(errors.toString(), 1, errors.size());
+        // The later kick-off is reported against the earlier one
+        assertTrue(errors.get(0), errors.get(0).contains("Team 'Alpha' plays twice on 2025-09-01"));
+        assertTrue(errors.get(0), errors.get(0).contains("in league 'Cup'"));
+    }
+
+    @Test
+    public void testTwoMatchesOnOneDayInOneLeagueAreNotReported() throws IOException {
+        ASTFootballSite ast = parse(site(country("Testland", league("League",
+                match("2025-09-01", "13:00", "Alpha", "Beta", "Alpha Park"),
+                match("2025-09-01", "18:00", "Gamma", "Alpha", "Gamma Park")))));
+        assertEquals(List.of(), findings(ast, "0xFC029"));
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // 0xFC030 StadiumNotDoubleBooked
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testStadiumDoubleBookedAcrossCountries() throws IOException {
+        ASTFootballSite ast = parse(site(
+                country("Northland", league("League",
+                        match("2025-09-01", "15:00", "Alpha", "Beta", "Shared Arena"),
+                        match("2025-09-01", "18:00", "Gamma", "Delta", "Shared Arena"))),
+                country("Southland", league("League",
+                        match("2025-09-01", "15:00", "Epsilon", "Zeta", "Shared Arena")))));
+        List<String> errors = findings(ast, "0xFC030");
+        assertEquals(errors.toString(), 1, errors.size());
+        assertTrue(errors.get(0), errors.get(0).contains(
+                "Stadium 'Shared Arena' is double-booked on 2025-09-01 at 15:00: 'Epsilon' vs 'Zeta'"));
+    }
+
+    @Test
+    public void testDuplicateMatchIsNotADoubleBooking() throws IOException {
+        String fixture = match("2025-09-01", "15:00", "Alpha", "Beta", "Alpha Park");
+        ASTFootballSite ast = parse(site(country("Testland", league("League", fixture, fixture))));
+        assertEquals(List.of(), findings(ast, "0xFC030"));
+        assertEquals(1, findings(ast, "0xFC017").size());
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // 0xFC031 TeamInOneCountry
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testTeamInTwoCountriesIsReportedOncePerCountry() throws IOException {
+        ASTFootballSite ast = parse(site(
+                country("Northland", league("League",
+                        match("2025-09-01", "15:00", "Nomads", "Beta", "Nomad Park"))),
+                country("Southland", league("League",
+                        match("2025-09-08", "15:00", "Gamma", "Nomads", "Gamma Park"),
+                        match("2025-09-15", "15:00", "Nomads", "Delta", "Nomad Field")))));
+        List<String> errors = findings(ast, "0xFC031");
+        assertEquals(errors.toString(), 1, errors.size());
+        assertTrue(errors.get(0), errors.get(0).contains(
+                "Team 'Nomads' plays in country 'Southland'"));
+        assertTrue(errors.get(0), errors.get(0).contains("already in country 'Northland'"));
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Profiles and scale
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testValidModelsPass() throws IOException {
+        for (String model : new String[] {"MultiCountry", "Bundesliga", "TinyTest"}) {
+            ASTFootballSite ast = new FootballSiteParser()
+                    .parseFootballSite("src/test/resources/football/valid/" + model + ".fb").get();
+            assertEquals(model, List.of(), findings(ast, "0xFC0"));
+        }
+    }
+
+    @Test
+    public void testFastProfileSkipsSiteWideRules() throws IOException {
+        ASTFootballSite ast = parse(site(
+                country("Northland", league("League",
+                        match("2025-09-01", "15:00", "Nomads", "Beta", "Shared Arena"))),
+                country("Southland", league("Cup",
+                        match("2025-09-01", "15:00", "Nomads", "Gamma", "Shared Arena")))));
+        assertEquals(1, findings(ast, "0xFC029").size());
+        assertEquals(1, findings(ast, "0xFC030").size());
+        assertEquals(1, findings(ast, "0xFC031").size());
+        assertEquals(List.of(), errors(() -> FootballSiteCoCos
+                .createParallelChecker(ForkJoinPool.commonPool(), CoCoProfile.FAST, null)
+                .checkAll(ast)));
+    }
+
+    @Test
+    public void testLargeSiteReportsOnlyPlantedConflicts() throws IOException {
+        // 40 countries × 5 leagues × 100 matches with distinct teams and stadiums
+        StringBuilder model = new StringBuilder("footballsite Large {\n");
+        for (int c = 0; c < 40; c++) {
+            model.append("  country C").append(c).append(" {\n");
+            for (int l = 0; l < 5; l++) {
+                model.append("    league L").append(l).append(" season \"2025-2026\" {\n");
+                for (int m = 0; m < 100; m++) {
+                    String team = "T" + c + "_" + l + "_";
+                    String date = String.format("2025-%02d-%02d", 8 + m / 28, 1 + m % 28);
+                    model.append(match(date, "15:00", team + m, team + (m + 100),
+                            "Stadium " + team + m));
+                }
+                if (c == 39 && l == 4) {
+                    // Plays in C0 L0 on the same day, at the same stadium and kick-off
+                    model.append(match("2025-08-01", "15:00", "T0_0_0", "Visitors",
+                            "Stadium T0_0_0"));
+                }
+                model.append("    }\n");
+            }
+            model.append("  }\n");
+        }
+        ASTFootballSite ast = parse(model.append("}\n").toString());
+        List<String> errors = errors(() -> FootballSiteCoCos.createParallelChecker().checkAll(ast));
+        assertEquals(errors.toString(), 3, errors.size());
+        assertTrue(errors.get(0).startsWith("0xFC029"));
+        assertTrue(errors.get(1).startsWith("0xFC030"));
+        assertTrue(errors.get(2).startsWith("0xFC031"));
+    }
+}
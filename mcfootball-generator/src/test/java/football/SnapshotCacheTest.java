@@ -0,0 +1,120 @@
+package football;
+
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FootballSiteGenerator;
+import football.generator.MemoryOutputSink;
+import football.generator.OutputSink;
+import football.generator.SiteSnapshot;
+import football.generator.SnapshotCache;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * Snapshot cache: a stored model renders exactly like the parsed one,
+ * and any other source, tool version or a damaged entry is a miss.
+ */
+public class SnapshotCacheTest {
+
+    private static final String VALID_DIR = "src/test/resources/football/valid/";
+    private static final String ENTRY = "MixedUnicode.fb" + SnapshotCache.SUFFIX;
+
+    private MemoryOutputSink store;
+    private SnapshotCache cache;
+    private byte[] source;
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        Log.clearFindings();
+        store = new MemoryOutputSink();
+        cache = new SnapshotCache(store);
+        source = Files.readAllBytes(Paths.get(VALID_DIR + "MixedUnicode.fb"));
+        cache.store("MixedUnicode.fb", source, parse("MixedUnicode.fb"));
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────
+
+    private ASTFootballSite parse(String file) throws IOException {
+        FootballSiteParser parser = new FootballSiteParser();
+        Optional<ASTFootballSite> opt = parser.parseFootballSite(VALID_DIR + file);
+        assertTrue("Model should parse: " + file, opt.isPresent());
+        return opt.get();
+    }
+
+    private void replaceEntry(byte[] bytes) throws IOException {
+        try (OutputSink.Page page = store.open(ENTRY)) {
+            page.stream().write(bytes);
+            page.publish();
+        }
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testSnapshotRendersSameSiteAsModel() throws IOException {
+        Optional<SiteSnapshot> snapshot = cache.load("MixedUnicode.fb", source);
+        assertTrue(snapshot.isPresent());
+        assertTrue("Snapshot should be smaller than the source",
+                store.getBytes(ENTRY).length < source.length);
+
+        MemoryOutputSink fromModel = new MemoryOutputSink();
+        new FootballSiteGenerator(fromModel, 1).generate(parse("MixedUnicode.fb"));
+        MemoryOutputSink fromSnapshot = new MemoryOutputSink();
+        new FootballSiteGenerator(fromSnapshot, 1)
+                .generate(snapshot.get().getSiteName(), snapshot.get().getCountries());
+
+        assertEquals(fromModel.getPaths(), fromSnapshot.getPaths());
+        for (String path : fromModel.getPaths()) {
+            assertEquals(path, fromModel.getPage(path), fromSnapshot.getPage(path));
+        }
+    }
+
+    @Test
+    public void testChangedSourceIsAMiss() {
+        byte[] edited = new String(source, StandardCharsets.UTF_8)
+                .replaceFirst("score\\s+\\d+", "score 9")
+                .getBytes(StandardCharsets.UTF_8);
+        assertFalse(Arrays.equals(source, edited));
+        assertFalse(cache.load("MixedUnicode.fb", edited).isPresent());
+        assertFalse(cache.load("Other.fb", source).isPresent());
+    }
+
+    @Test
+    public void testOtherToolVersionIsAMiss() throws IOException {
+        // Header: 4-byte magic, then the fingerprint as length-prefixed UTF
+        byte[] entry = store.getBytes(ENTRY).clone();
+        entry[6] = (byte) (entry[6] == 'a' ? 'b' : 'a');
+        replaceEntry(entry);
+        assertFalse(cache.load("MixedUnicode.fb", source).isPresent());
+    }
+
+    @Test
+    public void testDamagedEntryIsAMiss() throws IOException {
+        byte[] entry = store.getBytes(ENTRY);
+        replaceEntry(Arrays.copyOf(entry, entry.length - 3));
+        assertFalse(cache.load("MixedUnicode.fb", source).isPresent());
+
+        replaceEntry(new byte[0]);
+        assertFalse(cache.load("MixedUnicode.fb", source).isPresent());
+    }
+}
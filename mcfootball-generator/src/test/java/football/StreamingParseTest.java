@@ -0,0 +1,268 @@
+package football;
+
+import football.cocos.FootballSiteCoCos;
+import football.footballsite._ast.ASTFootballSite;
+import football.footballsite._ast.ASTLeague;
+import football.footballsite._parser.FootballSiteParser;
+import football.generator.FileSystemOutputSink;
+import football.generator.FootballSiteGenerator;
+import football.generator.GenerationReport;
+import football.generator.MemoryOutputSink;
+import football.generator.OutputSink;
+import football.stream.FootballSiteStreamListener;
+import football.stream.FootballSiteStreamReader;
+import de.se_rwth.commons.logging.Finding;
+import de.se_rwth.commons.logging.Log;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Streaming parse: leagues arrive while the file is still being read,
+ * the streamed site equals the batch site, and the split CoCo checkers
+ * report the same errors, at the same positions, as the full checker.
+ */
+public class StreamingParseTest {
+
+    private static final String VALID_DIR   = "src/test/resources/football/valid/";
+    private static final String INVALID_DIR = "src/test/resources/football/invalid/";
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    @BeforeClass
+    public static void initLog() {
+        Log.init();
+        Log.enableFailQuick(false);
+    }
+
+    @Before
+    public void resetLog() {
+        Log.clearFindings();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────
+
+    private static String read(String path) throws IOException {
+        return new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+    }
+
+    private static List<String> errorMessages() {
+        List<String> errors = new ArrayList<>();
+        for (Finding f : Log.getFindings()) {
+            if (f.isError()) {
+                errors.add(f.getMsg());
+            }
+        }
+        Log.clearFindings();
+        return errors;
+    }
+
+    /** Checks every league and the skeleton, never stops early. */
+    private static class CheckingListener implements FootballSiteStreamListener {
+        @Override
+        public boolean siteStart(String siteName, List<String> navigation) { return true; }
+        @Override
+        public boolean countryStart(String countryName) { return true; }
+        @Override
+        public boolean league(ASTLeague league) {
+            FootballSiteCoCos.createLeagueChecker().checkAll(league);
+            return true;
+        }
+        @Override
+        public boolean countryEnd() { return true; }
+        @Override
+        public boolean siteEnd(ASTFootballSite skeleton) {
+            FootballSiteCoCos.createStructureChecker().checkAll(skeleton);
+            return true;
+        }
+    }
+
+    // ══════════════════════════════════════════════════════════════════
+    // Tests
+    // ══════════════════════════════════════════════════════════════════
+
+    @Test
+    public void testStreamedSiteEqualsBatchSite() throws IOException {
+        for (String file : Arrays.asList("MultiCountry.fb", "MixedUnicode.fb")) {
+            String path = VALID_DIR + file;
+            MemoryOutputSink batch = new MemoryOutputSink();
+            Optional<ASTFootballSite> ast = new FootballSiteParser().parseFootballSite(path);
+            assertTrue(ast.isPresent());
+            new FootballSiteGenerator(batch, 1).generate(ast.get());
+
+            MemoryOutputSink streamed = new MemoryOutputSink();
+            Optional<GenerationReport> report =
+                    new StreamingSiteRun(new FootballSiteGenerator(streamed, 3))
+                            .run(new StringReader(read(path)), path);
+            assertTrue(file + " should stream without errors", report.isPresent());
+
+            assertEquals(file, batch.getPaths(), streamed.getPaths());
+            for (String page : batch.getPaths()) {
+                assertEquals(file + " " + page, batch.getPage(page), streamed.getPage(page));
+            }
+        }
+    }
+
+    @Test
+    public void testSplitCheckersReportSameErrorsAsFullChecker() throws IOException {
+        File[] files = new File(INVALID_DIR).listFiles((d, name) -> name.endsWith(".fb"));
+        assertNotNull(files);
+        Arrays.sort(files);
+        int compared = 0;
+        for (File f : files) {
+            String path = f.getPath();
+            Optional<ASTFootballSite> ast = new FootballSiteParser().parseFootballSite(path);
+            if (!ast.isPresent()) {
+                Log.clearFindings();
+                continue;
+            }
+            FootballSiteCoCos.createChecker().checkAll(ast.get());
+            List<String> expected = errorMessages();
+
+            assertTrue(path, new FootballSiteStreamReader(new StringReader(read(path)), path)
+                    .read(new CheckingListener()));
+            List<String> actual = errorMessages();
+
+            // Same findings (and positions); structure errors come last when streaming
+            Collections.sort(expected);
+            Collections.sort(actual);
+            assertEquals(path, expected, actual);
+            compared++;
+        }
+        assertTrue(compared > 10);
+    }
+
+    @Test
+    public void testLeaguesArriveBeforeEndOfFile() throws IOException {
+        String source = read(VALID_DIR + "MultiCountry.fb");
+        int[] consumed = new int[1];
+        Reader counting = new StringReader(source) {
+            @Override
+            public int read(char[] buf, int off, int len) throws IOException {
+                int n = super.read(buf, off, Math.min(len, 64));
+                consumed[0] += Math.max(n, 0);
+                return n;
+            }
+        };
+        List<Integer> consumedAtLeague = new ArrayList<>();
+        new FootballSiteStreamReader(counting, "MultiCountry.fb").read(new CheckingListener() {
+            @Override
+            public boolean league(ASTLeague league) {
+                consumedAtLeague.add(consumed[0]);
+                return true;
+            }
+        });
+
+        assertEquals(4, consumedAtLeague.size());
+        assertTrue("First league should be handed over early",
+                consumedAtLeague.get(0) < source.length() / 2);
+    }
+
+    @Test
+    public void testStructureSyntaxErrorStopsReading() throws IOException {
+        String model = "footballsite S {\n  navigation { A; }\n  country A {\n  }\n}\n";
+        FootballSiteStreamReader reader = new FootballSiteStreamReader(new StringReader(model), "S.fb");
+        assertFalse(reader.read(new CheckingListener()));
+        assertTrue(reader.hasErrors());
+        List<String> errors = errorMessages();
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0), errors.get(0).startsWith("0xFC901 Syntax error at S.fb:4:3"));
+    }
+
+    @Test
+    public void testStreamingNeedsNavigation() throws IOException {
+        String model = read(VALID_DIR + "MultiCountry.fb")
+                .replaceFirst("(?s)navigation\\s*\\{[^}]*\\}", "");
+        Optional<GenerationReport> report =
+                new StreamingSiteRun(new FootballSiteGenerator(new MemoryOutputSink(), 1))
+                        .run(new StringReader(model), "MultiCountry.fb");
+        assertFalse(report.isPresent());
+        assertTrue(errorMessages().get(0).startsWith("0xFC903"));
+    }
+
+    @Test
+    public void testFailedStreamWritesNothing() throws IOException {
+        // Every league is rendered before the site CoCos find the unknown country
+        String model = read(VALID_DIR + "MultiCountry.fb")
+                .replace("navigation { Germany; Spain; }", "navigation { Germany; Spain; Atlantis; }");
+        MemoryOutputSink sink = new MemoryOutputSink();
+        try (OutputSink.Page page = sink.open("index.html")) {
+            page.writer().write("previous run");
+            page.publish();
+        }
+        Optional<GenerationReport> report =
+                new StreamingSiteRun(new FootballSiteGenerator(sink, 3))
+                        .run(new StringReader(model), "MultiCountry.fb");
+        assertFalse(report.isPresent());
+        assertFalse(errorMessages().isEmpty());
+        assertEquals(Collections.singleton("index.html"), sink.getPaths());
+        assertEquals("previous run", sink.getPage("index.html"));
+    }
+
+    @Test
+    public void testStreamedMatchesReachSiteWideCoCos() throws IOException {
+        // Bayern München also plays in the Zweiteliga on the day of its Bundesliga match
+        String model = read(VALID_DIR + "MultiCountry.fb")
+                .replace("\"2025-08-30\"", "\"2025-08-23\"")
+                .replace("\"Hertha BSC\"           (\"Berlin\")",
+                        "\"Bayern München\"       (\"Munich\")");
+        Path file = tempDir.newFile("SameDay.fb").toPath();
+        Files.write(file, model.getBytes(StandardCharsets.UTF_8));
+        String path = file.toString();
+        FootballSiteCoCos.createChecker().checkAll(
+                new FootballSiteParser().parseFootballSite(path).get());
+        List<String> expected = errorMessages();
+        assertEquals(expected.toString(), 1, expected.size());
+        assertTrue(expected.get(0), expected.get(0).startsWith("0xFC029"));
+
+        MemoryOutputSink sink = new MemoryOutputSink();
+        Optional<GenerationReport> report =
+                new StreamingSiteRun(new FootballSiteGenerator(sink, 3))
+                        .run(new StringReader(model), path);
+        assertFalse(report.isPresent());
+        assertEquals(expected, errorMessages());
+        assertTrue(sink.getPaths().isEmpty());
+    }
+
+    @Test
+    public void testFinishedStreamLeavesNoStagedPages() throws IOException {
+        String path = VALID_DIR + "MultiCountry.fb";
+        MemoryOutputSink batch = new MemoryOutputSink();
+        new FootballSiteGenerator(batch, 1).generate(
+                new FootballSiteParser().parseFootballSite(path).get());
+
+        Path out = tempDir.newFolder("site").toPath();
+        Optional<GenerationReport> report =
+                new StreamingSiteRun(new FootballSiteGenerator(new FileSystemOutputSink(out), 3))
+                        .run(new StringReader(read(path)), path);
+        assertTrue(report.isPresent());
+        try (Stream<Path> files = Files.walk(out)) {
+            assertEquals(batch.getPaths(), files.filter(Files::isRegularFile)
+                    .map(f -> out.relativize(f).toString().replace('\\', '/'))
+                    .collect(Collectors.toCollection(TreeSet::new)));
+        }
+    }
+}